@@ -0,0 +1,134 @@
+package com.github.sanctum.panther.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compile-time generated accessor for the annotated methods declared by a single class.
+ * <p>
+ * Implementations are generated by the {@link com.github.sanctum.panther.annotation.processing.DispatcherProcessor}
+ * and registered as {@link java.util.ServiceLoader} services, allowing annotated methods to be called directly
+ * instead of being discovered and invoked through reflection.
+ *
+ * @param <T> the type of object dispatched to.
+ * @since 1.0.0
+ */
+public interface Dispatcher<T> {
+
+	/**
+	 * @return the class whose declared methods this dispatcher calls.
+	 */
+	@NotNull Class<T> getType();
+
+	/**
+	 * @return every annotated method declared by the type, the position of a handle equals its index.
+	 */
+	@NotNull Handle[] getHandles();
+
+	/**
+	 * Call the method of a handle.
+	 *
+	 * @param instance  the instance to call the method on or null if the method is static.
+	 * @param index     the index of the handle.
+	 * @param arguments the arguments to pass, their count and types must match the method.
+	 * @return the result of the method or null if it returns nothing.
+	 * @throws Throwable anything thrown by the method itself.
+	 */
+	@Nullable Object invoke(@Nullable T instance, int index, Object... arguments) throws Throwable;
+
+	/**
+	 * Get the generated dispatcher of a class.
+	 *
+	 * @param type the class to look up.
+	 * @param <T>  the type of class.
+	 * @return the dispatcher or null if none was generated for it.
+	 */
+	static @Nullable <T> Dispatcher<T> of(@NotNull Class<T> type) {
+		return DispatcherIndex.get(type);
+	}
+
+	/**
+	 * Describes a single annotated method.
+	 */
+	final class Handle {
+
+		private final int index;
+		private final String name;
+		private final int modifiers;
+		private final Class<?> returnType;
+		private final Class<?>[] parameterTypes;
+		private final Map<String, Map<String, Object>> annotations = new HashMap<>();
+
+		public Handle(int index, @NotNull String name, int modifiers, @NotNull Class<?> returnType, @NotNull Class<?>... parameterTypes) {
+			this.index = index;
+			this.name = name;
+			this.modifiers = modifiers;
+			this.returnType = returnType;
+			this.parameterTypes = parameterTypes;
+		}
+
+		/**
+		 * Record an annotation present on this method, only meant to be used by generated code.
+		 *
+		 * @param type       the binary name of the annotation type.
+		 * @param attributes alternating attribute names and values, defaults included.
+		 * @return this handle.
+		 */
+		public @NotNull Handle annotate(@NotNull String type, Object... attributes) {
+			if (attributes.length % 2 != 0) throw new IllegalArgumentException("Attributes must be provided as name value pairs!");
+			Map<String, Object> map = new HashMap<>();
+			for (int i = 0; i < attributes.length; i += 2) {
+				map.put((String) attributes[i], attributes[i + 1]);
+			}
+			annotations.put(type, Collections.unmodifiableMap(map));
+			return this;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public @NotNull String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the modifiers of the method as understood by {@link java.lang.reflect.Modifier}.
+		 */
+		public int getModifiers() {
+			return modifiers;
+		}
+
+		public @NotNull Class<?> getReturnType() {
+			return returnType;
+		}
+
+		public @NotNull Class<?>[] getParameterTypes() {
+			return parameterTypes.clone();
+		}
+
+		public int getParameterCount() {
+			return parameterTypes.length;
+		}
+
+		public boolean isAnnotationPresent(@NotNull Class<? extends Annotation> type) {
+			return annotations.containsKey(type.getName());
+		}
+
+		/**
+		 * Get the attributes of an annotation present on this method.
+		 *
+		 * @param type the annotation type.
+		 * @return the attribute values by name or null if the annotation isn't present.
+		 */
+		public @Nullable Map<String, Object> getAttributes(@NotNull Class<? extends Annotation> type) {
+			return annotations.get(type.getName());
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.github.sanctum.panther.annotation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the generated {@link Dispatcher} of a class.
+ * <p>
+ * Registered services are listed once per class loader, only remembering class names so that no loader is kept alive.
+ * Resolutions are then stored alongside the class itself.
+ */
+final class DispatcherIndex {
+
+	private static final Map<ClassLoader, Map<String, String>> LOADERS = new WeakHashMap<>();
+	private static final ClassValue<Dispatcher<?>[]> DISPATCHERS = new ClassValue<Dispatcher<?>[]>() {
+		@Override
+		protected Dispatcher<?>[] computeValue(Class<?> type) {
+			return new Dispatcher<?>[]{find(type)};
+		}
+	};
+
+	private DispatcherIndex() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static @Nullable <T> Dispatcher<T> get(@NotNull Class<T> type) {
+		return (Dispatcher<T>) DISPATCHERS.get(type)[0];
+	}
+
+	private static Dispatcher<?> find(Class<?> type) {
+		ClassLoader loader = type.getClassLoader();
+		if (loader == null) return null;
+		String name = index(loader).get(type.getName());
+		if (name == null) return null;
+		try {
+			Dispatcher<?> dispatcher = (Dispatcher<?>) Class.forName(name, true, loader).newInstance();
+			// another loader may have provided a dispatcher for an equally named class.
+			return dispatcher.getType() == type ? dispatcher : null;
+		} catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+			return null;
+		}
+	}
+
+	private static Map<String, String> index(ClassLoader loader) {
+		synchronized (LOADERS) {
+			Map<String, String> index = LOADERS.get(loader);
+			if (index == null) {
+				index = new HashMap<>();
+				Iterator<?> iterator = ServiceLoader.load(Dispatcher.class, loader).iterator();
+				int failures = 0;
+				while (failures < 64) {
+					try {
+						if (!iterator.hasNext()) break;
+						Dispatcher<?> dispatcher = (Dispatcher<?>) iterator.next();
+						index.put(dispatcher.getType().getName(), dispatcher.getClass().getName());
+					} catch (ServiceConfigurationError | LinkageError e) {
+						// a stale or broken entry, its class falls back to reflection.
+						failures++;
+					}
+				}
+				index = index.isEmpty() ? Collections.emptyMap() : index;
+				LOADERS.put(loader, index);
+			}
+			return index;
+		}
+	}
+
+}
@@ -0,0 +1,366 @@
+package com.github.sanctum.panther.annotation.processing;
+
+import com.github.sanctum.panther.annotation.Dispatcher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link Dispatcher} for every class declaring methods annotated with
+ * {@link com.github.sanctum.panther.annotation.Ordinal}, {@code Subscribe} or {@code Extend}
+ * and registers them as services, letting the library call those methods without reflection.
+ * <p>
+ * Classes with annotated methods generated code can't access (private methods or types) are skipped
+ * and keep being handled reflectively.
+ * <p>
+ * Enable it by adding this module to the annotation processor path, e.g. {@code annotationProcessor(...)} with gradle.
+ */
+public final class DispatcherProcessor extends AbstractProcessor {
+
+	static final String ORDINAL = "com.github.sanctum.panther.annotation.Ordinal";
+	static final String SUBSCRIBE = "com.github.sanctum.panther.event.Subscribe";
+	static final String EXTEND = "com.github.sanctum.panther.event.Extend";
+	static final String DISABLED = "com.github.sanctum.panther.event.Vent.Disabled";
+	static final String SUFFIX = "_PantherDispatcher";
+	static final String SERVICE = "META-INF/services/" + Dispatcher.class.getName();
+
+	private final Set<String> services = new TreeSet<>();
+	private final Set<String> deferred = new LinkedHashSet<>();
+	private final List<Element> originating = new ArrayList<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return new HashSet<>(Arrays.asList(ORDINAL, SUBSCRIBE, EXTEND));
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		if (round.processingOver()) {
+			writeServices();
+			return false;
+		}
+		Set<TypeElement> types = new LinkedHashSet<>();
+		for (String name : deferred) {
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+			if (type != null) types.add(type);
+		}
+		deferred.clear();
+		for (TypeElement annotation : annotations) {
+			for (Element element : round.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.METHOD && element.getEnclosingElement() instanceof TypeElement) {
+					types.add((TypeElement) element.getEnclosingElement());
+				}
+			}
+		}
+		for (TypeElement type : types) {
+			try {
+				generate(type);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate dispatcher: " + e.getMessage(), type);
+			}
+		}
+		// never claim the annotations, other processors may be interested in them too.
+		return false;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		if (!isDispatchable(type)) return;
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+		Map<ExecutableElement, List<AnnotationMirror>> methods = new LinkedHashMap<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			List<AnnotationMirror> recorded = new ArrayList<>();
+			for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+				if (isRecorded(mirror)) recorded.add(mirror);
+			}
+			if (recorded.isEmpty()) continue;
+			if (hasErrors(method)) {
+				// depends on sources yet to be generated by another processor, retry next round.
+				deferred.add(type.getQualifiedName().toString());
+				return;
+			}
+			if (method.getModifiers().contains(Modifier.PRIVATE) || !isAccessible(method.getReturnType(), pkg) || !parametersAccessible(method, pkg)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not generating a dispatcher, method is inaccessible: " + method.getSimpleName(), method);
+				return;
+			}
+			methods.put(method, recorded);
+		}
+		if (methods.isEmpty()) return;
+		String typeName = erasure(type.asType());
+		String simpleName = dispatcherName(type);
+		StringBuilder handles = new StringBuilder();
+		StringBuilder cases = new StringBuilder();
+		int index = 0;
+		for (Map.Entry<ExecutableElement, List<AnnotationMirror>> entry : methods.entrySet()) {
+			ExecutableElement method = entry.getKey();
+			StringBuilder handle = new StringBuilder();
+			handle.append("\t\tnew Handle(").append(index).append(", \"").append(method.getSimpleName()).append("\", ")
+					.append(modifiers(method.getModifiers())).append(", ").append(erasure(method.getReturnType())).append(".class");
+			for (VariableElement parameter : method.getParameters()) {
+				handle.append(", ").append(erasure(parameter.asType())).append(".class");
+			}
+			handle.append(')');
+			for (AnnotationMirror mirror : entry.getValue()) {
+				String annotation = annotate(mirror);
+				if (annotation == null) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not generating a dispatcher, unsupported annotation value on " + method.getSimpleName(), method);
+					return;
+				}
+				handle.append("\n\t\t\t\t.annotate(").append(annotation).append(')');
+			}
+			if (handles.length() > 0) handles.append(",\n");
+			handles.append(handle);
+			cases.append("\t\t\tcase ").append(index).append(":\n\t\t\t\t");
+			boolean returns = method.getReturnType().getKind() != TypeKind.VOID;
+			if (returns) cases.append("return ");
+			cases.append(method.getModifiers().contains(Modifier.STATIC) ? typeName : "instance").append('.').append(method.getSimpleName()).append('(');
+			List<? extends VariableElement> parameters = method.getParameters();
+			for (int i = 0; i < parameters.size(); i++) {
+				if (i > 0) cases.append(", ");
+				cases.append('(').append(boxed(parameters.get(i).asType())).append(") arguments[").append(i).append(']');
+			}
+			cases.append(");\n");
+			if (!returns) cases.append("\t\t\t\treturn null;\n");
+			index++;
+		}
+		String qualifiedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			if (!pkg.isUnnamed()) {
+				writer.write("package " + pkg.getQualifiedName() + ";\n\n");
+			}
+			writer.write("/**\n * Generated by " + DispatcherProcessor.class.getSimpleName() + " for {@link " + typeName + "}, do not edit.\n */\n");
+			writer.write("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+			writer.write("public final class " + simpleName + " implements " + Dispatcher.class.getCanonicalName() + "<" + typeName + "> {\n\n");
+			writer.write("\tprivate static final Handle[] HANDLES = {\n" + handles + "\n\t};\n\n");
+			writer.write("\t@Override\n\tpublic Class<" + typeName + "> getType() {\n\t\treturn " + typeName + ".class;\n\t}\n\n");
+			writer.write("\t@Override\n\tpublic Handle[] getHandles() {\n\t\treturn HANDLES.clone();\n\t}\n\n");
+			writer.write("\t@Override\n\tpublic Object invoke(" + typeName + " instance, int index, Object... arguments) throws Throwable {\n");
+			writer.write("\t\tswitch (index) {\n" + cases + "\t\t\tdefault:\n\t\t\t\tthrow new IndexOutOfBoundsException(\"No handle at index \" + index);\n\t\t}\n\t}\n\n}\n");
+		}
+		services.add(qualifiedName);
+		originating.add(type);
+	}
+
+	private void writeServices() {
+		if (services.isEmpty()) return;
+		try {
+			// keep entries of an earlier, incremental, compilation.
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#")) services.add(line);
+				}
+			}
+		} catch (IOException | IllegalArgumentException ignored) {
+			// nothing generated before.
+		}
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE, originating.toArray(new Element[0]));
+			try (Writer writer = file.openWriter()) {
+				for (String service : services) {
+					writer.write(service);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register dispatchers: " + e.getMessage());
+		}
+	}
+
+	private boolean isDispatchable(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.ENUM) return false;
+		Element element = type;
+		while (element instanceof TypeElement) {
+			TypeElement t = (TypeElement) element;
+			if (t.getNestingKind() != NestingKind.TOP_LEVEL && t.getNestingKind() != NestingKind.MEMBER) return false;
+			if (t.getModifiers().contains(Modifier.PRIVATE)) return false;
+			element = t.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private boolean isRecorded(AnnotationMirror mirror) {
+		String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+		return name.equals(ORDINAL) || name.equals(SUBSCRIBE) || name.equals(EXTEND) || name.equals(DISABLED);
+	}
+
+	private boolean hasErrors(ExecutableElement method) {
+		if (method.getReturnType().getKind() == TypeKind.ERROR) return true;
+		for (VariableElement parameter : method.getParameters()) {
+			if (parameter.asType().getKind() == TypeKind.ERROR) return true;
+		}
+		return false;
+	}
+
+	private boolean parametersAccessible(ExecutableElement method, PackageElement from) {
+		for (VariableElement parameter : method.getParameters()) {
+			if (!isAccessible(parameter.asType(), from)) return false;
+		}
+		return true;
+	}
+
+	private boolean isAccessible(TypeMirror mirror, PackageElement from) {
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(mirror);
+		if (erased.getKind() == TypeKind.ARRAY) {
+			return isAccessible(((ArrayType) erased).getComponentType(), from);
+		}
+		if (erased.getKind() != TypeKind.DECLARED) return true;
+		Element element = ((DeclaredType) erased).asElement();
+		while (element instanceof TypeElement) {
+			Set<Modifier> modifiers = element.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE)) return false;
+			if (!modifiers.contains(Modifier.PUBLIC) && !processingEnv.getElementUtils().getPackageOf(element).equals(from)) return false;
+			element = element.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private String erasure(TypeMirror mirror) {
+		return processingEnv.getTypeUtils().erasure(mirror).toString();
+	}
+
+	private String boxed(TypeMirror mirror) {
+		if (mirror.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) mirror).getQualifiedName().toString();
+		}
+		return erasure(mirror);
+	}
+
+	/**
+	 * Nested types are flattened, Outer.Inner becomes Outer_Inner_PantherDispatcher.
+	 */
+	private String dispatcherName(TypeElement type) {
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		Element element = type.getEnclosingElement();
+		while (element instanceof TypeElement) {
+			name.insert(0, element.getSimpleName() + "_");
+			element = element.getEnclosingElement();
+		}
+		return name.append(SUFFIX).toString();
+	}
+
+	private String modifiers(Set<Modifier> modifiers) {
+		int result = 0;
+		for (Modifier modifier : modifiers) {
+			switch (modifier) {
+				case PUBLIC:
+					result |= java.lang.reflect.Modifier.PUBLIC;
+					break;
+				case PROTECTED:
+					result |= java.lang.reflect.Modifier.PROTECTED;
+					break;
+				case STATIC:
+					result |= java.lang.reflect.Modifier.STATIC;
+					break;
+				case FINAL:
+					result |= java.lang.reflect.Modifier.FINAL;
+					break;
+				case SYNCHRONIZED:
+					result |= java.lang.reflect.Modifier.SYNCHRONIZED;
+					break;
+				case ABSTRACT:
+					result |= java.lang.reflect.Modifier.ABSTRACT;
+					break;
+				default:
+					break;
+			}
+		}
+		return "0x" + Integer.toHexString(result);
+	}
+
+	/**
+	 * @return the arguments of a {@link Dispatcher.Handle#annotate(String, Object...)} call or null if a value can't be expressed.
+	 */
+	private String annotate(AnnotationMirror mirror) {
+		TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+		StringBuilder builder = new StringBuilder("\"").append(processingEnv.getElementUtils().getBinaryName(annotation)).append('"');
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			String value = entry.getValue().accept(new ValueWriter(), entry.getKey().getReturnType());
+			if (value == null) return null;
+			builder.append(", \"").append(entry.getKey().getSimpleName()).append("\", ").append(value);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes annotation values as java expressions, nested annotations aren't supported.
+	 */
+	final class ValueWriter extends SimpleAnnotationValueVisitor8<String, TypeMirror> {
+
+		@Override
+		protected String defaultAction(Object o, TypeMirror type) {
+			return processingEnv.getElementUtils().getConstantExpression(o);
+		}
+
+		@Override
+		public String visitType(TypeMirror t, TypeMirror type) {
+			return erasure(t) + ".class";
+		}
+
+		@Override
+		public String visitEnumConstant(VariableElement c, TypeMirror type) {
+			return ((TypeElement) c.getEnclosingElement()).getQualifiedName() + "." + c.getSimpleName();
+		}
+
+		@Override
+		public String visitAnnotation(AnnotationMirror a, TypeMirror type) {
+			return null;
+		}
+
+		@Override
+		public String visitArray(List<? extends AnnotationValue> values, TypeMirror type) {
+			TypeMirror component = ((ArrayType) type).getComponentType();
+			StringBuilder builder = new StringBuilder("new ").append(erasure(component)).append("[]{");
+			for (int i = 0; i < values.size(); i++) {
+				String value = values.get(i).accept(this, component);
+				if (value == null) return null;
+				if (i > 0) builder.append(", ");
+				builder.append(value);
+			}
+			return builder.append('}').toString();
+		}
+
+	}
+
+}
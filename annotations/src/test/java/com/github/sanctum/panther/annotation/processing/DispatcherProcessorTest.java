@@ -0,0 +1,106 @@
+package com.github.sanctum.panther.annotation.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.sanctum.panther.annotation.Dispatcher;
+import com.github.sanctum.panther.annotation.Ordinal;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DispatcherProcessorTest {
+
+	@TempDir
+	File folder;
+
+	/**
+	 * Compile the given sources with the processor and load the results in their own class loader.
+	 */
+	URLClassLoader compile(String... sources) throws IOException {
+		File source = new File(folder, "src"), output = new File(folder, "out");
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < sources.length; i += 2) {
+			File file = new File(source, sources[i]);
+			Files.createDirectories(file.getParentFile().toPath());
+			Files.write(file.toPath(), sources[i + 1].getBytes(StandardCharsets.UTF_8));
+			files.add(file);
+		}
+		Files.createDirectories(output.toPath());
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StringWriter diagnostics = new StringWriter();
+		try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", output.getPath(),
+					"-processor", DispatcherProcessor.class.getName());
+			assertTrue(compiler.getTask(diagnostics, manager, null, options, null, manager.getJavaFileObjectsFromFiles(files)).call(), diagnostics::toString);
+		}
+		return new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+	}
+
+	@Test
+	void generatedDispatcherCallsTheAnnotatedMethods() throws Throwable {
+		try (URLClassLoader loader = compile("sample/Sample.java", "package sample;\n"
+				+ "import com.github.sanctum.panther.annotation.Ordinal;\n"
+				+ "public class Sample {\n"
+				+ "\tpublic final java.util.List<String> calls = new java.util.ArrayList<>();\n"
+				+ "\t@Ordinal(2) public String greet(String name) { calls.add(name); return \"hello \" + name; }\n"
+				+ "\t@Ordinal void record(int i, String... names) { calls.add(i + \":\" + names.length); }\n"
+				+ "\t@Ordinal public static long twice(long l) { return l * 2; }\n"
+				+ "\tpublic void ignored() { }\n"
+				+ "}\n")) {
+			Class<?> type = loader.loadClass("sample.Sample");
+			@SuppressWarnings("unchecked")
+			Dispatcher<Object> dispatcher = (Dispatcher<Object>) Dispatcher.of(type);
+			assertNotNull(dispatcher);
+			assertEquals(type, dispatcher.getType());
+
+			Dispatcher.Handle[] handles = dispatcher.getHandles();
+			assertEquals(3, handles.length);
+			assertEquals("greet", handles[0].getName());
+			assertEquals(String.class, handles[0].getReturnType());
+			Map<String, Object> attributes = handles[0].getAttributes(Ordinal.class);
+			assertNotNull(attributes);
+			assertEquals(2, attributes.get("value"));
+			assertEquals(0, handles[1].getAttributes(Ordinal.class).get("value"));
+			assertEquals(Arrays.asList(int.class, String[].class), Arrays.asList(handles[1].getParameterTypes()));
+			assertTrue(java.lang.reflect.Modifier.isStatic(handles[2].getModifiers()));
+
+			Object instance = type.newInstance();
+			assertEquals("hello panther", dispatcher.invoke(instance, 0, "panther"));
+			assertNull(dispatcher.invoke(instance, 1, 3, new String[]{"a", "b"}));
+			assertEquals(42L, dispatcher.invoke(null, 2, 21L));
+			assertEquals(Arrays.asList("panther", "3:2"), type.getField("calls").get(instance));
+		}
+	}
+
+	@Test
+	void classesWithPrivateAnnotatedMethodsAreLeftToReflection() throws Exception {
+		try (URLClassLoader loader = compile("sample/Hidden.java", "package sample;\n"
+				+ "import com.github.sanctum.panther.annotation.Ordinal;\n"
+				+ "public class Hidden {\n"
+				+ "\t@Ordinal public void visible() { }\n"
+				+ "\t@Ordinal private void hidden() { }\n"
+				+ "}\n")) {
+			Class<?> type = loader.loadClass("sample.Hidden");
+			assertNull(Dispatcher.of(type));
+			assertFalse(new File(folder, "out/sample/Hidden" + DispatcherProcessor.SUFFIX + ".class").exists());
+		}
+	}
+
+}
@@ -22,7 +22,7 @@ tasks.withType<com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar> {
     // httpclient5:5.1.3
     relocate("org.apache.hc.client5", "$relocationPackage.httpclient5")
     relocate("mozilla", "$relocationPackage.httpclient5.mozilla")
-    // httpclient5 ->depends httpcore5:5.1.3
+    // httpclient5 ->depends httpcore5:5.1.3 and httpcore5-h2:5.1.3
     relocate("org.apache.hc.core5", "$relocationPackage.httpclient5_httpcore5")
     // httpclient5 ->depends commons-codec:1.15
     relocate("org.apache.commons.codec", "$relocationPackage.httpclient5_commons_codec")
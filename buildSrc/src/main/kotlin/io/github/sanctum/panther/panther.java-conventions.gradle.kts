@@ -33,6 +33,23 @@ tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
-tasks.withType<Test> {
-    useJUnitPlatform()
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// timing runs, too slow and machine dependent for every build
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks of the test suite."
+    group = "verification"
+    val test = the<SourceSetContainer>()["test"]
+    testClassesDirs = test.output.classesDirs
+    classpath = test.runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
 }
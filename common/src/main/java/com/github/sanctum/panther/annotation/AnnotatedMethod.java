@@ -0,0 +1,301 @@
+package com.github.sanctum.panther.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An annotated method declared by a class.
+ * <p>
+ * Methods are called directly through the class's generated {@link Dispatcher} when one exists,
+ * otherwise they fall back to reflection. The declared methods of a class are only looked up once.
+ */
+public abstract class AnnotatedMethod {
+
+    private static final ClassValue<List<AnnotatedMethod>> METHODS = new ClassValue<List<AnnotatedMethod>>() {
+        @Override
+        protected List<AnnotatedMethod> computeValue(Class<?> type) {
+            Dispatcher<?> dispatcher = Dispatcher.of(type);
+            List<AnnotatedMethod> list = new ArrayList<>();
+            if (dispatcher != null) {
+                for (Dispatcher.Handle handle : dispatcher.getHandles()) {
+                    list.add(new Generated(dispatcher, handle));
+                }
+            } else {
+                for (Method method : AnnotationMetadata.of(type).declared.all) {
+                    list.add(new Reflective(method));
+                }
+            }
+            return Collections.unmodifiableList(list);
+        }
+    };
+
+    AnnotatedMethod() {
+    }
+
+    /**
+     * Get all annotated methods declared by a class.
+     *
+     * @param type the class to read.
+     * @return an unmodifiable list of annotated methods.
+     */
+    public static @NotNull List<AnnotatedMethod> of(@NotNull Class<?> type) {
+        return METHODS.get(type);
+    }
+
+    /**
+     * Get all methods declared by a class carrying a specific annotation.
+     *
+     * @param type       the class to read.
+     * @param annotation the annotation to look for.
+     * @return a new list of annotated methods.
+     */
+    public static @NotNull List<AnnotatedMethod> of(@NotNull Class<?> type, @NotNull Class<? extends Annotation> annotation) {
+        List<AnnotatedMethod> list = new ArrayList<>();
+        for (AnnotatedMethod method : of(type)) {
+            if (method.isAnnotationPresent(annotation)) list.add(method);
+        }
+        return list;
+    }
+
+    public abstract @NotNull String getName();
+
+    /**
+     * @return the modifiers of this method as understood by {@link java.lang.reflect.Modifier}.
+     */
+    public abstract int getModifiers();
+
+    public abstract @NotNull Class<?> getReturnType();
+
+    public abstract @NotNull Class<?>[] getParameterTypes();
+
+    public abstract int getParameterCount();
+
+    public abstract boolean isAnnotationPresent(@NotNull Class<? extends Annotation> type);
+
+    public abstract @Nullable <A extends Annotation> A getAnnotation(@NotNull Class<A> type);
+
+    /**
+     * Call this method, following the contract of {@link Method#invoke(Object, Object...)}.
+     *
+     * @param instance  the object to call the method on, ignored for static methods.
+     * @param arguments the arguments to pass.
+     * @return the result of the method or null if it returns nothing.
+     * @throws IllegalAccessException    if the method is inaccessible.
+     * @throws InvocationTargetException wrapping anything thrown by the method itself.
+     */
+    public abstract @Nullable Object invoke(@Nullable Object instance, Object... arguments) throws IllegalAccessException, InvocationTargetException;
+
+    /**
+     * @return true if this method is called through generated code.
+     */
+    public abstract boolean isGenerated();
+
+    static final class Reflective extends AnnotatedMethod {
+
+        private final Method method;
+
+        Reflective(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public @NotNull String getName() {
+            return method.getName();
+        }
+
+        @Override
+        public int getModifiers() {
+            return method.getModifiers();
+        }
+
+        @Override
+        public @NotNull Class<?> getReturnType() {
+            return method.getReturnType();
+        }
+
+        @Override
+        public @NotNull Class<?>[] getParameterTypes() {
+            return method.getParameterTypes();
+        }
+
+        @Override
+        public int getParameterCount() {
+            return method.getParameterCount();
+        }
+
+        @Override
+        public boolean isAnnotationPresent(@NotNull Class<? extends Annotation> type) {
+            return method.isAnnotationPresent(type);
+        }
+
+        @Override
+        public <A extends Annotation> A getAnnotation(@NotNull Class<A> type) {
+            return method.getAnnotation(type);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object... arguments) throws IllegalAccessException, InvocationTargetException {
+            return method.invoke(instance, arguments);
+        }
+
+        @Override
+        public boolean isGenerated() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return method.toString();
+        }
+
+    }
+
+    static final class Generated extends AnnotatedMethod {
+
+        private final Dispatcher<Object> dispatcher;
+        private final Dispatcher.Handle handle;
+        private final Class<?>[] parameterTypes;
+        private final Map<Class<?>, Annotation> annotations = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        Generated(Dispatcher<?> dispatcher, Dispatcher.Handle handle) {
+            this.dispatcher = (Dispatcher<Object>) dispatcher;
+            this.handle = handle;
+            this.parameterTypes = handle.getParameterTypes();
+        }
+
+        @Override
+        public @NotNull String getName() {
+            return handle.getName();
+        }
+
+        @Override
+        public int getModifiers() {
+            return handle.getModifiers();
+        }
+
+        @Override
+        public @NotNull Class<?> getReturnType() {
+            return handle.getReturnType();
+        }
+
+        @Override
+        public @NotNull Class<?>[] getParameterTypes() {
+            return parameterTypes.clone();
+        }
+
+        @Override
+        public int getParameterCount() {
+            return parameterTypes.length;
+        }
+
+        @Override
+        public boolean isAnnotationPresent(@NotNull Class<? extends Annotation> type) {
+            return handle.isAnnotationPresent(type);
+        }
+
+        @Override
+        public <A extends Annotation> A getAnnotation(@NotNull Class<A> type) {
+            Map<String, Object> attributes = handle.getAttributes(type);
+            if (attributes == null) return null;
+            return type.cast(annotations.computeIfAbsent(type, t -> synthesize(type, attributes)));
+        }
+
+        @Override
+        public Object invoke(Object instance, Object... arguments) throws InvocationTargetException {
+            if (arguments == null) arguments = new Object[0];
+            if (arguments.length != parameterTypes.length) {
+                throw new IllegalArgumentException("wrong number of arguments");
+            }
+            if (instance != null && !dispatcher.getType().isInstance(instance)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+            try {
+                return dispatcher.invoke(instance, handle.getIndex(), arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        public boolean isGenerated() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return dispatcher.getType().getName() + "." + handle.getName() + Arrays.toString(parameterTypes);
+        }
+
+        /**
+         * Materialize the recorded attributes of an annotation as an instance of it.
+         * <p>
+         * Equality and hash code follow the contract of {@link Annotation}, so the result is interchangeable
+         * with the instance the jdk would have returned for the same element.
+         */
+        static Annotation synthesize(Class<? extends Annotation> type, Map<String, Object> attributes) {
+            return (Annotation) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "annotationType":
+                        return type;
+                    case "toString":
+                        return "@" + type.getName() + attributes;
+                    case "hashCode":
+                        return hashCode(type, attributes);
+                    case "equals":
+                        return proxy == args[0] || equals(type, attributes, args[0]);
+                    default:
+                        Object value = value(method, attributes);
+                        if (value != null && value.getClass().isArray() && Array.getLength(value) > 0) {
+                            // arrays are mutable, hand out copies like the jdk does.
+                            Object copy = Array.newInstance(value.getClass().getComponentType(), Array.getLength(value));
+                            System.arraycopy(value, 0, copy, 0, Array.getLength(value));
+                            return copy;
+                        }
+                        return value;
+                }
+            });
+        }
+
+        private static Object value(Method member, Map<String, Object> attributes) {
+            return attributes.containsKey(member.getName()) ? attributes.get(member.getName()) : member.getDefaultValue();
+        }
+
+        private static int hashCode(Class<? extends Annotation> type, Map<String, Object> attributes) {
+            int hash = 0;
+            for (Method member : type.getDeclaredMethods()) {
+                // Arrays.deepHashCode of a single element array is 31 + the hash code of that element.
+                hash += (127 * member.getName().hashCode()) ^ (Arrays.deepHashCode(new Object[]{value(member, attributes)}) - 31);
+            }
+            return hash;
+        }
+
+        private static boolean equals(Class<? extends Annotation> type, Map<String, Object> attributes, Object other) {
+            if (!type.isInstance(other)) return false;
+            for (Method member : type.getDeclaredMethods()) {
+                Object theirs;
+                try {
+                    member.setAccessible(true);
+                    theirs = member.invoke(other);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    return false;
+                }
+                if (!Arrays.deepEquals(new Object[]{value(member, attributes)}, new Object[]{theirs})) return false;
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -27,44 +27,23 @@ public final class AnnotationDiscovery<T extends Annotation, R> implements Itera
     private final Class<T> annotation;
     private final R r;
     private final Class<R> rClass;
-    private Set<Method> methods = new HashSet<>();
+    private final AnnotationMetadata metadata;
+    private Set<Method> methods = new LinkedHashSet<>();
 
     AnnotationDiscovery(Class<T> annotation, R r) {
         this.annotation = annotation;
         this.r = r;
         this.rClass = (Class<R>) r.getClass();
-        int annotated = 0;
-
-        for (Method method : rClass.getDeclaredMethods()) {
-            try {
-                method.setAccessible(true);
-            } catch (Exception ignored) {
-            }
-            if (method.isAnnotationPresent(annotation)) {
-                annotated++;
-            }
-        }
-        this.count = annotated;
-
+        this.metadata = AnnotationMetadata.of(rClass);
+        this.count = metadata.declared.get(annotation).size();
     }
 
     AnnotationDiscovery(Class<T> annotation, Class<R> r) {
         this.annotation = annotation;
         this.r = null;
         this.rClass = r;
-        int annotated = 0;
-
-        for (Method method : rClass.getDeclaredMethods()) {
-            try {
-                method.setAccessible(true);
-            } catch (Exception ignored) {
-            }
-            if (method.isAnnotationPresent(annotation)) {
-                annotated++;
-            }
-        }
-        this.count = annotated;
-
+        this.metadata = AnnotationMetadata.of(rClass);
+        this.count = metadata.declared.get(annotation).size();
     }
 
     public static @NotNull <T extends Annotation, R> AnnotationDiscovery<T, R> of(@NotNull Class<T> c, @NotNull R listener) {
@@ -121,19 +100,10 @@ public final class AnnotationDiscovery<T extends Annotation, R> implements Itera
      * @return The same annotation discovery object.
      */
     public AnnotationDiscovery<T, R> filter(Predicate<? super Method> predicate, boolean hard) {
-        if (!hard) {
-            if (methods.isEmpty()) {
-                methods.addAll(Arrays.stream(this.rClass.getDeclaredMethods()).filter(m -> m.isAnnotationPresent(annotation) && predicate.test(m)).collect(Collectors.toList()));
-            }
-        } else {
-            if (methods.isEmpty()) {
-                methods.addAll(Arrays.stream(this.rClass.getDeclaredMethods()).filter(m -> {
-                    try {
-                        m.setAccessible(true);
-                    } catch (Exception ignored) {
-                    }
-                    return m.isAnnotationPresent(annotation) && predicate.test(m);
-                }).collect(Collectors.toList()));
+        // accessibility is already breached by the shared metadata wherever possible.
+        if (methods.isEmpty()) {
+            for (Method m : metadata.declared.get(annotation)) {
+                if (predicate.test(m)) methods.add(m);
             }
         }
         return this;
@@ -143,7 +113,7 @@ public final class AnnotationDiscovery<T extends Annotation, R> implements Itera
      * @return true if the desired annotation is present at all.
      */
     public boolean isPresent() {
-        return methods.isEmpty() ? this.rClass.isAnnotationPresent(annotation) : count > 0;
+        return methods.isEmpty() ? metadata.isClassAnnotated(annotation) : count > 0;
     }
 
     @Override
@@ -166,7 +136,7 @@ public final class AnnotationDiscovery<T extends Annotation, R> implements Itera
     public void forEachFilteredMethod(BiConsumer<? super T, Method> function) {
         if (isPresent()) {
             methods.forEach(m -> {
-                for (Annotation a : m.getAnnotations()) {
+                for (Annotation a : metadata.declared.annotations(m)) {
                     if (annotation.isAssignableFrom(a.annotationType())) {
                         function.accept((T) a, m);
                     }
@@ -222,7 +192,7 @@ public final class AnnotationDiscovery<T extends Annotation, R> implements Itera
      * @return A set of annotations only matching this discovery query.
      */
     public Set<T> read(Method m) {
-        return Arrays.stream(m.getAnnotations()).filter(a -> annotation.isAssignableFrom(a.getClass())).map(a -> (T) a).collect(Collectors.toSet());
+        return Arrays.stream(metadata.declared.annotations(m)).filter(a -> annotation.isAssignableFrom(a.getClass())).map(a -> (T) a).collect(Collectors.toSet());
     }
 
     /**
@@ -3,7 +3,6 @@ package com.github.sanctum.panther.annotation;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.Supplier;
@@ -12,44 +11,31 @@ import java.util.stream.Stream;
 
 class AnnotationMapImpl<T> implements AnnotationMap<T> {
 
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<Layout>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return new Layout(AnnotationMetadata.of(type));
+        }
+    };
+
     final T subject;
-    final Map<Class<?>, Node> annotationByType = new HashMap<>();
-    final Map<Method, Map<Class<? extends Annotation>, List<AnnotationEntryImpl<?>>>> annotationsByMethod = new HashMap<>();
+    final Map<Class<?>, Node> annotationByType;
+    final Map<Method, Map<Class<? extends Annotation>, List<AnnotationEntryImpl<?>>>> annotationsByMethod;
     final Map<Class<?>, List<AnnotationEntry<?>>> annotationFromClass;
-    final List<Method> allAnnotatedMethods = new LinkedList<>();
-
+    final List<Method> allAnnotatedMethods;
+    final AnnotationMetadata.Methods members;
 
     AnnotationMapImpl(T subject) {
         this.subject = subject;
-        for (Method method : subject.getClass().getMethods()) {
-            insert(method);
-        }
-        annotationFromClass = Arrays.stream(subject.getClass().getAnnotations())
-                .map(this::create)
-                .collect(Collectors.groupingBy(aD -> aD.getAnnotation().annotationType(), Collectors.toList()));
-    }
-
-    private <A extends Annotation> AnnotationEntry<A> create(A annotation) {
-        return new AnnotationEntryImpl<>(annotation, null, true);
+        // the layout only depends on the class, it is computed once and shared by every map of it.
+        Layout layout = LAYOUTS.get(subject.getClass());
+        this.annotationByType = layout.annotationByType;
+        this.annotationsByMethod = layout.annotationsByMethod;
+        this.annotationFromClass = layout.annotationFromClass;
+        this.allAnnotatedMethods = layout.members.all;
+        this.members = layout.members;
     }
 
-    private void insert(Method method) {
-        Annotation[] annotations = method.getAnnotations();
-        if (annotations.length == 0) {
-            return;
-        }
-        allAnnotatedMethods.add(method);
-        annotationsByMethod.put(method, Arrays.stream(annotations)
-                .map(a -> new AnnotationEntryImpl<>(a, method, method.isAccessible()))
-                .peek(a -> {
-                    Class<? extends Annotation> aclass = a.getAnnotation().getClass();
-                    Node node = annotationByType.computeIfAbsent(aclass, c -> new Node(aclass));
-                    node.data.add(a);
-                })
-                .collect(Collectors.groupingBy(a -> a.getAnnotation().annotationType(), Collectors.toList())));
-    }
-
-
     @Override
     public <A extends Annotation> Stream<Method> getAllAnnotatedMethods(Class<A> annotationClass, boolean accessibleOnly) {
         if (annotationClass == Annotation.class) {
@@ -69,7 +55,7 @@ class AnnotationMapImpl<T> implements AnnotationMap<T> {
     @Override
     public Stream<Method> getAllAnnotatedMethods(boolean accessibleOnly) {
         return accessibleOnly ?
-                allAnnotatedMethods.stream().filter(AccessibleObject::isAccessible) :
+                allAnnotatedMethods.stream().filter(members::isAccessible) :
                 allAnnotatedMethods.stream();
     }
 
@@ -101,9 +87,42 @@ class AnnotationMapImpl<T> implements AnnotationMap<T> {
         return new TypeViewImpl<>(annotationType, this);
     }
 
+    /**
+     * The immutable, per class, structure of an annotation map.
+     */
+    static final class Layout {
+
+        final Map<Class<?>, Node> annotationByType = new HashMap<>();
+        final Map<Method, Map<Class<? extends Annotation>, List<AnnotationEntryImpl<?>>>> annotationsByMethod = new HashMap<>();
+        final Map<Class<?>, List<AnnotationEntry<?>>> annotationFromClass = new HashMap<>();
+        final AnnotationMetadata.Methods members;
+
+        Layout(AnnotationMetadata metadata) {
+            this.members = metadata.members;
+            for (Method method : members.all) {
+                boolean accessible = members.isAccessible(method);
+                Map<Class<? extends Annotation>, List<AnnotationEntryImpl<?>>> byType = new HashMap<>();
+                for (Annotation a : members.annotations(method)) {
+                    AnnotationEntryImpl<?> entry = new AnnotationEntryImpl<>(a, method, accessible);
+                    annotationByType.computeIfAbsent(a.annotationType(), c -> new Node(a.annotationType())).data.add(entry);
+                    byType.computeIfAbsent(a.annotationType(), c -> new ArrayList<>()).add(entry);
+                }
+                annotationsByMethod.put(method, byType);
+            }
+            metadata.classAnnotations.forEach((type, list) -> {
+                List<AnnotationEntry<?>> entries = new ArrayList<>();
+                for (Annotation a : list) {
+                    entries.add(new AnnotationEntryImpl<>(a, null, true));
+                }
+                annotationFromClass.put(type, entries);
+            });
+        }
+
+    }
+
     static class Node implements Iterable<AnnotationEntryImpl<?>> {
 
-        final List<AnnotationEntryImpl<?>> data = new LinkedList<>();
+        final List<AnnotationEntryImpl<?>> data = new ArrayList<>();
         final Class<? extends Annotation> annotationType;
 
         Node(Class<? extends Annotation> annotationType) {
@@ -0,0 +1,117 @@
+package com.github.sanctum.panther.annotation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, once per class computed annotation metadata shared by every {@link AnnotationReader},
+ * {@link AnnotationMap} and {@link AnnotationDiscovery}.
+ * <p>
+ * Methods are grouped by annotation type and sorted by signature, accessibility is breached and resolved up front.
+ * Being stored through {@link ClassValue} the metadata lives and dies with its class, so classes of unloaded
+ * {@link com.github.sanctum.panther.util.AbstractClassLoader}s aren't kept alive.
+ */
+final class AnnotationMetadata {
+
+    private static final ClassValue<AnnotationMetadata> CACHE = new ClassValue<AnnotationMetadata>() {
+        @Override
+        protected AnnotationMetadata computeValue(Class<?> type) {
+            return new AnnotationMetadata(type);
+        }
+    };
+    private static final Comparator<Method> SIGNATURE = Comparator.comparing(Method::getName).thenComparing(Method::toGenericString);
+
+    final Map<Class<? extends Annotation>, List<Annotation>> classAnnotations;
+    final Methods declared;
+    final Methods members;
+
+    private AnnotationMetadata(Class<?> type) {
+        Map<Class<? extends Annotation>, List<Annotation>> map = new LinkedHashMap<>();
+        for (Annotation annotation : type.getAnnotations()) {
+            map.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>()).add(annotation);
+        }
+        map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        this.classAnnotations = Collections.unmodifiableMap(map);
+        this.declared = new Methods(type.getDeclaredMethods());
+        this.members = new Methods(type.getMethods());
+    }
+
+    static @NotNull AnnotationMetadata of(@NotNull Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    boolean isClassAnnotated(Class<? extends Annotation> annotation) {
+        return classAnnotations.containsKey(annotation);
+    }
+
+    /**
+     * The annotated methods of one lookup (declared or member), grouped by annotation type.
+     */
+    static final class Methods {
+
+        final List<Method> all;
+        final Map<Class<? extends Annotation>, List<Method>> byType;
+        private final Map<Method, Annotation[]> annotations = new IdentityHashMap<>();
+        private final Map<Method, Boolean> accessible = new IdentityHashMap<>();
+
+        Methods(Method[] methods) {
+            List<Method> list = new ArrayList<>();
+            Map<Class<? extends Annotation>, List<Method>> map = new HashMap<>();
+            for (Method method : methods) {
+                Annotation[] found = method.getAnnotations();
+                if (found.length == 0) continue;
+                boolean access;
+                try {
+                    method.setAccessible(true);
+                    access = true;
+                } catch (Exception e) {
+                    access = Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+                }
+                list.add(method);
+                annotations.put(method, found);
+                accessible.put(method, access);
+            }
+            list.sort(SIGNATURE);
+            for (Method method : list) {
+                for (Annotation annotation : annotations.get(method)) {
+                    List<Method> group = map.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>());
+                    // repeated annotations don't list a method twice.
+                    if (group.isEmpty() || group.get(group.size() - 1) != method) group.add(method);
+                }
+            }
+            map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            this.all = Collections.unmodifiableList(list);
+            this.byType = Collections.unmodifiableMap(map);
+        }
+
+        @NotNull List<Method> get(@NotNull Class<? extends Annotation> annotation) {
+            return byType.getOrDefault(annotation, Collections.emptyList());
+        }
+
+        /**
+         * @return the annotations of a method from this lookup, never modify the returned array.
+         */
+        @NotNull Annotation[] annotations(@NotNull Method method) {
+            Annotation[] found = annotations.get(method);
+            return found != null ? found : method.getAnnotations();
+        }
+
+        boolean isAccessible(@NotNull Method method) {
+            Boolean access = accessible.get(method);
+            return access != null ? access : method.isAccessible();
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ class AnnotationReaderImpl<A extends Annotation, S> implements AnnotationReader<
     private final Class<A> annotationType;
     private final S subject;
     private final Class<?> sClass;
+    private final AnnotationMetadata metadata;
     private Set<Method> methodBuffer;
     private Stream<Method> pipeline;
     boolean evaluated = true;
@@ -39,19 +40,10 @@ class AnnotationReaderImpl<A extends Annotation, S> implements AnnotationReader<
         this.sClass = sClass;
         this.subject = subject;
 
-        Set<Method> all = new HashSet<>();
-        for (Method method : sClass.getDeclaredMethods()) {
-            try {
-                method.setAccessible(true);
-            } catch (Exception ignored) {
-            }
-            if (method.isAnnotationPresent(this.annotationType)) {
-                all.add(method);
-            }
-        }
-        this.count = all.size();
-        allAnnotatedMethods = Collections.unmodifiableSet(all);
-        methodBuffer = new HashSet<>(allAnnotatedMethods);
+        this.metadata = AnnotationMetadata.of(sClass);
+        this.count = metadata.declared.get(annotationType).size();
+        allAnnotatedMethods = Collections.unmodifiableSet(new LinkedHashSet<>(metadata.declared.get(annotationType)));
+        methodBuffer = new LinkedHashSet<>(allAnnotatedMethods);
         pipeline = methodBuffer.stream();
     }
 
@@ -81,7 +73,7 @@ class AnnotationReaderImpl<A extends Annotation, S> implements AnnotationReader<
     }
 
     public void reset() {
-        methodBuffer = new HashSet<>(allAnnotatedMethods);
+        methodBuffer = new LinkedHashSet<>(allAnnotatedMethods);
         pipeline = methodBuffer.stream();
         comparator = null;
         evaluated = true;
@@ -108,7 +100,7 @@ class AnnotationReaderImpl<A extends Annotation, S> implements AnnotationReader<
 
     @Override
     public boolean isClassAnnotated() {
-        return sClass.isAnnotationPresent(annotationType);
+        return metadata.isClassAnnotated(annotationType);
     }
 
     @Override
@@ -126,7 +118,7 @@ class AnnotationReaderImpl<A extends Annotation, S> implements AnnotationReader<
     public void forEachFilteredMethod(BiConsumer<? super A, Method> function) {
         evaluate();
         methodBuffer.forEach(method -> {
-            for (Annotation annotation : method.getAnnotations()) {
+            for (Annotation annotation : metadata.declared.annotations(method)) {
                 if (annotationType.isAssignableFrom(annotation.annotationType())) {
                     function.accept(annotationType.cast(annotation), method);
                 }
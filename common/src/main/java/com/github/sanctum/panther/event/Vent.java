@@ -1,8 +1,8 @@
 package com.github.sanctum.panther.event;
 
+import com.github.sanctum.panther.annotation.AnnotatedMethod;
 import com.github.sanctum.panther.annotation.AnnotationDiscovery;
 import com.github.sanctum.panther.container.PantherCollection;
-import com.github.sanctum.panther.container.PantherList;
 import com.github.sanctum.panther.file.Configurable;
 import com.github.sanctum.panther.file.ConfigurableEditorQuery;
 import com.github.sanctum.panther.util.PantherLogger;
@@ -12,7 +12,6 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -357,8 +356,11 @@ public abstract class Vent {
 
 		private <E extends Vent> void notifyListeners(Link listener, Class<E> eventSuperClass,
 		                                              Priority priority) {
+			List<Link.Consumer<E>> handlers = listener.getHandlerList(eventSuperClass, priority);
+			if (handlers.isEmpty()) return;
 			E vent = eventSuperClass.cast(event);
-			listener.getHandlers(eventSuperClass, priority).forEachOrdered(e -> {
+			for (int i = 0; i < handlers.size(); i++) {
+				Link.Consumer<E> e = handlers.get(i);
 				if (vent.getState() == State.CANCELLABLE && !e.handlesCancelled()) {
 					if (!vent.isCancelled()) {
 						e.accept(vent, null);
@@ -368,12 +370,14 @@ public abstract class Vent {
 					e.accept(vent, null);
 					this.readOnlyEventCopy = event;
 				}
-			});
+			}
 
 		}
 
 		private <E extends Vent> void runReadOnly(Link listener, Class<E> eventSuperClass) {
-			listener.getHandlers(eventSuperClass, Priority.READ_ONLY).forEachOrdered(e -> {
+			List<Link.Consumer<E>> handlers = listener.getHandlerList(eventSuperClass, Priority.READ_ONLY);
+			for (int i = 0; i < handlers.size(); i++) {
+				Link.Consumer<E> e = handlers.get(i);
 				boolean cancelled = readOnlyEventCopy.isCancelled();
 				if (!cancelled || e.handlesCancelled()) {
 					e.accept(eventSuperClass.cast(readOnlyEventCopy), null);
@@ -381,7 +385,7 @@ public abstract class Vent {
 						readOnlyEventCopy.setCancelled(cancelled);
 					}
 				}
-			});
+			}
 		}
 
 		private void runSubscription(Subscription<? super T> subscription, T event) {
@@ -448,6 +452,7 @@ public abstract class Vent {
 	public static abstract class Link {
 
 		protected final Map<Class<? extends Vent>, Map<Priority, Set<Consumer<?>>>> eventMap = new HashMap<>();
+		private final Map<Class<? extends Vent>, Slot[]> slots = new HashMap<>();
 		protected final List<Subscription.Extender<?>> extenders = new LinkedList<>();
 		protected final Object listener;
 		protected final Host host;
@@ -481,42 +486,31 @@ public abstract class Vent {
 		 * Detects all annotated methods and converts them into SubscriberCall methods.
 		 */
 		private void buildEventHandlers() {
-			AnnotationDiscovery<Subscribe, ?> discovery = AnnotationDiscovery.of(Subscribe.class, listener);
-			AnnotationDiscovery<Disabled, ?> disabled = AnnotationDiscovery.of(Disabled.class, listener);
-			discovery.filter(m -> m.getParameters().length == 1 && Vent.class.isAssignableFrom(m.getParameters()[0].getType())
-					&& m.isAnnotationPresent(Subscribe.class) && Modifier.isPublic(m.getModifiers())).forEach(m -> {
-						Optional<Subscribe> subscribe = discovery.read(m).stream().findAny();
-				        Optional<Disabled> disable = disabled.read(m).stream().findAny();
-						@SuppressWarnings("unchecked")
-						Class<? extends Vent> mClass = (Class<? extends Vent>) m.getParameters()[0].getType();
-						if (subscribe.isPresent()) {
-							if (!disable.isPresent()) {
-								registerSubscription(m, mClass, subscribe.get());
-							}
-						} else {
-							PantherLogger.getInstance().getLogger().severe("Error registering " + m.getDeclaringClass() + "#" +
-									m.getName());
-						}
-					}
-
-			);
+			for (AnnotatedMethod m : AnnotatedMethod.of(listener.getClass(), Subscribe.class)) {
+				if (m.getParameterCount() == 1 && Vent.class.isAssignableFrom(m.getParameterTypes()[0])
+						&& Modifier.isPublic(m.getModifiers())) {
+					@SuppressWarnings("unchecked")
+					Class<? extends Vent> mClass = (Class<? extends Vent>) m.getParameterTypes()[0];
+					registerSubscription(m, mClass, m.getAnnotation(Subscribe.class), !m.isAnnotationPresent(Disabled.class));
+				}
+			}
+			for (Slot[] array : slots.values()) {
+				for (Slot slot : array) {
+					if (slot != null) slot.publish();
+				}
+			}
 		}
 
 		private void buildExtensions() {
-			AnnotationDiscovery<Extend, ?> discovery = AnnotationDiscovery.of(Extend.class, listener);
-			discovery.filter(m -> m.getParameters().length == 1 && m.isAnnotationPresent(Extend.class)
-					&& Modifier.isPublic(m.getModifiers())).forEach(m -> {
-				Optional<Extend> extend = discovery.read(m).stream().findAny();
-				if (extend.isPresent()) {
-					Class<?> parameterClass = m.getParameters()[0].getType();
-					registerExtender(m, parameterClass, extend.get());
-				} else {
-					PantherLogger.getInstance().getLogger().severe("Error registering " + m.getDeclaringClass() + "#" + m.getName());
+			for (AnnotatedMethod m : AnnotatedMethod.of(listener.getClass(), Extend.class)) {
+				if (m.getParameterCount() == 1 && Modifier.isPublic(m.getModifiers())) {
+					Class<?> parameterClass = m.getParameterTypes()[0];
+					registerExtender(m, parameterClass, m.getAnnotation(Extend.class));
 				}
-			});
+			}
 		}
 
-		private <T> void registerExtender(final Method m, final Class<T> parameterClass, Extend extend) {
+		private <T> void registerExtender(final AnnotatedMethod m, final Class<T> parameterClass, Extend extend) {
 			Subscription.Extender<?> extender;
 			String key = extend.identifier();
 			if (m.getReturnType().equals(Void.TYPE) || extend.resultProcessors().length == 0) {
@@ -539,9 +533,10 @@ public abstract class Vent {
 		 * @param method    the method to use
 		 * @param tClass    the class the method accepts as first and only parameter
 		 * @param subscribe the annotation containing the conditions of the registration
+		 * @param enabled   whether the subscription starts out enabled
 		 * @param <T>       the type parameter of tClass
 		 */
-		private <T extends Vent> void registerSubscription(Method method, Class<T> tClass, Subscribe subscribe) {
+		private <T extends Vent> void registerSubscription(AnnotatedMethod method, Class<T> tClass, Subscribe subscribe, boolean enabled) {
 			Consumer<T> call;
 			boolean useCancelled = subscribe.processCancelled();
 			if (method.getReturnType().equals(Void.TYPE) || subscribe.resultProcessors().length == 0) {
@@ -553,19 +548,32 @@ public abstract class Vent {
 				call = new Consumer<>(buildExtender(t -> invokeAsListener(method, tClass.getName(), resultClass, t),
 						subscribe.resultProcessors()), useCancelled);
 			}
-			eventMap.computeIfAbsent(tClass, c -> new HashMap<>())
-					.computeIfAbsent(subscribe.priority(), p -> new HashSet<>())
-					.add(call);
+			slot(tClass, subscribe.priority()).handlers.add(new Toggle(method.getName(), call, enabled));
+			if (enabled) {
+				eventMap.computeIfAbsent(tClass, c -> new HashMap<>())
+						.computeIfAbsent(subscribe.priority(), p -> new HashSet<>())
+						.add(call);
+			}
 		}
 
-		private <T> CallInfo<T> invokeAsListener(Method method, String eventName, Class<T> resultClass, Object... params) {
+		private Slot slot(Class<? extends Vent> eventClass, Priority priority) {
+			Slot[] array = slots.computeIfAbsent(eventClass, c -> new Slot[Priority.values().length]);
+			Slot slot = array[priority.ordinal()];
+			if (slot == null) {
+				slot = new Slot();
+				array[priority.ordinal()] = slot;
+			}
+			return slot;
+		}
+
+		private <T> CallInfo<T> invokeAsListener(AnnotatedMethod method, String eventName, Class<T> resultClass, Object... params) {
 			String reflectionError = "Internal error hindered " + listener.getClass().getName() + "#"
 					+ method.getName() + " from executing. Check method accessibility, parameters & usage!";
 			String callError = "Could not pass event " + eventName + " to " + host;
 			return invoke(method, reflectionError, callError, resultClass, params);
 		}
 
-		private <T> CallInfo<T> invokeAsExtender(Method method, Class<T> resultClass, Object... params) {
+		private <T> CallInfo<T> invokeAsExtender(AnnotatedMethod method, Class<T> resultClass, Object... params) {
 			String passed = "passed elements " + Arrays.toString(params);
 			String reflectionError = "Internal error hindered " + listener.getClass().getName() + "#"
 					+ method.getName() + " from further processing " + passed +
@@ -574,9 +582,8 @@ public abstract class Vent {
 			return invoke(method, reflectionError, callError, resultClass, params);
 		}
 
-		private <T> CallInfo<T> invoke(Method method, String refError, String callError, Class<T> retC, Object... params) {
+		private <T> CallInfo<T> invoke(AnnotatedMethod method, String refError, String callError, Class<T> retC, Object... params) {
 			try {
-				method.setAccessible(true);
 				return new CallInfo<>(true, retC.cast(method.invoke(listener, params)));
 			} catch (IllegalAccessException | InvocationTargetException e) {
 				PantherLogger.getInstance().getLogger().severe(refError);
@@ -601,14 +608,29 @@ public abstract class Vent {
 		 * @return a Stream containing subscriber calls which meet the requirements
 		 * @see Vent.Call#run()
 		 */
-		@SuppressWarnings("unchecked")
 		public <T extends Vent> Stream<? extends Consumer<T>> getHandlers(Class<T> eventClass, Priority priority) {
-			return Optional.ofNullable(eventMap.get(eventClass)).map(m -> m.get(priority)).map(Set::stream)
-					.map(s -> s.map(c -> (Consumer<T>) c)).orElse(Stream.empty());
+			return getHandlerList(eventClass, priority).stream();
 		}
 
 		/**
-		 * Method used to retrieve all disabled subscriber calls of one specific type and priority.
+		 * Get the enabled subscriber calls of one specific type and priority.
+		 * <p>
+		 * The list is precomputed and immutable, a new one is published whenever a handler gets toggled.
+		 *
+		 * @param <T>        type parameter of the eventClass
+		 * @param eventClass the type the subscribers should accept
+		 * @param priority   the priority the subscribers should have
+		 * @return an immutable list of subscriber calls
+		 */
+		@SuppressWarnings("unchecked")
+		public <T extends Vent> List<Consumer<T>> getHandlerList(Class<T> eventClass, Priority priority) {
+			Slot[] array = slots.get(eventClass);
+			Slot slot = array != null ? array[priority.ordinal()] : null;
+			return slot != null ? (List<Consumer<T>>) (List<?>) slot.enabled : Collections.emptyList();
+		}
+
+		/**
+		 * Method used to retrieve all disabled subscriber calls of one specific type (or its subtypes) and priority.
 		 *
 		 * @param <T>        type parameter of the eventClass
 		 * @param eventClass the type the subscribers should accept
@@ -617,24 +639,84 @@ public abstract class Vent {
 		 * @see Vent.Call#run()
 		 */
 		public <T extends Vent> Stream<? extends Consumer<T>> getDisabledHandlers(Class<T> eventClass, Priority priority) {
-			AnnotationDiscovery<Disabled, Object> discovery = AnnotationDiscovery.of(Disabled.class, getParent());
-			discovery.filter(m -> m.getParameterTypes().length > 0 && eventClass.isAssignableFrom(m.getParameterTypes()[0]), true);
-			PantherCollection<Consumer<T>> collection = new PantherList<>();
-			discovery.forEach(method -> {
-				Subscribe s = method.getAnnotation(Subscribe.class);
-				if (s.priority() == priority) {
-					collection.add(new Consumer<>(t -> {
-						try {
-							method.invoke(getParent(), t);
-						} catch (IllegalAccessException e) {
-							e.printStackTrace();
-						} catch (InvocationTargetException e) {
-							e.printStackTrace();
-						}
-					}, false));
+			return getDisabledHandlerList(eventClass, priority).stream();
+		}
+
+		/**
+		 * Get the disabled subscriber calls of one specific type (or its subtypes) and priority.
+		 *
+		 * @param <T>        type parameter of the eventClass
+		 * @param eventClass the type the subscribers should accept
+		 * @param priority   the priority the subscribers should have
+		 * @return an immutable list of subscriber calls
+		 */
+		@SuppressWarnings("unchecked")
+		public <T extends Vent> List<Consumer<T>> getDisabledHandlerList(Class<T> eventClass, Priority priority) {
+			List<Consumer<?>> result = null;
+			for (Map.Entry<Class<? extends Vent>, Slot[]> entry : slots.entrySet()) {
+				Slot slot = entry.getValue()[priority.ordinal()];
+				if (slot == null || slot.disabled.isEmpty() || !eventClass.isAssignableFrom(entry.getKey())) continue;
+				if (entry.getKey() == eventClass && result == null) {
+					result = slot.disabled;
+					continue;
 				}
-			});
-			return collection.stream();
+				List<Consumer<?>> merged = result != null ? new ArrayList<>(result) : new ArrayList<>();
+				merged.addAll(slot.disabled);
+				result = Collections.unmodifiableList(merged);
+			}
+			return result != null ? (List<Consumer<T>>) (List<?>) result : Collections.emptyList();
+		}
+
+		/**
+		 * Enable or disable subscriptions of this link at runtime, as if {@link Disabled} was removed from or added to them.
+		 *
+		 * @param method  the name of the subscribed method(s).
+		 * @param enabled whether the subscriptions should handle events.
+		 * @return true if any subscription changed state.
+		 */
+		public synchronized boolean setEnabled(@NotNull String method, boolean enabled) {
+			boolean changed = false;
+			for (Map.Entry<Class<? extends Vent>, Slot[]> entry : slots.entrySet()) {
+				Slot[] array = entry.getValue();
+				for (int i = 0; i < array.length; i++) {
+					Slot slot = array[i];
+					if (slot == null) continue;
+					boolean touched = false;
+					for (Toggle toggle : slot.handlers) {
+						if (toggle.enabled == enabled || !toggle.method.equals(method)) continue;
+						toggle.enabled = enabled;
+						touched = true;
+						Set<Consumer<?>> set = eventMap.computeIfAbsent(entry.getKey(), c -> new HashMap<>())
+								.computeIfAbsent(Priority.values()[i], p -> new HashSet<>());
+						if (enabled) {
+							set.add(toggle.consumer);
+						} else set.remove(toggle.consumer);
+					}
+					if (touched) {
+						slot.publish();
+						changed = true;
+					}
+				}
+			}
+			return changed;
+		}
+
+		/**
+		 * Check whether a subscribed method of this link currently handles events.
+		 *
+		 * @param method the name of the subscribed method.
+		 * @return true if any subscription of that name is enabled.
+		 */
+		public synchronized boolean isEnabled(@NotNull String method) {
+			for (Slot[] array : slots.values()) {
+				for (Slot slot : array) {
+					if (slot == null) continue;
+					for (Toggle toggle : slot.handlers) {
+						if (toggle.enabled && toggle.method.equals(method)) return true;
+					}
+				}
+			}
+			return false;
 		}
 
 		/**
@@ -723,6 +805,41 @@ public abstract class Vent {
 			};
 		}
 
+		/**
+		 * The subscriptions of one event type and priority, enabled and disabled calls are republished on every toggle.
+		 */
+		static final class Slot {
+
+			final List<Toggle> handlers = new ArrayList<>();
+			volatile List<Consumer<?>> enabled = Collections.emptyList();
+			volatile List<Consumer<?>> disabled = Collections.emptyList();
+
+			void publish() {
+				List<Consumer<?>> on = new ArrayList<>();
+				List<Consumer<?>> off = new ArrayList<>();
+				for (Toggle toggle : handlers) {
+					(toggle.enabled ? on : off).add(toggle.consumer);
+				}
+				this.enabled = on.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(on.toArray(new Consumer<?>[0])));
+				this.disabled = off.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(off.toArray(new Consumer<?>[0])));
+			}
+
+		}
+
+		static final class Toggle {
+
+			final String method;
+			final Consumer<?> consumer;
+			boolean enabled;
+
+			Toggle(String method, Consumer<?> consumer, boolean enabled) {
+				this.method = method;
+				this.consumer = consumer;
+				this.enabled = enabled;
+			}
+
+		}
+
 		static final class CallInfo<T> {
 			private final boolean success;
 			private final T result;
@@ -0,0 +1,57 @@
+package com.github.sanctum.panther.executable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A completer whose suggestions are kept for a while, per executor name and arguments before the one being completed.
+ */
+final class CachedCompleter {
+
+	private static final int MAXIMUM_ENTRIES = 1024;
+
+	final Command.Completer completer;
+	private final long expiry;
+	private final Map<Map.Entry<String, String>, Entry> cache = new ConcurrentHashMap<>();
+
+	CachedCompleter(@NotNull Command.Completer completer, long cache, @NotNull TimeUnit unit) {
+		this.completer = completer;
+		this.expiry = cache > 0 ? unit.toNanos(cache) : 0;
+	}
+
+	@NotNull Suggestions get(@NotNull Command.Context context) {
+		if (expiry == 0) return Suggestions.of(completer.complete(context), Suggestions.COMPLETER);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < context.length() - 1; i++) {
+			builder.append(CommandIndex.key(context.get(i))).append(' ');
+		}
+		// executors don't define equality, a fresh wrapper per sender still shares its name.
+		Map.Entry<String, String> key = new AbstractMap.SimpleImmutableEntry<>(context.getExecutor().getName(), builder.toString());
+		long now = System.nanoTime();
+		Entry entry = cache.get(key);
+		if (entry != null && now - entry.created < expiry) return entry.suggestions;
+		Suggestions suggestions = Suggestions.of(completer.complete(context), Suggestions.COMPLETER);
+		if (cache.size() >= MAXIMUM_ENTRIES) {
+			cache.values().removeIf(e -> now - e.created >= expiry);
+			if (cache.size() >= MAXIMUM_ENTRIES) cache.clear();
+		}
+		cache.put(key, new Entry(suggestions, now));
+		return suggestions;
+	}
+
+	static final class Entry {
+
+		final Suggestions suggestions;
+		final long created;
+
+		Entry(Suggestions suggestions, long created) {
+			this.suggestions = suggestions;
+			this.created = created;
+		}
+
+	}
+
+}
@@ -4,6 +4,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Collection;
 import org.jetbrains.annotations.NotNull;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -26,6 +27,27 @@ public @interface Command {
 
 	String[] args() default "";
 
+	/**
+	 * @return true if this command runs on the workers of its {@link CommandProcessor}, in order with other asynchronous commands of the same executor.
+	 */
+	boolean async() default false;
+
+	/**
+	 * Suggests arguments of a command while it's being typed.
+	 *
+	 * @see CommandProcessor#addCompleter(String, int, Completer)
+	 */
+	@FunctionalInterface
+	interface Completer {
+
+		/**
+		 * @param context the command typed so far, its last argument is the one being completed.
+		 * @return suggestions for the last argument, they get filtered by what was typed of it already.
+		 */
+		@NotNull Collection<String> complete(@NotNull Context context);
+
+	}
+
 	interface Context {
 
 		Executor DEFAULT = new PantherExecutor();
@@ -38,29 +60,21 @@ public @interface Command {
 
 		int length();
 
+		/**
+		 * Split a line of text into a context, once.
+		 *
+		 * @param text The command label and its arguments separated by spaces.
+		 * @return A new context run by the default executor.
+		 */
 		static @NotNull Context of(@NotNull String text) {
-			return new Context() {
-
-				@Override
-				public @NotNull Executor getExecutor() {
-					return DEFAULT;
-				}
-
-				@Override
-				public String get(int index) {
-					return text.split(" ")[index];
-				}
-
-				@Override
-				public String[] get() {
-					return text.split(" ");
-				}
-
-				@Override
-				public int length() {
-					return get().length;
-				}
-			};
+			return new CommandContext(DEFAULT, text);
+		}
+
+		/**
+		 * @see #of(String)
+		 */
+		static @NotNull Context of(@NotNull Executor executor, @NotNull String text) {
+			return new CommandContext(executor, text);
 		}
 
 	}
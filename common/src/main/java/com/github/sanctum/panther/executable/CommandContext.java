@@ -0,0 +1,44 @@
+package com.github.sanctum.panther.executable;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A command context split into its arguments once, up front.
+ */
+final class CommandContext implements Command.Context {
+
+	private final Executor executor;
+	private final String[] args;
+
+	CommandContext(@NotNull Executor executor, @NotNull String text) {
+		this.executor = executor;
+		// the same tokens as text.split(" ") always returned, just kept.
+		this.args = text.split(" ");
+	}
+
+	CommandContext(@NotNull Executor executor, @NotNull String[] args) {
+		this.executor = executor;
+		this.args = args;
+	}
+
+	@Override
+	public @NotNull Executor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public String get(int index) {
+		return args[index];
+	}
+
+	@Override
+	public String[] get() {
+		return args.clone();
+	}
+
+	@Override
+	public int length() {
+		return args.length;
+	}
+
+}
@@ -0,0 +1,333 @@
+package com.github.sanctum.panther.executable;
+
+import com.github.sanctum.panther.util.PantherLogger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Every registered command and sub-command, resolved once by {@link CommandProcessor#register(Executable)}.
+ * <p>
+ * Commands are keyed by their lower-cased label and aliases, sub-commands by label, argument position and alias,
+ * so a lookup costs the same no matter how many executables are registered. Labels always win over aliases,
+ * an alias already taken by another command is ignored. Both are reported, whichever executable was registered first.
+ * Indices are immutable, registering creates a new one.
+ */
+final class CommandIndex {
+
+	static final CommandIndex EMPTY = new CommandIndex(Collections.emptyMap());
+
+	private static final MethodType INVOKER = MethodType.methodType(void.class, Command.Context.class);
+	private static final ClassValue<Method[]> METHODS = new ClassValue<Method[]>() {
+		@Override
+		protected Method[] computeValue(Class<?> type) {
+			List<Method> methods = new ArrayList<>();
+			for (Method m : type.getMethods()) {
+				if (!m.isAnnotationPresent(Command.class) && !m.isAnnotationPresent(SubCommand.class)) continue;
+				try {
+					if (!m.isAccessible()) {
+						m.setAccessible(true);
+					}
+				} catch (Exception ignored) {
+				}
+				methods.add(m);
+			}
+			return methods.toArray(new Method[0]);
+		}
+	};
+
+	final Map<Executable, Compiled> executables;
+	private final Map<String, Label> labels = new HashMap<>();
+	private final List<Conflict> conflicts = new ArrayList<>();
+	final Suggestions suggestions;
+
+	private CommandIndex(Map<Executable, Compiled> executables) {
+		this.executables = executables;
+		Map<String, List<Route>> commands = new LinkedHashMap<>();
+		Map<String, Map<Integer, Map<String, List<SubRoute>>>> subCommands = new HashMap<>();
+		for (Compiled compiled : executables.values()) {
+			for (Route route : compiled.commands) {
+				commands.computeIfAbsent(route.label, k -> new ArrayList<>()).add(route);
+			}
+			for (SubRoute route : compiled.subCommands) {
+				// only reachable through a command of the same executable, by any of its aliases.
+				String label = compiled.labels.get(route.label);
+				if (label == null) continue;
+				subCommands.computeIfAbsent(label, k -> new HashMap<>())
+						.computeIfAbsent(route.pos, k -> new HashMap<>())
+						.computeIfAbsent(route.alias, k -> new ArrayList<>()).add(route);
+			}
+		}
+		commands.forEach((label, routes) -> {
+			Map<Integer, Map<String, SubRoute[]>> positions = new HashMap<>();
+			Map<Integer, Suggestions.Builder> suggestions = new HashMap<>();
+			subCommands.getOrDefault(label, Collections.emptyMap()).forEach((pos, aliases) -> {
+				Map<String, SubRoute[]> map = new HashMap<>();
+				aliases.forEach((alias, list) -> {
+					map.put(alias, list.toArray(new SubRoute[0]));
+					for (SubRoute route : list) {
+						suggestions.computeIfAbsent(pos, k -> new Suggestions.Builder()).add(route.subCommand.aliase(), Suggestions.SUB_COMMAND, route.requirementArg != null ? route : null);
+					}
+				});
+				positions.put(pos, map);
+			});
+			for (Route route : routes) {
+				for (String arg : route.command.args()) {
+					suggestions.computeIfAbsent(1, k -> new Suggestions.Builder()).add(arg, Suggestions.ARGUMENT, null);
+				}
+			}
+			Map<Integer, Suggestions> built = new HashMap<>();
+			suggestions.forEach((pos, builder) -> built.put(pos, builder.build()));
+			labels.put(label, new Label(label, routes.toArray(new Route[0]), positions, built));
+		});
+		// labels come first, then other aliases in registration order.
+		commands.forEach((label, routes) -> {
+			for (Route route : routes) {
+				for (String alias : route.aliases) {
+					Label existing = labels.putIfAbsent(alias, labels.get(label));
+					if (existing != null && !existing.label.equals(label)) {
+						conflicts.add(new Conflict(alias, existing, route));
+					}
+				}
+			}
+		});
+		Suggestions.Builder suggestions = new Suggestions.Builder();
+		commands.forEach((label, routes) -> {
+			for (Route route : routes) {
+				String[] aliases = route.command.aliases();
+				for (String alias : aliases) {
+					Label owner = labels.get(key(alias));
+					if (owner != null && owner.label.equals(label)) suggestions.add(alias, Suggestions.LABEL, null);
+				}
+			}
+		});
+		this.suggestions = suggestions.build();
+	}
+
+	static @NotNull String key(@NotNull String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @return a copy of this index with the executable added last, or this index if it's already registered.
+	 */
+	CommandIndex with(@NotNull Executable executable) {
+		if (executables.containsKey(executable)) return this;
+		Map<Executable, Compiled> map = new LinkedHashMap<>(executables);
+		map.put(executable, new Compiled(executable));
+		CommandIndex index = new CommandIndex(map);
+		// compiled routes are shared between indices, so conflicts that were already reported are found by identity.
+		Set<List<Object>> known = new HashSet<>();
+		for (Conflict conflict : conflicts) {
+			known.add(Arrays.asList(conflict.name, conflict.alias));
+		}
+		for (Conflict conflict : index.conflicts) {
+			if (known.contains(Arrays.asList(conflict.name, conflict.alias))) continue;
+			if (conflict.alias.executable == executable) {
+				PantherLogger.getInstance().getLogger().warning("- Alias '" + conflict.name + "' of command '" + conflict.alias.label + "' is already taken by command '" + conflict.owner.label + "', ignoring it.");
+			} else {
+				// a label of the new executable shadows an alias registered earlier.
+				PantherLogger.getInstance().getLogger().warning("- Command '" + conflict.owner.label + "' takes over alias '" + conflict.name + "' of command '" + conflict.alias.label + "', it no longer resolves to it.");
+			}
+		}
+		return index;
+	}
+
+	CommandIndex without(@NotNull Executable executable) {
+		if (!executables.containsKey(executable)) return this;
+		Map<Executable, Compiled> map = new LinkedHashMap<>(executables);
+		map.remove(executable);
+		return new CommandIndex(map);
+	}
+
+	@Nullable Label get(@NotNull String label) {
+		return labels.get(key(label));
+	}
+
+	static Method[] methods(Class<?> type) {
+		return METHODS.get(type);
+	}
+
+	/**
+	 * Everything a single executable declares, with invokers bound to it.
+	 */
+	static final class Compiled {
+
+		final List<Route> commands = new ArrayList<>();
+		final List<SubRoute> subCommands = new ArrayList<>();
+		// every alias of this executables' commands to the label of the command.
+		final Map<String, String> labels = new HashMap<>();
+
+		Compiled(Executable executable) {
+			for (Method m : methods(executable.getClass())) {
+				Command command = m.getAnnotation(Command.class);
+				SubCommand subCommand = m.getAnnotation(SubCommand.class);
+				MethodHandle invoker = invoker(executable, m);
+				if (invoker == null) continue;
+				if (command != null && command.aliases().length > 0) {
+					Route route = new Route(executable, command, invoker);
+					commands.add(route);
+					labels.put(route.label, route.label);
+					for (String alias : route.aliases) {
+						labels.putIfAbsent(alias, route.label);
+					}
+				}
+				if (subCommand != null) {
+					subCommands.add(new SubRoute(executable, subCommand, m.getAnnotation(SubCommand.Requirement.class), invoker));
+				}
+			}
+		}
+
+		private static MethodHandle invoker(Executable executable, Method m) {
+			try {
+				return MethodHandles.lookup().unreflect(m).bindTo(executable).asType(INVOKER);
+			} catch (IllegalAccessException | RuntimeException e) {
+				PantherLogger.getInstance().getLogger().warning("- Unable to register " + m.getDeclaringClass().getSimpleName() + "#" + m.getName() + ", commands need to accept a single Command.Context.");
+				return null;
+			}
+		}
+
+	}
+
+	/**
+	 * The commands registered under a label and its sub-commands by position and alias.
+	 */
+	static final class Label {
+
+		private static final SubRoute[] NONE = new SubRoute[0];
+
+		final String label;
+		final Route[] commands;
+		private final Map<Integer, Map<String, SubRoute[]>> subCommands;
+		private final Map<Integer, Suggestions> suggestions;
+
+		Label(String label, Route[] commands, Map<Integer, Map<String, SubRoute[]>> subCommands, Map<Integer, Suggestions> suggestions) {
+			this.label = label;
+			this.commands = commands;
+			this.subCommands = subCommands;
+			this.suggestions = suggestions;
+		}
+
+		/**
+		 * @return the sub-command aliases at a position, and static {@link Command#args()} for the first one.
+		 */
+		@NotNull Suggestions suggestions(int pos) {
+			return suggestions.getOrDefault(pos, Suggestions.EMPTY);
+		}
+
+		/**
+		 * @return every sub-command with its alias at the given position and its requirement met, in registration order.
+		 */
+		SubRoute[] find(@NotNull Command.Context context, int pos) {
+			Map<String, SubRoute[]> aliases = subCommands.get(pos);
+			if (aliases == null) return NONE;
+			SubRoute[] routes = aliases.get(key(context.get(pos)));
+			if (routes == null) return NONE;
+			int matching = 0;
+			for (SubRoute route : routes) {
+				if (route.test(context)) matching++;
+			}
+			if (matching == routes.length) return routes;
+			SubRoute[] result = new SubRoute[matching];
+			int i = 0;
+			for (SubRoute route : routes) {
+				if (route.test(context)) result[i++] = route;
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * An alias of a command already pointing to another label.
+	 */
+	static final class Conflict {
+
+		final String name;
+		final Label owner;
+		final Route alias;
+
+		Conflict(String name, Label owner, Route alias) {
+			this.name = name;
+			this.owner = owner;
+			this.alias = alias;
+		}
+
+	}
+
+	static final class Route {
+
+		final Executable executable;
+		final Command command;
+		final String label;
+		// the aliases after the label.
+		final String[] aliases;
+		final int min, max;
+		final boolean async;
+		final MethodHandle invoker;
+
+		Route(Executable executable, Command command, MethodHandle invoker) {
+			this.executable = executable;
+			this.command = command;
+			this.label = key(command.aliases()[0]);
+			this.aliases = new String[command.aliases().length - 1];
+			for (int i = 0; i < aliases.length; i++) {
+				aliases[i] = key(command.aliases()[i + 1]);
+			}
+			this.min = command.min();
+			this.max = command.max();
+			this.async = command.async();
+			this.invoker = invoker;
+		}
+
+		boolean accepts(int length) {
+			return length >= min && (max == -1 || length <= max);
+		}
+
+	}
+
+	static final class SubRoute {
+
+		final Executable executable;
+		final SubCommand subCommand;
+		final String label;
+		final String alias;
+		final int pos;
+		final int requirementPos;
+		final String requirementArg;
+		final boolean async;
+		final MethodHandle invoker;
+
+		SubRoute(Executable executable, SubCommand subCommand, @Nullable SubCommand.Requirement requirement, MethodHandle invoker) {
+			this.executable = executable;
+			this.subCommand = subCommand;
+			this.label = key(subCommand.command());
+			this.alias = key(subCommand.aliase());
+			this.pos = subCommand.pos();
+			this.requirementPos = requirement != null ? requirement.pos() : -1;
+			this.requirementArg = requirement != null ? requirement.arg() : null;
+			this.async = subCommand.async();
+			this.invoker = invoker;
+		}
+
+		boolean test(@NotNull Command.Context context) {
+			if (requirementArg == null) return true;
+			return requirementPos >= 0 && requirementPos < context.length() && context.get(requirementPos).equalsIgnoreCase(requirementArg);
+		}
+
+	}
+
+}
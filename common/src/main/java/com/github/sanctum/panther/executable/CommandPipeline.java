@@ -0,0 +1,182 @@
+package com.github.sanctum.panther.executable;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs asynchronous commands on a worker pool, one at a time per {@link Executor} in the order they were submitted.
+ * <p>
+ * Executors are told apart by {@link Executor#getName()}, as implementations aren't required to define equality.
+ * Every executor gets a lane which only exists while it has commands queued or running, a lane is drained by a single worker.
+ * A command timing out or being cancelled gets interrupted, one ignoring interrupts still holds up its lane until it returns.
+ */
+final class CommandPipeline {
+
+	private static volatile ExecutorService defaultWorkers;
+	private static volatile ScheduledExecutorService timer;
+
+	private final ConcurrentHashMap<String, Queue<Task>> lanes = new ConcurrentHashMap<>();
+	private volatile ExecutorService workers;
+	private volatile long timeout = -1;
+
+	void setWorkers(@Nullable ExecutorService workers) {
+		this.workers = workers;
+	}
+
+	void setTimeout(long timeout, @NotNull TimeUnit unit) {
+		this.timeout = timeout < 0 ? -1 : unit.toMillis(timeout);
+	}
+
+	/**
+	 * Queue a command behind every other command of the same executor.
+	 *
+	 * @return a future completed once the command ran, cancelling it skips a queued command and interrupts a running one.
+	 */
+	CompletableFuture<Void> submit(@NotNull Executor executor, @NotNull Body command) {
+		Task task = new Task(command, timeout);
+		String name = executor.getName();
+		boolean[] start = new boolean[1];
+		lanes.compute(name, (k, lane) -> {
+			if (lane == null) {
+				lane = new ArrayDeque<>();
+				start[0] = true;
+			}
+			lane.add(task);
+			return lane;
+		});
+		if (start[0]) {
+			try {
+				workers().execute(() -> drain(name));
+			} catch (RuntimeException e) {
+				Queue<Task> lane = lanes.remove(name);
+				if (lane != null) lane.forEach(t -> t.result.completeExceptionally(e));
+			}
+		}
+		return task.result;
+	}
+
+	private void drain(String name) {
+		Task task = next(name, false);
+		while (task != null) {
+			task.run();
+			task = next(name, true);
+		}
+	}
+
+	/**
+	 * @return the next task of a lane, or null after removing the lane as it ran empty.
+	 */
+	private @Nullable Task next(String name, boolean ran) {
+		Task[] next = new Task[1];
+		lanes.computeIfPresent(name, (k, lane) -> {
+			// the running task stays at the head, so submissions meanwhile don't start another worker.
+			if (ran) lane.poll();
+			next[0] = lane.peek();
+			return lane.isEmpty() ? null : lane;
+		});
+		return next[0];
+	}
+
+	private ExecutorService workers() {
+		ExecutorService workers = this.workers;
+		if (workers != null) return workers;
+		workers = defaultWorkers;
+		if (workers == null) {
+			synchronized (CommandPipeline.class) {
+				workers = defaultWorkers;
+				if (workers == null) defaultWorkers = workers = Executors.newCachedThreadPool(threads("Panther-Command-Worker"));
+			}
+		}
+		return workers;
+	}
+
+	private static ScheduledExecutorService timer() {
+		ScheduledExecutorService timer = CommandPipeline.timer;
+		if (timer == null) {
+			synchronized (CommandPipeline.class) {
+				timer = CommandPipeline.timer;
+				if (timer == null) CommandPipeline.timer = timer = Executors.newSingleThreadScheduledExecutor(threads("Panther-Command-Timeout"));
+			}
+		}
+		return timer;
+	}
+
+	private static ThreadFactory threads(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@FunctionalInterface
+	interface Body {
+
+		void run() throws Throwable;
+
+	}
+
+	static final class Task {
+
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		private final Body command;
+		private final long timeout;
+		private Thread runner;
+
+		Task(Body command, long timeout) {
+			this.command = command;
+			this.timeout = timeout;
+			result.whenComplete((v, t) -> {
+				if (t != null) interrupt();
+			});
+		}
+
+		private synchronized void interrupt() {
+			if (runner != null) runner.interrupt();
+		}
+
+		void run() {
+			synchronized (this) {
+				// cancelled while queued.
+				if (result.isDone()) return;
+				runner = Thread.currentThread();
+			}
+			ScheduledFuture<?> timeout = null;
+			if (this.timeout >= 0) {
+				timeout = timer().schedule(() -> result.completeExceptionally(new TimeoutException("Command timed out after " + this.timeout + "ms")), this.timeout, TimeUnit.MILLISECONDS);
+			}
+			Throwable failure = null;
+			try {
+				command.run();
+			} catch (Throwable t) {
+				failure = t;
+			}
+			synchronized (this) {
+				runner = null;
+			}
+			// an interrupt meant for this command mustn't hit the next one.
+			Thread.interrupted();
+			if (timeout != null) timeout.cancel(false);
+			if (failure != null) {
+				result.completeExceptionally(failure);
+			} else {
+				result.complete(null);
+			}
+		}
+
+	}
+
+}
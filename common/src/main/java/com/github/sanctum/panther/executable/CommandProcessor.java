@@ -1,117 +1,179 @@
 package com.github.sanctum.panther.executable;
 
-import com.github.sanctum.panther.container.PantherCollection;
-import com.github.sanctum.panther.container.PantherEntry;
-import com.github.sanctum.panther.container.PantherEntryMap;
-import com.github.sanctum.panther.container.PantherMap;
-import com.github.sanctum.panther.container.PantherSet;
-import com.github.sanctum.panther.util.Applicable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class CommandProcessor {
 
 	// when you register a command it saves the known label as the key, the bukkit impl will save to a collection with a command impl that auto registers.
-	private final PantherCollection<Executable> executables = new PantherSet<>();
+	private volatile CommandIndex index = CommandIndex.EMPTY;
+	private final CommandPipeline pipeline = new CommandPipeline();
+	private final Map<String, Map<Integer, List<CachedCompleter>>> completers = new ConcurrentHashMap<>();
 
-	public void register(@NotNull Executable executable) {
+	public synchronized void register(@NotNull Executable executable) {
 		// get command class impl, have method ready that wraps the bukkit command execution and transforms output to context
-		executables.add(executable);
+		index = index.with(executable);
 	}
 
-	public void unregister(@NotNull Executable executable) {
-		executables.remove(executable);
+	public synchronized void unregister(@NotNull Executable executable) {
+		index = index.without(executable);
+	}
+
+	/**
+	 * Set the workers running asynchronous commands, a shared pool of daemon threads is used by default.
+	 *
+	 * @param workers The workers to use or null for the default ones.
+	 * @see Command#async()
+	 */
+	public void setWorkers(@Nullable ExecutorService workers) {
+		pipeline.setWorkers(workers);
+	}
+
+	/**
+	 * Set how long asynchronous commands may run before their result fails and they get interrupted.
+	 *
+	 * @param timeout The time allowed per command, or a negative value for no limit.
+	 * @param unit    The unit of the timeout.
+	 */
+	public void setTimeout(long timeout, @NotNull TimeUnit unit) {
+		pipeline.setTimeout(timeout, unit);
+	}
+
+	/**
+	 * Add dynamic suggestions for an argument of a command.
+	 *
+	 * @param label     The label of the command.
+	 * @param pos       The position of the argument, 1 being the first one after the label.
+	 * @param completer The completer to ask for suggestions every time.
+	 */
+	public void addCompleter(@NotNull String label, int pos, @NotNull Command.Completer completer) {
+		addCompleter(label, pos, completer, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Add dynamic suggestions for an argument of a command, kept for a while per executor name and preceding arguments.
+	 *
+	 * @param label     The label of the command.
+	 * @param pos       The position of the argument, 1 being the first one after the label.
+	 * @param completer The completer to ask for suggestions.
+	 * @param cache     How long suggestions are kept.
+	 * @param unit      The unit of the cache duration.
+	 */
+	public void addCompleter(@NotNull String label, int pos, @NotNull Command.Completer completer, long cache, @NotNull TimeUnit unit) {
+		completers.computeIfAbsent(CommandIndex.key(label), k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(pos, k -> new CopyOnWriteArrayList<>())
+				.add(new CachedCompleter(completer, cache, unit));
+	}
+
+	public void removeCompleter(@NotNull Command.Completer completer) {
+		completers.values().forEach(positions -> positions.values().forEach(list -> list.removeIf(c -> c.completer == completer)));
+	}
+
+	/**
+	 * Complete a line of text being typed, a trailing space starts a new argument.
+	 *
+	 * @see #complete(Command.Context)
+	 */
+	public @NotNull List<String> complete(@NotNull Executor executor, @NotNull String text) {
+		return complete(new CommandContext(executor, text.split(" ", -1)));
+	}
+
+	/**
+	 * Get suggestions for the last argument of a context, the label itself if it's the only one.
+	 * <p>
+	 * Sub-command aliases whose requirements are met come first, then {@link Command#args()} for the first argument
+	 * and last suggestions of completers, each in alphabetical order and without duplicates.
+	 *
+	 * @param context The command typed so far.
+	 * @return the suggestions starting with the last argument, ignoring case.
+	 */
+	public @NotNull List<String> complete(@NotNull Command.Context context) {
+		CommandIndex index = this.index;
+		int pos = context.length() - 1;
+		if (pos < 0) return new ArrayList<>();
+		String prefix = CommandIndex.key(context.get(pos));
+		Suggestions.Ranking ranking = new Suggestions.Ranking();
+		if (pos == 0) {
+			index.suggestions.collect(prefix, context, ranking);
+			return ranking.toList();
+		}
+		CommandIndex.Label label = index.get(context.get(0));
+		if (label == null) return new ArrayList<>();
+		label.suggestions(pos).collect(prefix, context, ranking);
+		complete(completers.get(label.label), pos, prefix, context, ranking);
+		String typed = CommandIndex.key(context.get(0));
+		if (!typed.equals(label.label)) complete(completers.get(typed), pos, prefix, context, ranking);
+		return ranking.toList();
+	}
+
+	private void complete(@Nullable Map<Integer, List<CachedCompleter>> positions, int pos, String prefix, Command.Context context, Suggestions.Ranking ranking) {
+		if (positions == null) return;
+		List<CachedCompleter> list = positions.get(pos);
+		if (list == null) return;
+		for (CachedCompleter completer : list) {
+			completer.get(context).collect(prefix, context, ranking);
+		}
 	}
 
 	public Executable.Inquiry inquire(@NotNull Command.Context context) {
-		String label = context.get(0);
-		Executable parentExecutable = null;
-		PantherEntry.Modifiable<Command, Method> commandToRun = null;
-		PantherMap<Executable, PantherCollection<PantherEntry.Modifiable<SubCommand, Method>>> subCommandsToRun = new PantherEntryMap<>();
+		int length = context.length();
+		CommandIndex.Label label = index.get(context.get(0));
+		CommandIndex.Route commandToRun = null;
+		CommandIndex.SubRoute[] subCommandsToRun = null;
 		boolean canRun = false;
-		for (Executable e : executables) {
-			for (PantherEntry.Modifiable<Command, Method> s : e.getCommands()) {
-				Command command = s.getKey();
-				// check first if label matches
-				if (command.aliases()[0].equalsIgnoreCase(label)) {
-					commandToRun = s;
-					parentExecutable = e;
-					boolean multipleArgs = context.length() > 1;
-					if (multipleArgs) {
-						e.getSubCommands().forEach(in -> {
-							SubCommand subCommand = in.getKey();
-							// add sub commands of relevance.
-							SubCommand.Requirement requirement = null;
-							if (in.getValue().isAnnotationPresent(SubCommand.Requirement.class)) {
-								requirement = in.getValue().getAnnotation(SubCommand.Requirement.class);
-							}
-							if (subCommand.command().equalsIgnoreCase(label) && subCommand.pos() < context.length()) {
-								if (subCommand.pos() < (Math.max(0, context.length() - 1))) return;
-								// we have standard to meet around here.. and its not been met.. THE BOOT WITH YAs
-								if (requirement != null && ((requirement.pos() >= context.length()) || !context.get(requirement.pos()).equalsIgnoreCase(requirement.arg())))
-									return;
-								if (subCommand.pos() >= context.length())
-									throw new IllegalStateException("Sub-command position cannot be larger than or equal to context length.");
-								if (context.get(subCommand.pos()).equalsIgnoreCase(subCommand.aliase())) {
-									if (!subCommandsToRun.containsKey(e)) {
-										PantherCollection<PantherEntry.Modifiable<SubCommand, Method>> methods = new PantherSet<>();
-										methods.add(in);
-										subCommandsToRun.put(e, methods);
-									} else {
-										subCommandsToRun.get(e).add(in);
-									}
-								}
-							}
-						});
-					}
-					// check if the provided context is large enough for the command itself.
-					if (context.length() >= command.min()) {
-						// check if command has no bounds or matches bounds
-						if (command.max() == -1 || context.length() <= command.max()) {
-							canRun = true;
-						}
-					}
-				}
+		if (label != null) {
+			// the last registered command of a label runs, any of them being within bounds allows it to.
+			for (CommandIndex.Route route : label.commands) {
+				commandToRun = route;
+				if (route.accepts(length)) canRun = true;
+			}
+			// sub-commands only ever match the last argument.
+			if (length > 1) {
+				subCommandsToRun = label.find(context, length - 1);
 			}
 		}
 		boolean finalCanRun = canRun;
-		PantherEntry.Modifiable<Command, Method> finalCommandToRun = commandToRun;
-		Executable finalParentExecutable = parentExecutable;
+		CommandIndex.Route finalCommandToRun = commandToRun;
+		CommandIndex.SubRoute[] finalSubCommandsToRun = subCommandsToRun;
 		return new Executable.Inquiry() {
 
+			private static final long serialVersionUID = 1822684985933706640L;
+
 			Consumer<Command.Context> unknownApplicant;
 
 			@Override
 			public void run() {
+				if (isAsync()) {
+					submit().whenComplete((v, t) -> {
+						if (t != null && !(t instanceof CancellationException)) t.printStackTrace();
+					});
+					return;
+				}
 				// select subcommand or select and run the command
-				if (subCommandsToRun.isEmpty()) {
+				if (finalSubCommandsToRun == null || finalSubCommandsToRun.length == 0) {
 					// run command only
 					if (finalCommandToRun != null) {
 						if (context.length() > 1 && unknownApplicant != null) {
 							unknownApplicant.accept(context);
 							return;
 						}
-						try {
-							finalCommandToRun.getValue().invoke(finalParentExecutable, context);
-						} catch (IllegalAccessException | InvocationTargetException e) {
-							e.printStackTrace();
-						}
+						invoke(finalCommandToRun.invoker, context);
 					}
 				} else {
-					subCommandsToRun.forEach(e -> {
-						Executable executable = e.getKey();
-						PantherCollection<PantherEntry.Modifiable<SubCommand, Method>> collection = e.getValue();
-						collection.forEach(sub -> {
-							try {
-								sub.getValue().invoke(executable, context);
-							} catch (IllegalAccessException | InvocationTargetException ex) {
-								ex.printStackTrace();
-							}
-						});
-					});
-
+					for (CommandIndex.SubRoute sub : finalSubCommandsToRun) {
+						invoke(sub.invoker, context);
+					}
 				}
 			}
 
@@ -136,7 +198,49 @@ public abstract class CommandProcessor {
 					return false;
 				}
 			}
+
+			@Override
+			public boolean isAsync() {
+				if (finalSubCommandsToRun == null || finalSubCommandsToRun.length == 0) {
+					// unknown sub-commands are handled right away.
+					return finalCommandToRun != null && finalCommandToRun.async && (context.length() <= 1 || unknownApplicant == null);
+				}
+				for (CommandIndex.SubRoute sub : finalSubCommandsToRun) {
+					if (sub.async) return true;
+				}
+				return false;
+			}
+
+			@Override
+			public @NotNull CompletableFuture<Void> submit() {
+				if (!isAsync()) return Executable.Inquiry.super.submit();
+				if (finalSubCommandsToRun == null || finalSubCommandsToRun.length == 0) {
+					return pipeline.submit(context.getExecutor(), () -> {
+						finalCommandToRun.invoker.invokeExact(context);
+					});
+				}
+				return pipeline.submit(context.getExecutor(), () -> {
+					// every sub-command runs, the first failure is reported.
+					Throwable failure = null;
+					for (CommandIndex.SubRoute sub : finalSubCommandsToRun) {
+						try {
+							sub.invoker.invokeExact(context);
+						} catch (Throwable t) {
+							if (failure == null) failure = t;
+						}
+					}
+					if (failure != null) throw failure;
+				});
+			}
 		};
 	}
 
+	static void invoke(MethodHandle invoker, Command.Context context) {
+		try {
+			invoker.invokeExact(context);
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+	}
+
 }
@@ -4,6 +4,7 @@ import com.github.sanctum.panther.container.PantherEntryMap;
 import com.github.sanctum.panther.container.PantherMap;
 import com.github.sanctum.panther.util.Applicable;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,16 +13,10 @@ public interface Executable {
 
 	default PantherMap<Command, Method> getCommands() {
 		PantherMap<Command, Method> methodMap = new PantherEntryMap<>();
-		for (Method m : getClass().getMethods()) {
-			try {
-				if (!m.isAccessible()) {
-					m.setAccessible(true);
-				}
-				if (m.isAnnotationPresent(Command.class)) {
-					Command c = m.getAnnotation(Command.class);
-					methodMap.put(c, m);
-				}
-			} catch (Exception ignored) {
+		for (Method m : CommandIndex.methods(getClass())) {
+			if (m.isAnnotationPresent(Command.class)) {
+				Command c = m.getAnnotation(Command.class);
+				methodMap.put(c, m);
 			}
 		}
 		return methodMap;
@@ -29,16 +24,10 @@ public interface Executable {
 
 	default PantherMap<SubCommand, Method> getSubCommands() {
 		PantherMap<SubCommand, Method> methodMap = new PantherEntryMap<>();
-		for (Method m : getClass().getMethods()) {
-			try {
-				if (!m.isAccessible()) {
-					m.setAccessible(true);
-				}
-				if (m.isAnnotationPresent(SubCommand.class)) {
-					SubCommand c = m.getAnnotation(SubCommand.class);
-					methodMap.put(c, m);
-				}
-			} catch (Exception ignored) {
+		for (Method m : CommandIndex.methods(getClass())) {
+			if (m.isAnnotationPresent(SubCommand.class)) {
+				SubCommand c = m.getAnnotation(SubCommand.class);
+				methodMap.put(c, m);
 			}
 		}
 		return methodMap;
@@ -52,6 +41,29 @@ public interface Executable {
 
 		boolean runAnyway();
 
+		/**
+		 * @return true if running this inquiry hands its command to the workers of the processor.
+		 */
+		default boolean isAsync() {
+			return false;
+		}
+
+		/**
+		 * Run this inquiry like {@link #run()} does.
+		 *
+		 * @return a future completed once the command ran, cancelling it skips a queued command and interrupts a running one.
+		 */
+		default @NotNull CompletableFuture<Void> submit() {
+			CompletableFuture<Void> result = new CompletableFuture<>();
+			try {
+				run();
+				result.complete(null);
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			}
+			return result;
+		}
+
 	}
 
 }
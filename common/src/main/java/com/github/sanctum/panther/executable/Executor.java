@@ -4,6 +4,10 @@ import org.jetbrains.annotations.NotNull;
 
 public interface Executor {
 
+	/**
+	 * @return the name identifying this executor, asynchronous commands of executors sharing it run one after another
+	 * and cached completions are shared between them.
+	 */
 	@NotNull String getName();
 
 }
@@ -16,6 +16,11 @@ public @interface SubCommand {
 
 	int pos() default 1;
 
+	/**
+	 * @see Command#async()
+	 */
+	boolean async() default false;
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target(ElementType.METHOD)
 	@interface Requirement {
@@ -0,0 +1,111 @@
+package com.github.sanctum.panther.executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Completion candidates sorted by their lower-cased text, the candidates of a prefix are found by binary search.
+ * <p>
+ * Candidates carry a rank, lower ranks are listed first, and optionally the sub-command whose requirement has to be met.
+ */
+final class Suggestions {
+
+	static final int LABEL = 0, SUB_COMMAND = 0, ARGUMENT = 1, COMPLETER = 2;
+	static final Suggestions EMPTY = new Suggestions(new ArrayList<>());
+
+	private final Candidate[] candidates;
+
+	private Suggestions(List<Candidate> candidates) {
+		this.candidates = candidates.toArray(new Candidate[0]);
+		Arrays.sort(this.candidates, Comparator.comparing((Candidate c) -> c.key).thenComparingInt(c -> c.rank));
+	}
+
+	static @NotNull Suggestions of(@NotNull Collection<String> texts, int rank) {
+		Builder builder = new Builder();
+		for (String text : texts) {
+			if (text != null) builder.add(text, rank, null);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Add every candidate starting with the prefix, ignoring case.
+	 */
+	void collect(@NotNull String prefix, @NotNull Command.Context context, @NotNull Ranking ranking) {
+		int from = 0, to = candidates.length;
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (candidates[middle].key.compareTo(prefix) < 0) {
+				from = middle + 1;
+			} else {
+				to = middle;
+			}
+		}
+		for (int i = from; i < candidates.length && candidates[i].key.startsWith(prefix); i++) {
+			Candidate candidate = candidates[i];
+			if (candidate.condition == null || candidate.condition.test(context)) ranking.add(candidate);
+		}
+	}
+
+	static final class Builder {
+
+		private final List<Candidate> candidates = new ArrayList<>();
+
+		Builder add(@NotNull String text, int rank, @Nullable CommandIndex.SubRoute condition) {
+			if (!text.isEmpty()) candidates.add(new Candidate(text, rank, condition));
+			return this;
+		}
+
+		Suggestions build() {
+			return candidates.isEmpty() ? EMPTY : new Suggestions(candidates);
+		}
+
+	}
+
+	static final class Candidate {
+
+		final String text;
+		final String key;
+		final int rank;
+		final CommandIndex.SubRoute condition;
+
+		Candidate(String text, int rank, @Nullable CommandIndex.SubRoute condition) {
+			this.text = text;
+			this.key = CommandIndex.key(text);
+			this.rank = rank;
+			this.condition = condition;
+		}
+
+	}
+
+	/**
+	 * Collected candidates, one per lower-cased text with the lowest rank.
+	 */
+	static final class Ranking {
+
+		private final Map<String, Candidate> best = new HashMap<>();
+
+		void add(@NotNull Candidate candidate) {
+			best.merge(candidate.key, candidate, (a, b) -> b.rank < a.rank ? b : a);
+		}
+
+		@NotNull List<String> toList() {
+			Candidate[] candidates = best.values().toArray(new Candidate[0]);
+			Arrays.sort(candidates, Comparator.comparingInt((Candidate c) -> c.rank).thenComparing(c -> c.key));
+			List<String> list = new ArrayList<>(candidates.length);
+			for (Candidate candidate : candidates) {
+				list.add(candidate.text);
+			}
+			return list;
+		}
+
+	}
+
+}
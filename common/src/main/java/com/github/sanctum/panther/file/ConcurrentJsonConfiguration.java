@@ -0,0 +1,161 @@
+package com.github.sanctum.panther.file;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONObject;
+
+/**
+ * A thread-safe {@link JsonConfiguration}.
+ * <p>
+ * Writes are serialized through the lock of the configuration, while reads never block.
+ * Every write publishes a new immutable tree which shares all untouched sections and nodes with the previous one,
+ * so readers (including asynchronous tasks) always observe a consistent {@link #snapshot()}.
+ * <p>
+ * Lists and maps handed out by {@link #get(String)} and {@link #get(String, Class)} are shallow copies, changing them
+ * doesn't affect the configuration. Sections nested within them, and the values of {@link #getValues(boolean)},
+ * are the unmodifiable nodes of the current snapshot.
+ * <p>
+ * Inject it through {@link ConfigurableEditorQuery#join(Configurable)} to use it in place of the default implementation.
+ */
+public class ConcurrentJsonConfiguration extends JsonConfiguration {
+
+	private volatile Map<String, Object> root;
+
+	public ConcurrentJsonConfiguration(@NotNull File folder, @NotNull String name, @Nullable String directory) {
+		super(folder, name, directory);
+		lock.lock();
+		try {
+			this.root = freezeSection(json);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Get a consistent, immutable view of this entire configuration.
+	 * <p>
+	 * The returned tree is never modified, later writes publish a new one instead.
+	 *
+	 * @return the current root of this configuration.
+	 */
+	public @NotNull Map<String, Object> snapshot() {
+		return root;
+	}
+
+	@Override
+	protected Map<?, ?> view() {
+		// the super constructor reads/saves before our fields are assigned.
+		Map<String, Object> root = this.root;
+		return root != null ? root : json;
+	}
+
+	@Override
+	protected void setRoot(@NotNull JSONObject json) {
+		lock.lock();
+		try {
+			super.setRoot(json);
+			root = freezeSection(json);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void set(String key, Object o) {
+		lock.lock();
+		try {
+			super.set(key, o);
+			String[] a = key.split("\\.");
+			root = assoc(root, a, 0, lookup(json, a));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Object get(String key) {
+		return thaw(super.get(key));
+	}
+
+	@Override
+	public <T> T get(String key, Class<T> type) {
+		T t = super.get(key, type);
+		return t instanceof Map || t instanceof List ? type.cast(thaw(t)) : t;
+	}
+
+	/**
+	 * @return the value the tree holds at exactly the given path, null if there is none.
+	 */
+	static @Nullable Object lookup(Map<?, ?> tree, String[] path) {
+		Object node = tree;
+		for (String k : path) {
+			if (!(node instanceof Map)) return null;
+			node = ((Map<?, ?>) node).get(k);
+		}
+		return node;
+	}
+
+	/**
+	 * Copy only the nodes along the given path, every sibling is shared with the previous tree.
+	 */
+	@SuppressWarnings("unchecked")
+	static Map<String, Object> assoc(@Nullable Object node, String[] path, int index, @Nullable Object value) {
+		Map<String, Object> copy = node instanceof Map ? new HashMap<>((Map<String, Object>) node) : new HashMap<>();
+		String k = path[index];
+		if (index == path.length - 1) {
+			if (value == null) {
+				copy.remove(k);
+			} else {
+				copy.put(k, freeze(value));
+			}
+		} else {
+			copy.put(k, assoc(copy.get(k), path, index + 1, value));
+		}
+		return Collections.unmodifiableMap(copy);
+	}
+
+	static Map<String, Object> freezeSection(@Nullable Map<?, ?> map) {
+		Map<String, Object> copy = new HashMap<>();
+		if (map != null) {
+			map.forEach((k, v) -> copy.put(String.valueOf(k), freeze(v)));
+		}
+		return Collections.unmodifiableMap(copy);
+	}
+
+	static Object freeze(Object o) {
+		if (o instanceof Map) {
+			return freezeSection((Map<?, ?>) o);
+		}
+		if (o instanceof Collection) {
+			List<Object> copy = new ArrayList<>(((Collection<?>) o).size());
+			for (Object element : (Collection<?>) o) {
+				copy.add(freeze(element));
+			}
+			return Collections.unmodifiableList(copy);
+		}
+		return o;
+	}
+
+	/**
+	 * Only the top level is copied, nested sections stay shared with the snapshot instead of being copied on every read.
+	 *
+	 * @return a modifiable copy of a frozen node, so callers can change what they got like with any other configuration.
+	 */
+	static Object thaw(Object o) {
+		if (o instanceof Map) {
+			return new HashMap<>((Map<?, ?>) o);
+		}
+		if (o instanceof List) {
+			return new ArrayList<>((List<?>) o);
+		}
+		return o;
+	}
+
+}
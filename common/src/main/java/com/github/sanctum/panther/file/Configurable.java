@@ -9,10 +9,8 @@ import com.github.sanctum.panther.container.PantherMap;
 import com.github.sanctum.panther.file.handler.EditorHandle;
 import com.github.sanctum.panther.file.handler.NonExistentParentException;
 import com.github.sanctum.panther.util.MapDecompression;
-import com.github.sanctum.panther.util.OrdinalProcedure;
 import com.github.sanctum.panther.util.PantherLogger;
 import com.github.sanctum.panther.util.SimpleAsynchronousTask;
-import com.github.sanctum.panther.util.TypeAdapter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -20,13 +18,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -46,10 +45,15 @@ import org.jetbrains.annotations.Nullable;
  */
 public abstract class Configurable implements MemorySpace, Root {
 
-	protected static final Map<String, JsonAdapterInput<?>> serializers = new HashMap<>();
+	// mutate through registerClass only, it invalidates the resolution cache in JsonAdapterLookup.
+	protected static final Map<String, JsonAdapterInput<?>> serializers = new ConcurrentHashMap<>();
 	protected static final PantherCollection<Handle> handlers = new PantherList<>();
-	protected final Map<String, MemorySpace> memory = new HashMap<>();
+	protected final Map<String, MemorySpace> memory = new ConcurrentHashMap<>();
 	protected final PantherMap<Class<?>, Generic> processors = new PantherEntryMap<>();
+	private final AtomicLong modifications = new AtomicLong();
+	private volatile long persisted;
+	// hash of the backing file as last loaded or saved, tells our own saves apart from external changes.
+	volatile byte[] digest;
 
 	/**
 	 * @param processor an element used for internal object parsing.
@@ -65,6 +69,44 @@ public abstract class Configurable implements MemorySpace, Root {
 		this.processors.remove(processor.getClass());
 	}
 
+	/**
+	 * Get the amount of times the contents of this configuration have changed in memory.
+	 *
+	 * @return the current modification count.
+	 */
+	public final long getModificationCount() {
+		return modifications.get();
+	}
+
+	/**
+	 * Check if this configuration holds changes that haven't been saved to its backing file yet.
+	 *
+	 * <p>Implementations that don't track their modifications are never considered dirty.</p>
+	 *
+	 * @return true if there are unsaved changes.
+	 */
+	public boolean isDirty() {
+		return modifications.get() != persisted;
+	}
+
+	/**
+	 * Record a change to the contents of this configuration.
+	 *
+	 * @return the new modification count.
+	 */
+	protected final long markModified() {
+		return modifications.incrementAndGet();
+	}
+
+	/**
+	 * Record that the contents as of the given modification count now match the backing file.
+	 *
+	 * @param modificationCount the modification count that was read before persisting.
+	 */
+	protected final void markPersisted(long modificationCount) {
+		this.persisted = modificationCount;
+	}
+
 	/**
 	 * @param key
 	 * @return
@@ -796,6 +838,7 @@ public abstract class Configurable implements MemorySpace, Root {
 				if (d == null)
 					throw new InvalidJsonAdapterException("NodePointer context missing, JSON object serialization requires either an alias or class.");
 				serializers.put(alias, new JsonAdapterInput.Impl<>(d));
+				JsonAdapterLookup.invalidate();
 			} else
 				throw new InvalidJsonAdapterException("NodePointer annotation missing, JSON object serialization requires it.");
 		} catch (Exception e) {
@@ -868,6 +911,7 @@ public abstract class Configurable implements MemorySpace, Root {
 				} else {
 					serializers.put(alias, new JsonAdapterInput.Impl<>(d.getDeclaredConstructor().newInstance()));
 				}
+				JsonAdapterLookup.invalidate();
 			} else
 				throw new InvalidJsonAdapterException("NodePointer annotation missing, JSON object serialization requires it.");
 		} catch (Exception e) {
@@ -885,11 +929,19 @@ public abstract class Configurable implements MemorySpace, Root {
 	 * @return The desired Json element adapter or null if nonexistent.
 	 */
 	public static <V> JsonAdapter<V> getAdapter(@NotNull Class<V> type) {
-		return serializers.entrySet().stream().filter(e -> e.getKey().equals(type.getName()) || type.isAssignableFrom(e.getValue().getSerializationSignature())).map(Map.Entry::getValue).map(c -> (JsonAdapter<V>) c).findFirst().orElse(null);
+		Map.Entry<String, JsonAdapterInput<?>> entry = JsonAdapterLookup.resolve(type);
+		return entry != null ? (JsonAdapter<V>) entry.getValue() : null;
 	}
 
+	/**
+	 * Search for the element adapter annotated with the given pointer.
+	 *
+	 * @param pointer The {@link com.github.sanctum.panther.file.Node.Pointer} value of the adapter.
+	 * @param <V>     The adapter type.
+	 * @return The desired Json element adapter or null if nonexistent.
+	 */
 	public static <V> JsonAdapter<V> getAdapter(@NotNull String pointer) {
-		return serializers.values().stream().filter(jsonAdapterInput -> pointer.equals(OrdinalProcedure.select(jsonAdapterInput, 24).cast(TypeAdapter.STRING))).map(c -> (JsonAdapter<V>) c).findFirst().orElse(null);
+		return (JsonAdapter<V>) JsonAdapterLookup.resolve(pointer);
 	}
 
 	public static void addHandle(@NotNull Configurable.Handle handler) {
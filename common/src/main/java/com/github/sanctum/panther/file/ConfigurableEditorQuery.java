@@ -5,9 +5,8 @@ import com.github.sanctum.panther.container.PantherMap;
 import com.google.common.collect.ImmutableList;
 import java.io.File;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,8 +14,8 @@ import org.jetbrains.annotations.Nullable;
  * Encapsulates a plugin for quick and easy file locating/management.
  */
 public class ConfigurableEditorQuery {
-	// Outer key = plugin name. Inner key = "d;n" where d and n represent the respective fields
-	static final PantherMap<String, Map<String, Configurable.Editor>> CACHE = new PantherEntryMap<>();
+	// Key = "h;d;n" where h is the plugin name and d and n represent the respective fields
+	static final EditorCache CACHE = new EditorCache(1024, 30, TimeUnit.MINUTES);
 	static final PantherMap<String, ConfigurableEditorQuery> REGISTRY = new PantherEntryMap<>();
 
 	private final Configurable.Host host;
@@ -41,10 +40,37 @@ public class ConfigurableEditorQuery {
 	 * @return a list of all cached configurable editors.
 	 */
 	public List<Configurable.Editor> gather() {
-		return Optional.ofNullable(CACHE.get(host.getName()))
-				.map(Map::values)
-				.map(ImmutableList::copyOf)
-				.orElse(ImmutableList.of());
+		return ImmutableList.copyOf(CACHE.values(host.getName()));
+	}
+
+	/**
+	 * Exempt an editor from eviction, useful for system files that are accessed constantly.
+	 * <p>
+	 * Pinned editors don't count towards the cache size limit.
+	 *
+	 * @param editor the editor to keep cached.
+	 */
+	public void pin(@NotNull Configurable.Editor editor) {
+		CACHE.pin(editor);
+	}
+
+	/**
+	 * Allow a previously pinned editor to be evicted again.
+	 *
+	 * @param editor the editor to release.
+	 */
+	public void unpin(@NotNull Configurable.Editor editor) {
+		CACHE.unpin(editor);
+	}
+
+	/**
+	 * Check if an editor is currently exempt from eviction.
+	 *
+	 * @param editor the editor to check.
+	 * @return true if the editor is pinned.
+	 */
+	public boolean isPinned(@NotNull Configurable.Editor editor) {
+		return CACHE.isPinned(editor);
 	}
 
 	/**
@@ -100,13 +126,6 @@ public class ConfigurableEditorQuery {
 		return get(name, null, data);
 	}
 
-	<T> T test(T o) {
-		if (o != null) {
-			System.out.println("Grabbing cached editor");
-		}
-		return o;
-	}
-
 	/**
 	 * Retrieve a Config instance via its name and description.
 	 * <p>
@@ -125,10 +144,18 @@ public class ConfigurableEditorQuery {
 			throw new IllegalArgumentException("Name cannot be empty!");
 		}
 		// See CACHE declaration above for new key strategy
-		return Optional.ofNullable(CACHE.get(host.getName()))
-				.map(m -> test(m.get(fixNullDescription(desc) + ';' + name)))
-				.filter(m -> type.getClass().isAssignableFrom(m.getRoot().getType().getClass()))
-				.orElseGet(() -> cacheFileManager(new Configurable.Editor(host, name, desc, type)));
+		return Optional.ofNullable(CACHE.get(EditorCache.key(host.getName(), desc, name)))
+				.filter(m -> isOf(m, type))
+				.orElseGet(() -> {
+					Configurable.Editor editor = new Configurable.Editor(host, name, desc, type);
+					Configurable.Editor cached = cacheFileManager(editor);
+					// the key doesn't include the extension, a file of another type may hold the slot.
+					return isOf(cached, type) ? cached : editor;
+				});
+	}
+
+	private static boolean isOf(Configurable.Editor editor, Configurable.Extension type) {
+		return type.getClass().isAssignableFrom(editor.getRoot().getType().getClass());
 	}
 
 	/**
@@ -172,13 +199,97 @@ public class ConfigurableEditorQuery {
 	}
 
 	static Configurable.Editor cacheFileManager(Configurable.Editor fileManager) {
-		if (CACHE.containsKey(fileManager.host.getName())) {
-			Map<String, Configurable.Editor> map = CACHE.get(fileManager.host.getName());
-			map.putIfAbsent(fixNullDescription(fileManager.configuration.getDirectory()) + ";" + fileManager.configuration.getName(), fileManager);
-		} else {
-			CACHE.put(fileManager.host.getName(), new ConcurrentHashMap<>()).put(fileManager.configuration.getDirectory() + ';' + fileManager.configuration.getName(), fileManager);
+		// another thread may have cached the same file meanwhile, everyone has to share its editor.
+		return CACHE.putIfAbsent(fileManager);
+	}
+
+	/**
+	 * Bound the global editor cache.
+	 * <p>
+	 * Once exceeded, the least recently used editors are evicted first. Editors holding
+	 * unsaved changes are written back to their file when evicted.
+	 *
+	 * @param maximumSize       the maximum amount of unpinned editors to keep.
+	 * @param expireAfterAccess the idle time after which an editor is evicted, 0 to disable.
+	 * @param unit              the unit of the idle time.
+	 */
+	public static void setCacheLimits(int maximumSize, long expireAfterAccess, @NotNull TimeUnit unit) {
+		CACHE.limit(maximumSize, expireAfterAccess, unit);
+	}
+
+	/**
+	 * Evict all editors that have been idle for too long right away.
+	 * <p>
+	 * This otherwise happens on regular cache access.
+	 */
+	public static void cleanUp() {
+		CACHE.cleanUp();
+	}
+
+	/**
+	 * @return a point in time snapshot of the global editor cache statistics.
+	 */
+	public static @NotNull Statistics getCacheStatistics() {
+		return CACHE.stats();
+	}
+
+	/**
+	 * Hit, miss and eviction counts of the global editor cache.
+	 */
+	public static final class Statistics {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long evictionCount;
+		private final int size;
+
+		Statistics(long hitCount, long missCount, long evictionCount, int size) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+		}
+
+		/**
+		 * @return the amount of lookups that found a cached editor.
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * @return the amount of lookups that had to create a new editor.
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the amount of editors evicted so far.
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * @return the amount of editors currently cached, pinned ones included.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return the ratio of lookups that were hits or 1.0 if there were none yet.
+		 */
+		public double getHitRate() {
+			long total = hitCount + missCount;
+			return total == 0 ? 1.0 : (double) hitCount / total;
+		}
+
+		@Override
+		public String toString() {
+			return "Statistics{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", size=" + size + '}';
 		}
-		return fileManager;
 	}
 
 }
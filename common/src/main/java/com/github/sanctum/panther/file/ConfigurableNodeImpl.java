@@ -12,7 +12,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 class ConfigurableNodeImpl implements com.github.sanctum.panther.file.Node, Primitive {
@@ -32,11 +31,7 @@ class ConfigurableNodeImpl implements com.github.sanctum.panther.file.Node, Prim
 
     @Override
     public Node getNode(String node) {
-        return (com.github.sanctum.panther.file.Node) Optional.ofNullable(config.memory.get(this.key + "." + node)).orElseGet(() -> {
-            Node n = new ConfigurableNodeImpl(key + "." + node, config);
-            config.memory.put(n.getPath(), n);
-            return n;
-        });
+        return (com.github.sanctum.panther.file.Node) config.memory.computeIfAbsent(this.key + "." + node, k -> new ConfigurableNodeImpl(k, config));
     }
 
     @Override
@@ -263,7 +258,7 @@ class ConfigurableNodeImpl implements com.github.sanctum.panther.file.Node, Prim
 
     @Override
     public String toJson() {
-        return JsonAdapter.getJsonBuilder().setPrettyPrinting().enableComplexMapKeySerialization().serializeNulls().setLenient().serializeSpecialFloatingPointValues().create().toJson(get());
+        return JsonInstances.get(JsonInstances.Style.NODE).toJson(get());
     }
 
     @Override
@@ -0,0 +1,55 @@
+package com.github.sanctum.panther.file;
+
+import com.github.sanctum.panther.event.Vent;
+import java.util.Collections;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called asynchronously once a {@link ConfigurableWatcher} reloaded a configuration after its backing file changed.
+ * <p>
+ * Only fired if at least one value actually changed.
+ */
+public class ConfigurableReloadEvent extends Vent {
+
+	private final Configurable configurable;
+	private final Set<String> changedKeys;
+
+	public ConfigurableReloadEvent(@NotNull Host host, @NotNull Configurable configurable, @NotNull Set<String> changedKeys) {
+		super(host, State.IMMUTABLE, true);
+		this.configurable = configurable;
+		this.changedKeys = Collections.unmodifiableSet(changedKeys);
+	}
+
+	/**
+	 * @return the configuration that was reloaded.
+	 */
+	public @NotNull Configurable getConfigurable() {
+		return configurable;
+	}
+
+	/**
+	 * Get the deep keys whose values were added, removed or modified.
+	 *
+	 * @return the changed keys.
+	 */
+	public @NotNull Set<String> getChangedKeys() {
+		return changedKeys;
+	}
+
+	/**
+	 * Check if a key or any key beneath it changed.
+	 *
+	 * @param key the key to check.
+	 * @return true if the key or one of its children changed.
+	 */
+	public boolean hasChanged(@NotNull String key) {
+		if (changedKeys.contains(key)) return true;
+		String prefix = key + '.';
+		for (String changed : changedKeys) {
+			if (changed.startsWith(prefix)) return true;
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,293 @@
+package com.github.sanctum.panther.file;
+
+import com.github.sanctum.panther.event.Vent;
+import com.github.sanctum.panther.util.PantherLogger;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+/**
+ * Reloads cached configurations as soon as their backing files are modified externally.
+ * <p>
+ * Each watched host has its data folder (and the sub-directories within) observed through a {@link WatchService}.
+ * Bursts of file events are debounced, files whose content hash didn't change are skipped and the new
+ * contents are parsed on the watcher thread before being swapped in. A {@link ConfigurableReloadEvent}
+ * listing the changed keys is called afterwards.
+ * <p>
+ * Configurations holding unsaved changes are never reloaded, as that would discard them.
+ */
+public final class ConfigurableWatcher implements Closeable {
+
+	private final long debounce;
+	private final Map<WatchKey, Vent.Host> keys = new ConcurrentHashMap<>();
+	private final Map<Path, Pending> pending = new HashMap<>();
+	private WatchService service;
+	private Thread thread;
+
+	public ConfigurableWatcher() {
+		this(250, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @param debounce the quiet period to wait for after the last change of a file.
+	 * @param unit     the unit of the quiet period.
+	 */
+	public ConfigurableWatcher(long debounce, @NotNull TimeUnit unit) {
+		if (debounce < 0) throw new IllegalArgumentException("Debounce must not be negative!");
+		this.debounce = unit.toMillis(debounce);
+	}
+
+	/**
+	 * Start watching the data folder of a host.
+	 * <p>
+	 * Only configurations cached through {@link Configurable#view(Configurable.Host)} get reloaded.
+	 *
+	 * @param host the host to watch.
+	 * @throws IOException if the data folder can't be watched.
+	 */
+	public synchronized void watch(@NotNull Vent.Host host) throws IOException {
+		if (service == null) {
+			service = FileSystems.getDefault().newWatchService();
+			thread = new Thread(this::run, "Panther-Configurable-Watcher");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		Path folder = host.getDataFolder().toPath().toAbsolutePath().normalize();
+		Files.createDirectories(folder);
+		register(host, folder);
+		try (DirectoryStream<Path> directories = Files.newDirectoryStream(folder, Files::isDirectory)) {
+			for (Path directory : directories) {
+				register(host, directory);
+			}
+		}
+		for (Configurable.Editor editor : ConfigurableEditorQuery.CACHE.values(host.getName())) {
+			Configurable configurable = editor.getRoot();
+			Path path = pathOf(configurable);
+			if (configurable.digest == null && path != null) {
+				configurable.digest = hash(path);
+			}
+		}
+	}
+
+	/**
+	 * Stop watching the data folder of a host.
+	 *
+	 * @param host the host to stop watching.
+	 */
+	public synchronized void unwatch(@NotNull Vent.Host host) {
+		Iterator<Map.Entry<WatchKey, Vent.Host>> iterator = keys.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<WatchKey, Vent.Host> entry = iterator.next();
+			if (entry.getValue().getName().equals(host.getName())) {
+				entry.getKey().cancel();
+				iterator.remove();
+			}
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (service != null) {
+			keys.clear();
+			service.close();
+			thread.interrupt();
+			service = null;
+			thread = null;
+		}
+	}
+
+	private void register(Vent.Host host, Path directory) throws IOException {
+		keys.put(directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY), host);
+	}
+
+	private void run() {
+		WatchService watchService;
+		synchronized (this) {
+			watchService = service;
+		}
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				WatchKey key = pending.isEmpty() ? watchService.take() : watchService.poll(nextDelay(), TimeUnit.MILLISECONDS);
+				if (key != null) {
+					queue(key);
+				}
+				flush();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException ignored) {
+			// closed
+		}
+	}
+
+	private void queue(WatchKey key) {
+		Vent.Host host = keys.get(key);
+		Path directory = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (host == null || event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+			Path path = directory.resolve((Path) event.context());
+			if (Files.isDirectory(path)) {
+				if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && directory.equals(host.getDataFolder().toPath().toAbsolutePath().normalize())) {
+					try {
+						synchronized (this) {
+							if (service != null) register(host, path);
+						}
+					} catch (IOException e) {
+						PantherLogger.getInstance().getLogger().warning("- Unable to watch directory " + path);
+					}
+				}
+				continue;
+			}
+			pending.put(path, new Pending(host, System.currentTimeMillis() + debounce));
+		}
+		if (!key.reset()) {
+			keys.remove(key);
+		}
+	}
+
+	private long nextDelay() {
+		long next = Long.MAX_VALUE;
+		for (Pending p : pending.values()) {
+			next = Math.min(next, p.due);
+		}
+		return Math.max(1, next - System.currentTimeMillis());
+	}
+
+	private void flush() {
+		long now = System.currentTimeMillis();
+		Iterator<Map.Entry<Path, Pending>> iterator = pending.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Path, Pending> entry = iterator.next();
+			if (entry.getValue().due > now) continue;
+			iterator.remove();
+			try {
+				reload(entry.getValue().host, entry.getKey());
+			} catch (Exception e) {
+				PantherLogger.getInstance().getLogger().severe("- Unable to hot reload " + entry.getKey());
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void reload(Vent.Host host, Path path) throws Exception {
+		Configurable configurable = null;
+		for (Configurable.Editor editor : ConfigurableEditorQuery.CACHE.values(host.getName())) {
+			if (path.equals(pathOf(editor.getRoot()))) {
+				configurable = editor.getRoot();
+				break;
+			}
+		}
+		if (configurable == null) return;
+		byte[] content;
+		try {
+			content = Files.readAllBytes(path);
+		} catch (NoSuchFileException e) {
+			return;
+		}
+		byte[] hash = digest(content);
+		// our own saves record the hash of what they wrote, so they end here.
+		if (Arrays.equals(hash, configurable.digest)) return;
+		long modificationCount = configurable.getModificationCount();
+		if (configurable.isDirty()) {
+			ignored(configurable);
+			return;
+		}
+		Map<String, Object> before = configurable.getValues(true);
+		if (configurable instanceof JsonConfiguration) {
+			// parse the bytes we already hashed instead of reading the file a second time.
+			JSONObject json;
+			try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+				json = (JSONObject) new JSONParser().parse(reader);
+			}
+			// a write landing while we parsed wins over the file.
+			if (!((JsonConfiguration) configurable).replaceRoot(json, modificationCount)) {
+				ignored(configurable);
+				return;
+			}
+		} else {
+			configurable.reload();
+		}
+		configurable.digest = hash;
+		Map<String, Object> after = configurable.getValues(true);
+		Set<String> changed = new HashSet<>();
+		before.forEach((k, v) -> {
+			if (!Objects.equals(v, after.get(k))) changed.add(k);
+		});
+		for (String k : after.keySet()) {
+			if (!before.containsKey(k)) changed.add(k);
+		}
+		if (!changed.isEmpty()) {
+			new Vent.Call<ConfigurableReloadEvent>(new ConfigurableReloadEvent(host, configurable, changed)) {
+			}.run();
+		}
+	}
+
+	private static void ignored(Configurable configurable) {
+		PantherLogger.getInstance().getLogger().warning("- Ignoring external changes to '" + configurable.getName() + "', it has unsaved changes.");
+	}
+
+	static @Nullable Path pathOf(@NotNull Configurable configurable) {
+		File file = configurable.getParent();
+		return file != null ? file.toPath().toAbsolutePath().normalize() : null;
+	}
+
+	static @Nullable byte[] hash(@NotNull Path path) {
+		try {
+			return digest(Files.readAllBytes(path));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	static byte[] digest(byte[] content) {
+		return sha256().digest(content);
+	}
+
+	static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static final class Pending {
+
+		final Vent.Host host;
+		final long due;
+
+		Pending(Vent.Host host, long due) {
+			this.host = host;
+			this.due = due;
+		}
+
+	}
+
+}
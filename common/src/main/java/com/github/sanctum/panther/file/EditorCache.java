@@ -0,0 +1,225 @@
+package com.github.sanctum.panther.file;
+
+import com.github.sanctum.panther.util.PantherLogger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A size and idle-time bounded LRU cache of {@link Configurable.Editor} instances.
+ * <p>
+ * Keys follow the "h;d;n" strategy where h, d and n represent the host name, directory and file name.
+ * Pinned editors are held separately and never evicted. Dirty configurations are saved when evicted,
+ * lookups of a key that is still being written back wait for it so a new editor never loads stale content.
+ */
+final class EditorCache {
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Configurable.Editor> pinned = new HashMap<>();
+	private final Set<String> writing = new HashSet<>();
+	private int maximumSize;
+	private long expireAfterAccess;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	EditorCache(int maximumSize, long expireAfterAccess, @NotNull TimeUnit unit) {
+		limit(maximumSize, expireAfterAccess, unit);
+	}
+
+	static String key(@NotNull String host, @Nullable String directory, @NotNull String name) {
+		return host + ';' + ConfigurableEditorQuery.fixNullDescription(directory) + ';' + name;
+	}
+
+	static String key(@NotNull Configurable.Editor editor) {
+		return key(editor.host.getName(), editor.configuration.getDirectory(), editor.configuration.getName());
+	}
+
+	void limit(int maximumSize, long expireAfterAccess, @NotNull TimeUnit unit) {
+		if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be positive!");
+		if (expireAfterAccess < 0) throw new IllegalArgumentException("Expiration must not be negative!");
+		List<Configurable.Editor> evicted;
+		synchronized (this) {
+			this.maximumSize = maximumSize;
+			this.expireAfterAccess = unit.toNanos(expireAfterAccess);
+			evicted = sweep(System.nanoTime());
+		}
+		writeBack(evicted);
+	}
+
+	@Nullable Configurable.Editor get(@NotNull String key) {
+		Configurable.Editor result;
+		List<Configurable.Editor> evicted;
+		synchronized (this) {
+			long now = System.nanoTime();
+			result = pinned.get(key);
+			if (result == null) {
+				Entry entry = entries.get(key);
+				if (entry != null) {
+					entry.accessed = now;
+					result = entry.editor;
+				}
+			}
+			if (result != null) {
+				hits++;
+			} else {
+				misses++;
+				// the caller loads the file next, let a pending write-back land first.
+				awaitWriteBack(key);
+			}
+			evicted = sweep(now);
+		}
+		writeBack(evicted);
+		return result;
+	}
+
+	/**
+	 * @return the editor already cached under the same key or the provided one if it was inserted.
+	 */
+	@NotNull Configurable.Editor putIfAbsent(@NotNull Configurable.Editor editor) {
+		String key = key(editor);
+		Configurable.Editor result;
+		List<Configurable.Editor> evicted;
+		synchronized (this) {
+			long now = System.nanoTime();
+			result = pinned.get(key);
+			if (result == null) {
+				Entry entry = entries.get(key);
+				if (entry == null) {
+					awaitWriteBack(key);
+					entries.put(key, new Entry(editor, now));
+					result = editor;
+				} else {
+					entry.accessed = now;
+					result = entry.editor;
+				}
+			}
+			evicted = sweep(now);
+		}
+		writeBack(evicted);
+		return result;
+	}
+
+	synchronized void pin(@NotNull Configurable.Editor editor) {
+		String key = key(editor);
+		entries.remove(key);
+		pinned.put(key, editor);
+	}
+
+	void unpin(@NotNull Configurable.Editor editor) {
+		List<Configurable.Editor> evicted;
+		synchronized (this) {
+			String key = key(editor);
+			if (!pinned.remove(key, editor)) return;
+			long now = System.nanoTime();
+			entries.put(key, new Entry(editor, now));
+			evicted = sweep(now);
+		}
+		writeBack(evicted);
+	}
+
+	synchronized boolean isPinned(@NotNull Configurable.Editor editor) {
+		return pinned.get(key(editor)) == editor;
+	}
+
+	synchronized List<Configurable.Editor> values(@NotNull String host) {
+		String prefix = host + ';';
+		List<Configurable.Editor> list = new ArrayList<>();
+		pinned.forEach((k, v) -> {
+			if (k.startsWith(prefix)) list.add(v);
+		});
+		entries.forEach((k, v) -> {
+			if (k.startsWith(prefix)) list.add(v.editor);
+		});
+		return list;
+	}
+
+	void cleanUp() {
+		List<Configurable.Editor> evicted;
+		synchronized (this) {
+			evicted = sweep(System.nanoTime());
+		}
+		writeBack(evicted);
+	}
+
+	synchronized ConfigurableEditorQuery.Statistics stats() {
+		return new ConfigurableEditorQuery.Statistics(hits, misses, evictions, entries.size() + pinned.size());
+	}
+
+	/**
+	 * Remove expired entries first, then the least recently used ones until we fit within the maximum size.
+	 */
+	private List<Configurable.Editor> sweep(long now) {
+		List<Configurable.Editor> evicted = null;
+		Iterator<Entry> iterator = entries.values().iterator();
+		int size = entries.size();
+		while (iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			boolean expired = expireAfterAccess > 0 && now - eldest.accessed >= expireAfterAccess;
+			if (!expired && size <= maximumSize) break;
+			iterator.remove();
+			size--;
+			evictions++;
+			if (evicted == null) evicted = new ArrayList<>();
+			evicted.add(eldest.editor);
+			writing.add(key(eldest.editor));
+		}
+		return evicted;
+	}
+
+	/**
+	 * Must be called while holding the monitor, it is released while waiting.
+	 */
+	private void awaitWriteBack(String key) {
+		boolean interrupted = false;
+		while (writing.contains(key)) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Saves evicted editors outside the monitor, so slow disks don't block unrelated lookups.
+	 */
+	private void writeBack(@Nullable List<Configurable.Editor> evicted) {
+		if (evicted == null) return;
+		for (Configurable.Editor editor : evicted) {
+			Configurable configurable = editor.getRoot();
+			try {
+				if (configurable.isDirty() && !configurable.save()) {
+					PantherLogger.getInstance().getLogger().warning("- Unable to write back evicted configuration '" + configurable.getName() + "'.");
+				}
+			} finally {
+				synchronized (this) {
+					writing.remove(key(editor));
+					notifyAll();
+				}
+			}
+		}
+	}
+
+	static final class Entry {
+
+		final Configurable.Editor editor;
+		long accessed;
+
+		Entry(Configurable.Editor editor, long accessed) {
+			this.editor = editor;
+			this.accessed = accessed;
+		}
+
+	}
+
+}
@@ -2,6 +2,7 @@ package com.github.sanctum.panther.file;
 
 import com.github.sanctum.panther.container.PantherMap;
 import com.github.sanctum.panther.util.MapDecompression;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import java.util.Map;
@@ -58,6 +59,17 @@ public interface JsonAdapter<T> {
 		return builder;
 	}
 
+	/**
+	 * Get a shared json instance equivalent to {@code getJsonBuilder().create()}.
+	 * <p>
+	 * The instance is only rebuilt when new adapters get registered, prefer it over creating your own.
+	 *
+	 * @return a json instance aware of all registered adapters.
+	 */
+	static Gson getJson() {
+		return JsonInstances.get(JsonInstances.Style.PLAIN);
+	}
+
 	/**
 	 * @see Configurable#registerClass(Class)
 	 */
@@ -0,0 +1,186 @@
+package com.github.sanctum.panther.file;
+
+import com.github.sanctum.panther.util.OrdinalProcedure;
+import com.github.sanctum.panther.util.TypeAdapter;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A class keyed resolution cache for registered {@link JsonAdapterInput}s.
+ * <p>
+ * Results, including the absence of an adapter, are remembered per requested type and
+ * discarded as soon as the registered adapters change. Being backed by {@link ClassValue}
+ * no class or class loader is kept alive by this cache.
+ */
+final class JsonAdapterLookup {
+
+	private static final ClassValue<Slot> SLOTS = new ClassValue<Slot>() {
+		@Override
+		protected Slot computeValue(Class<?> type) {
+			return new Slot();
+		}
+	};
+	private static final AtomicInteger VERSION = new AtomicInteger();
+	private static volatile Pointers pointers = new Pointers(-1, Collections.emptyMap());
+
+	private JsonAdapterLookup() {
+	}
+
+	/**
+	 * Discard every cached resolution, called whenever an adapter is (un)registered.
+	 */
+	static void invalidate() {
+		VERSION.incrementAndGet();
+	}
+
+	/**
+	 * @return the current version of the registered adapters.
+	 */
+	static int version() {
+		return VERSION.get();
+	}
+
+	/**
+	 * Find the adapter registered under the name of the type or, failing that, one whose signature is assignable to it
+	 * or one of its supertypes.
+	 *
+	 * @param type the type to resolve.
+	 * @return the alias and adapter or null if none matches.
+	 */
+	static @Nullable Map.Entry<String, JsonAdapterInput<?>> resolve(@NotNull Class<?> type) {
+		Slot slot = SLOTS.get(type);
+		int v = VERSION.get();
+		Resolution r = slot.named;
+		if (r == null || r.version != v) {
+			r = new Resolution(v, find(type, true));
+			slot.named = r;
+		}
+		return r.entry;
+	}
+
+	/**
+	 * Find an adapter whose signature is assignable to the type.
+	 * <p>
+	 * Supertypes are not considered, the result has to fit into an array of the type.
+	 *
+	 * @param type the type to resolve.
+	 * @return the alias and adapter or null if none matches.
+	 */
+	static @Nullable Map.Entry<String, JsonAdapterInput<?>> resolveAssignable(@NotNull Class<?> type) {
+		Slot slot = SLOTS.get(type);
+		int v = VERSION.get();
+		Resolution r = slot.assignable;
+		if (r == null || r.version != v) {
+			r = new Resolution(v, find(type, false));
+			slot.assignable = r;
+		}
+		return r.entry;
+	}
+
+	/**
+	 * Find the adapter with the given {@link Node.Pointer} value.
+	 *
+	 * @param pointer the pointer value.
+	 * @return the matching adapter or null.
+	 */
+	static @Nullable JsonAdapterInput<?> resolve(@NotNull String pointer) {
+		int v = VERSION.get();
+		Pointers p = pointers;
+		if (p.version != v) {
+			Map<String, JsonAdapterInput<?>> map = new HashMap<>();
+			for (JsonAdapterInput<?> input : Configurable.serializers.values()) {
+				String value = OrdinalProcedure.select(input, 24).cast(TypeAdapter.STRING);
+				if (value != null) map.putIfAbsent(value, input);
+			}
+			p = new Pointers(v, map);
+			pointers = p;
+		}
+		return p.index.get(pointer);
+	}
+
+	/**
+	 * Exact matches (alias or signature) win over merely assignable signatures, which in turn win over
+	 * an adapter of the nearest supertype when resolving by name.
+	 */
+	private static Map.Entry<String, JsonAdapterInput<?>> find(Class<?> type, boolean byName) {
+		Map.Entry<String, JsonAdapterInput<?>> assignable = null;
+		for (Map.Entry<String, JsonAdapterInput<?>> entry : Configurable.serializers.entrySet()) {
+			Class<?> signature = entry.getValue().getSerializationSignature();
+			if ((byName && entry.getKey().equals(type.getName())) || signature == type) {
+				return entry;
+			}
+			if (assignable == null && signature != null && type.isAssignableFrom(signature)) {
+				assignable = entry;
+			}
+		}
+		return assignable != null || !byName ? assignable : findSupertype(type);
+	}
+
+	/**
+	 * Walk the superclasses and interfaces breadth first, so subclasses (anonymous ones included)
+	 * are handled by the adapter of the closest registered supertype. {@link Object} is never matched.
+	 */
+	private static Map.Entry<String, JsonAdapterInput<?>> findSupertype(Class<?> type) {
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		Set<Class<?>> seen = new HashSet<>();
+		enqueueSupertypes(type, queue, seen);
+		while (!queue.isEmpty()) {
+			Class<?> supertype = queue.poll();
+			for (Map.Entry<String, JsonAdapterInput<?>> entry : Configurable.serializers.entrySet()) {
+				if (entry.getKey().equals(supertype.getName()) || entry.getValue().getSerializationSignature() == supertype) {
+					return entry;
+				}
+			}
+			enqueueSupertypes(supertype, queue, seen);
+		}
+		return null;
+	}
+
+	private static void enqueueSupertypes(Class<?> type, Deque<Class<?>> queue, Set<Class<?>> seen) {
+		Class<?> superclass = type.getSuperclass();
+		if (superclass != null && superclass != Object.class && seen.add(superclass)) {
+			queue.add(superclass);
+		}
+		for (Class<?> i : type.getInterfaces()) {
+			if (seen.add(i)) queue.add(i);
+		}
+	}
+
+	static final class Slot {
+		volatile Resolution named;
+		volatile Resolution assignable;
+	}
+
+	static final class Resolution {
+
+		final int version;
+		final Map.Entry<String, JsonAdapterInput<?>> entry;
+
+		Resolution(int version, Map.Entry<String, JsonAdapterInput<?>> entry) {
+			this.version = version;
+			this.entry = entry;
+		}
+
+	}
+
+	static final class Pointers {
+
+		final int version;
+		final Map<String, JsonAdapterInput<?>> index;
+
+		Pointers(int version, Map<String, JsonAdapterInput<?>> index) {
+			this.version = version;
+			this.index = index;
+		}
+
+	}
+
+}
@@ -14,16 +14,23 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.json.simple.JSONArray;
@@ -42,11 +49,13 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	private final String directory;
 	// We use json simple because they inherit java collection types for easy casting.
 	protected PantherMap<String, Object> map;
-	protected JSONObject json;
-	private final JSONParser parser;
+	protected volatile JSONObject json;
+	// guards every change of the tree, including swapping in a reloaded one.
+	protected final ReentrantLock lock = new ReentrantLock();
+	private volatile boolean compact;
+	private volatile Flattened flattened;
 
 	public JsonConfiguration(@NotNull File folder, @NotNull String name, @Nullable String directory) {
-		this.parser = new JSONParser();
 		this.name = name;
 		this.directory = directory;
 		if (!folder.exists()) {
@@ -84,11 +93,16 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 
 	public boolean load(@NotNull File file) throws Exception {
 		if (file.exists()) {
+			MessageDigest md = ConfigurableWatcher.sha256();
 			FileInputStream fileInputStream = new FileInputStream(file);
-			InputStreamReader reader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
-			json = (JSONObject) parser.parse(reader);
+			InputStreamReader reader = new InputStreamReader(new DigestInputStream(fileInputStream, md), StandardCharsets.UTF_8);
+			load(reader);
+			// the parser may stop short of trailing whitespace, hash the whole file regardless.
+			char[] rest = new char[256];
+			while (reader.read(rest) != -1) ;
 			reader.close();
 			fileInputStream.close();
+			digest = md.digest();
 			/*
 			StringBuilder builder = new StringBuilder();
 			while (scanner.hasNext()) {
@@ -98,11 +112,58 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 			 */
 			return true;
 		} else {
-			json = new JSONObject();
+			setRoot(new JSONObject());
 		}
 		return false;
 	}
 
+	/**
+	 * Replace the contents of this configuration with the json read from the given source.
+	 * <p>
+	 * The source is parsed completely before the current contents are swapped out,
+	 * concurrent readers see either the old or the new tree.
+	 *
+	 * @param reader the json source.
+	 * @throws Exception if the source couldn't be read or parsed.
+	 */
+	public void load(@NotNull Reader reader) throws Exception {
+		setRoot((JSONObject) new JSONParser().parse(reader));
+	}
+
+	/**
+	 * Swap in a freshly loaded tree.
+	 *
+	 * @param json the new root object.
+	 */
+	protected void setRoot(@NotNull JSONObject json) {
+		lock.lock();
+		try {
+			this.json = json;
+			markPersisted(markModified());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Swap in a freshly loaded tree, unless this configuration changed since the given modification count
+	 * or holds unsaved changes.
+	 *
+	 * @param json              the new root object.
+	 * @param modificationCount the modification count read before loading.
+	 * @return false if the tree was left alone.
+	 */
+	boolean replaceRoot(@NotNull JSONObject json, long modificationCount) {
+		lock.lock();
+		try {
+			if (getModificationCount() != modificationCount || isDirty()) return false;
+			setRoot(json);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public void reload() {
 		try {
@@ -118,15 +179,38 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 		}
 	}
 
+	/**
+	 * Toggle saving without indentation or line breaks.
+	 * <p>
+	 * Compact files are smaller and faster to write but harder to edit by hand.
+	 *
+	 * @param compact whether to save in compact form.
+	 */
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
+	/**
+	 * @return true if this configuration is saved in compact form.
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
 	@Override
 	public boolean save() {
+		long modificationCount = getModificationCount();
 		try {
-			Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
-			Gson g = JsonAdapter.getJsonBuilder().setPrettyPrinting().disableHtmlEscaping().enableComplexMapKeySerialization().serializeNulls().serializeSpecialFloatingPointValues().create();
-			g.toJson(json, Map.class, writer);
+			// hash what we write, so a watcher doesn't take our own save for an external change.
+			MessageDigest md = ConfigurableWatcher.sha256();
+			Writer writer = new OutputStreamWriter(new DigestOutputStream(new FileOutputStream(file), md), StandardCharsets.UTF_8);
+			Gson g = JsonInstances.get(compact ? JsonInstances.Style.COMPACT : JsonInstances.Style.PRETTY);
+			g.toJson(view(), Map.class, writer);
 			//g.toJson(JsonIntermediate.toJsonObject(map), writer);
 			writer.flush();
+			digest = md.digest();
 			writer.close();
+			markPersisted(modificationCount);
 			return true;
 		} catch (Exception ex) {
 			PantherLogger.getInstance().getLogger().severe("- An object of unknown origin was attempted to be saved and failed.");
@@ -177,6 +261,18 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	@Override
 	@SuppressWarnings("unchecked")
 	public void set(String key, Object o) {
+		lock.lock();
+		try {
+			write(key, o);
+		} finally {
+			// counted once the tree changed, so a deep index built meanwhile can't pass for current.
+			markModified();
+			lock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void write(String key, Object o) {
 		String[] a = key.split("\\.");
 		String k = a[Math.max(0, a.length - 1)];
 		JSONObject ob = json;
@@ -212,12 +308,12 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	Object deserializeType(java.lang.reflect.Type type, boolean array, Object object) {
 		Object target = object;
 		try {
-			Class<?> cl = Class.forName(type.getTypeName());
-			if (target instanceof JSONObject) {
-				JSONObject j = (JSONObject) object;
-				Gson g = JsonAdapter.getJsonBuilder().create();
+			Class<?> cl = type instanceof Class ? (Class<?>) type : Class.forName(type.getTypeName());
+			if (target instanceof Map) {
+				Map<String, Object> j = (Map<String, Object>) object;
+				Gson g = JsonAdapter.getJson();
 
-				Map.Entry<String, JsonAdapterInput<?>> d = serializers.entrySet().stream().filter(de -> de.getKey().equals(cl.getTypeName()) || cl.isAssignableFrom(de.getValue().getSerializationSignature())).findFirst().orElse(null);
+				Map.Entry<String, JsonAdapterInput<?>> d = JsonAdapterLookup.resolve(cl);
 				if (d != null) {
 					if (j.containsKey(d.getKey())) {
 						Object ob = j.get(d.getKey());
@@ -235,9 +331,9 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 				}
 				return target;
 			}
-			if (target instanceof JSONArray && array) {
-				JSONArray j = (JSONArray) object;
-				Map.Entry<String, JsonAdapterInput<?>> d = serializers.entrySet().stream().filter(de -> cl.isAssignableFrom(de.getValue().getSerializationSignature())).findFirst().orElse(null);
+			if (target instanceof List && array) {
+				List<?> j = (List<?>) object;
+				Map.Entry<String, JsonAdapterInput<?>> d = JsonAdapterLookup.resolveAssignable(cl);
 				if (d != null) {
 					Object[] copy = (Object[]) Array.newInstance(cl, j.size());
 					for (int i = 0; i < j.size(); i++) {
@@ -254,16 +350,25 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 		return target;
 	}
 
+	/**
+	 * Get the object tree read operations are resolved against.
+	 *
+	 * @return the root object of this configuration.
+	 */
+	protected Map<?, ?> view() {
+		return json;
+	}
+
 	@Override
 	public Object get(String key) {
 		String[] a = key.split("\\.");
 		String k = a[Math.max(0, a.length - 1)];
-		JSONObject o = json;
+		Map<?, ?> o = view();
 		for (int i = 0; i < a.length - 1; i++) {
 			String pathKey = a[i];
 			Object obj = o.get(pathKey);
-			if (obj instanceof JSONObject) {
-				JSONObject js = (JSONObject) obj;
+			if (obj instanceof Map) {
+				Map<?, ?> js = (Map<?, ?>) obj;
 				if (js.containsKey(k)) {
 					return js.get(k);
 				} else {
@@ -282,12 +387,12 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 		Object ob = null;
 		String[] a = key.split("\\.");
 		String k = a[Math.max(0, a.length - 1)];
-		JSONObject o = json;
+		Map<?, ?> o = view();
 		for (int i = 0; i < a.length - 1; i++) {
 			String pathKey = a[i];
 			Object obj = o.get(pathKey);
-			if (obj instanceof JSONObject) {
-				JSONObject js = (JSONObject) obj;
+			if (obj instanceof Map) {
+				Map<?, ?> js = (Map<?, ?>) obj;
 				if (js.containsKey(k)) {
 					ob = deserializeType(type, false, js.get(k));
 					stop = true;
@@ -295,13 +400,13 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 					o = js;
 				}
 			} else {
-				ob = deserializeType(type.isArray() ? type.getComponentType() : type, obj instanceof JSONArray, obj);
+				ob = deserializeType(type.isArray() ? type.getComponentType() : type, obj instanceof List, obj);
 				stop = true;
 			}
 		}
 		if (!stop) {
 			Object object = o.get(k);
-			ob = deserializeType(type.isArray() ? type.getComponentType() : type, (object instanceof JSONArray), object);
+			ob = deserializeType(type.isArray() ? type.getComponentType() : type, (object instanceof List), object);
 		}
 		if (ob == null) return null;
 		if (!type.isArray() && !type.isAssignableFrom(ob.getClass())) return null;
@@ -310,11 +415,29 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 
 	@Override
 	public com.github.sanctum.panther.file.Node getNode(String key) {
-		return (com.github.sanctum.panther.file.Node) memory.entrySet().stream().filter(n -> n.getKey().equals(key)).map(Map.Entry::getValue).findFirst().orElseGet(() -> {
-			Node n = new Node(key, this);
-			memory.put(n.getPath(), n);
-			return n;
-		});
+		return (com.github.sanctum.panther.file.Node) memory.computeIfAbsent(key, k -> new Node(k, this));
+	}
+
+	/**
+	 * Get the decompressed keys and values of this configuration, only rebuilt once its modification count moved on
+	 * or another tree got published through {@link #view()}.
+	 * <p>
+	 * Changes made directly to maps obtained from this configuration aren't counted, use {@link #set(String, Object)}.
+	 *
+	 * @return an unmodifiable map of every deep key and its value.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<String, Object> flatten() {
+		long modificationCount = getModificationCount();
+		// the count can move on before a new tree is published, so the tree the index was built from must match too.
+		Map<?, ?> view = view();
+		Flattened flattened = this.flattened;
+		if (flattened == null || flattened.modificationCount != modificationCount || flattened.view != view) {
+			Map<String, Object> values = new LinkedHashMap<>();
+			MapDecompression.getInstance().iterate(((Map<String, Object>) view).entrySet(), '.', null).forEachRemaining(e -> values.put(e.getKey(), e.getValue()));
+			this.flattened = flattened = new Flattened(modificationCount, view, Collections.unmodifiableMap(values));
+		}
+		return flattened.values;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -322,9 +445,9 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	public Set<String> getKeys(boolean deep) {
 		Set<String> keys;
 		if (deep) {
-			return MapDecompression.getInstance().decompress((Set<Map.Entry<String, Object>>) json.entrySet(), '.', null).toSet();
+			return new HashSet<>(flatten().keySet());
 		} else {
-			keys = new HashSet<>((Set<String>) json.keySet());
+			keys = new HashSet<>(((Map<String, Object>) view()).keySet());
 		}
 		return keys;
 	}
@@ -334,12 +457,9 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	public Map<String, Object> getValues(boolean deep) {
 		Map<String, Object> map = new HashMap<>();
 		if (deep) {
-			return MapDecompression.getInstance().decompress((Set<Map.Entry<String, Object>>) json.entrySet(), '.', null).toMap();
+			map.putAll(flatten());
 		} else {
-			json.entrySet().forEach(e -> {
-				Map.Entry<String, Object> entry = (Map.Entry<String, Object>) e;
-				map.put(entry.getKey(), entry.getValue());
-			});
+			((Map<String, Object>) view()).forEach(map::put);
 		}
 		return map;
 	}
@@ -428,20 +548,20 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 	public boolean isNode(String key) {
 		String[] a = key.split("\\.");
 		String k = a[Math.max(0, a.length - 1)];
-		JSONObject o = json;
+		Map<?, ?> o = view();
 		for (int i = 0; i < a.length - 1; i++) {
 			String pathKey = a[i];
 			Object obj = o.get(pathKey);
-			if (obj instanceof JSONObject) {
-				JSONObject js = (JSONObject) obj;
+			if (obj instanceof Map) {
+				Map<?, ?> js = (Map<?, ?>) obj;
 				if (js.containsKey(k)) {
-					return js.get(k) instanceof JSONObject;
+					return js.get(k) instanceof Map;
 				} else {
 					o = js;
 				}
 			}
 		}
-		return o.get(k) instanceof JSONObject;
+		return o.get(k) instanceof Map;
 	}
 
 	@Override
@@ -543,4 +663,18 @@ public class JsonConfiguration extends AbstractJsonConfiguration {
 		return (List<Long>) l;
 	}
 
+	static final class Flattened {
+
+		final long modificationCount;
+		final Map<?, ?> view;
+		final Map<String, Object> values;
+
+		Flattened(long modificationCount, Map<?, ?> view, Map<String, Object> values) {
+			this.modificationCount = modificationCount;
+			this.view = view;
+			this.values = values;
+		}
+
+	}
+
 }
@@ -0,0 +1,68 @@
+package com.github.sanctum.panther.file;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared, preconfigured {@link Gson} instances holding every registered {@link JsonAdapter}.
+ * <p>
+ * Gson instances are immutable and thread-safe, so each style is only rebuilt once the registered adapters change.
+ */
+final class JsonInstances {
+
+	private static final AtomicReferenceArray<Cached> CACHE = new AtomicReferenceArray<>(Style.values().length);
+
+	private JsonInstances() {
+	}
+
+	static @NotNull Gson get(@NotNull Style style) {
+		int version = JsonAdapterLookup.version();
+		Cached cached = CACHE.get(style.ordinal());
+		if (cached == null || cached.version != version) {
+			cached = new Cached(version, style.options.apply(JsonAdapter.getJsonBuilder()).create());
+			CACHE.set(style.ordinal(), cached);
+		}
+		return cached.gson;
+	}
+
+	enum Style {
+		/**
+		 * Registered adapters only.
+		 */
+		PLAIN(b -> b),
+		/**
+		 * Human-readable configuration files.
+		 */
+		PRETTY(b -> b.setPrettyPrinting().disableHtmlEscaping().enableComplexMapKeySerialization().serializeNulls().serializeSpecialFloatingPointValues()),
+		/**
+		 * Configuration files without any indentation.
+		 */
+		COMPACT(b -> b.disableHtmlEscaping().enableComplexMapKeySerialization().serializeNulls().serializeSpecialFloatingPointValues()),
+		/**
+		 * Text views of a single node.
+		 */
+		NODE(b -> b.setPrettyPrinting().enableComplexMapKeySerialization().serializeNulls().setLenient().serializeSpecialFloatingPointValues());
+
+		private final UnaryOperator<GsonBuilder> options;
+
+		Style(UnaryOperator<GsonBuilder> options) {
+			this.options = options;
+		}
+	}
+
+	static final class Cached {
+
+		final int version;
+		final Gson gson;
+
+		Cached(int version, Gson gson) {
+			this.version = version;
+			this.gson = gson;
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.github.sanctum.panther.net.http;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+
+/**
+ * A GET or POST request sent through the asynchronous client of a {@link HttpClientPool}.
+ * <p>
+ * Failed attempts and responses of an overloaded server are retried with a doubling backoff.
+ * The deadline covers waiting for a free slot, every attempt and the backoff in between, each attempt only gets the time left.
+ */
+final class HttpAsyncRequest implements FutureCallback<SimpleHttpResponse> {
+
+    private static volatile ScheduledExecutorService timer;
+
+    final CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+    private final HttpClientPool pool;
+    private final URI uri;
+    private final HttpResponseCache.Entry cached;
+    private final Map<String, String> headers;
+    private final HttpBody body;
+    private final int retries;
+    private final long backoff;
+    private final long deadline;
+    private int attempt;
+    private Future<SimpleHttpResponse> running;
+
+    private HttpAsyncRequest(final HttpClientPool pool, final URI uri, final HttpOptions options, final HttpResponseCache.Entry cached,
+                             final Map<String, String> headers, final HttpBody body) {
+        this.pool = pool;
+        this.uri = uri;
+        this.cached = cached;
+        this.headers = headers;
+        this.body = body;
+        this.retries = options.retries;
+        this.backoff = options.backoff;
+        this.deadline = options.timeout < 0 ? -1 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.timeout);
+    }
+
+    /**
+     * Sends a GET request, cancelling the returned future aborts it.
+     *
+     * @param cached a cached response to only get a new one if it's different from, or null
+     * @return a future completed with the response to the last attempt
+     */
+    static CompletableFuture<SimpleHttpResponse> send(final URI uri, final HttpOptions options, final HttpResponseCache.Entry cached) {
+        return send(new HttpAsyncRequest(options.pool(), uri, options, cached, Collections.emptyMap(), null), options);
+    }
+
+    /**
+     * Sends a POST request, cancelling the returned future aborts it.
+     *
+     * @return a future completed with the response to the last attempt
+     */
+    static CompletableFuture<SimpleHttpResponse> post(final URI uri, final HttpOptions options, final Map<String, String> headers, final HttpBody body) {
+        return send(new HttpAsyncRequest(options.pool(), uri, options, null, headers, body), options);
+    }
+
+    private static CompletableFuture<SimpleHttpResponse> send(final HttpAsyncRequest request, final HttpOptions options) {
+        if (options.timeout >= 0) {
+            ScheduledFuture<?> timeout = timer().schedule(() -> request.result.completeExceptionally(
+                    new TimeoutException("Request to " + request.uri + " timed out after " + options.timeout + "ms")), options.timeout, TimeUnit.MILLISECONDS);
+            request.result.whenComplete((r, t) -> timeout.cancel(false));
+        }
+        request.result.whenComplete((r, t) -> {
+            if (t != null) {
+                request.abort();
+            }
+        });
+        request.pool.acquire(request::start);
+        return request.result;
+    }
+
+    /**
+     * @return false if there's nothing left to send
+     */
+    private boolean start() {
+        if (result.isDone()) {
+            return false;
+        }
+        SimpleRequestBuilder builder = body == null ? SimpleRequestBuilder.get(uri) : SimpleRequestBuilder.post(uri);
+        headers.forEach(builder::setHeader);
+        if (deadline != -1) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return false;
+            }
+            builder.setRequestConfig(pool.requestConfig(remaining));
+        }
+        SimpleHttpRequest request = builder.build();
+        HttpResponseCache.validate(request, cached);
+        try {
+            Future<SimpleHttpResponse> running = body == null ? pool.getAsyncClient().execute(request, this)
+                    : pool.getAsyncClient().execute(new BasicRequestProducer(request, body.producer()), SimpleResponseConsumer.create(), this);
+            synchronized (this) {
+                this.running = running;
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return false;
+        }
+        if (result.isCompletedExceptionally()) {
+            abort();
+        }
+        return true;
+    }
+
+    /**
+     * Cancels the running attempt, its connection gets closed rather than reused so this is only meant for failures.
+     */
+    private void abort() {
+        Future<SimpleHttpResponse> running;
+        synchronized (this) {
+            running = this.running;
+        }
+        if (running != null) {
+            running.cancel(true);
+        }
+    }
+
+    @Override
+    public void completed(final SimpleHttpResponse response) {
+        pool.release();
+        if (!retryable(response.getCode()) || !retry()) {
+            result.complete(response);
+        }
+    }
+
+    @Override
+    public void failed(final Exception ex) {
+        pool.release();
+        if (!retry()) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    @Override
+    public void cancelled() {
+        pool.release();
+        result.cancel(false);
+    }
+
+    private static boolean retryable(final int code) {
+        return code == 408 || code == 429 || code == 502 || code == 503 || code == 504;
+    }
+
+    /**
+     * @return false if the last attempt has been made or the next one would start past the deadline
+     */
+    private boolean retry() {
+        if (attempt >= retries || result.isDone()) {
+            return false;
+        }
+        long delay = backoff << Math.min(attempt, 30);
+        if (deadline != -1 && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) - deadline >= 0) {
+            return false;
+        }
+        attempt++;
+        timer().schedule(() -> pool.acquire(this::start), delay, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private static ScheduledExecutorService timer() {
+        ScheduledExecutorService timer = HttpAsyncRequest.timer;
+        if (timer == null) {
+            synchronized (HttpAsyncRequest.class) {
+                timer = HttpAsyncRequest.timer;
+                if (timer == null) {
+                    HttpAsyncRequest.timer = timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "Panther-Http-Timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return timer;
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.github.sanctum.panther.net.http;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.StreamChannel;
+import org.apache.hc.core5.http.nio.entity.AbstractCharAsyncEntityProducer;
+
+/**
+ * The body of a request, encoded piece by piece while it's being sent rather than as a whole beforehand.
+ * <p>
+ * The pieces are read again for every attempt, so the sequences they come from must stay unchanged until the request is done.
+ */
+final class HttpBody {
+
+    private final List<Supplier<Stream<? extends CharSequence>>> parts = new ArrayList<>();
+    private final ContentType contentType;
+
+    private HttpBody(final ContentType contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return a body sending each line followed by a line break
+     */
+    static HttpBody text(final Collection<? extends CharSequence> lines, final String mimeType) {
+        HttpBody body = new HttpBody(ContentType.create(mimeType, StandardCharsets.UTF_8));
+        body.parts.add(() -> lines.stream().flatMap(line -> Stream.of(line, "\n")));
+        return body;
+    }
+
+    /**
+     * @return an empty url encoded form
+     */
+    static HttpBody form() {
+        return new HttpBody(ContentType.APPLICATION_FORM_URLENCODED.withCharset(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds a field to this form, its value being each line followed by a line break.
+     */
+    void field(final String name, final Collection<? extends CharSequence> lines) {
+        String prefix = (parts.isEmpty() ? "" : "&") + encode(name) + "=";
+        parts.add(() -> Stream.concat(Stream.of(prefix), lines.stream().flatMap(line -> Stream.of(encode(line), "%0A"))));
+    }
+
+    /**
+     * Adds a field to this form.
+     */
+    void field(final String name, final String value) {
+        String field = (parts.isEmpty() ? "" : "&") + encode(name) + "=" + encode(value);
+        parts.add(() -> Stream.of(field));
+    }
+
+    private static String encode(final CharSequence value) {
+        try {
+            return URLEncoder.encode(value.toString(), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Iterator<? extends CharSequence> pieces() {
+        return parts.stream().<CharSequence>flatMap(Supplier::get).iterator();
+    }
+
+    /**
+     * @return an entity for the classic client
+     */
+    HttpEntity entity() {
+        return new AbstractHttpEntity(contentType, null, true) {
+
+            @Override
+            public void writeTo(final OutputStream outStream) throws IOException {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outStream, StandardCharsets.UTF_8));
+                for (Iterator<? extends CharSequence> pieces = pieces(); pieces.hasNext(); ) {
+                    writer.append(pieces.next());
+                }
+                writer.flush();
+            }
+
+            @Override
+            public InputStream getContent() {
+                Iterator<? extends CharSequence> pieces = pieces();
+                // encodes the pieces only as they're read, like writeTo does.
+                return new InputStream() {
+
+                    private ByteBuffer piece = ByteBuffer.allocate(0);
+
+                    private boolean next() {
+                        while (!piece.hasRemaining()) {
+                            if (!pieces.hasNext()) {
+                                return false;
+                            }
+                            piece = StandardCharsets.UTF_8.encode(CharBuffer.wrap(pieces.next()));
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public int read() {
+                        return next() ? piece.get() & 0xFF : -1;
+                    }
+
+                    @Override
+                    public int read(final byte[] b, final int off, final int len) {
+                        if (len == 0) {
+                            return 0;
+                        }
+                        if (!next()) {
+                            return -1;
+                        }
+                        int read = Math.min(len, piece.remaining());
+                        piece.get(b, off, read);
+                        return read;
+                    }
+
+                    @Override
+                    public int available() {
+                        return piece.remaining();
+                    }
+                };
+            }
+
+            @Override
+            public long getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return true;
+            }
+
+            @Override
+            public boolean isStreaming() {
+                return false;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * @return a producer for the asynchronous client, meant for a single attempt
+     */
+    AsyncEntityProducer producer() {
+        return new AbstractCharAsyncEntityProducer(8192, 4096, contentType) {
+
+            private Iterator<? extends CharSequence> pieces;
+            private CharBuffer piece;
+
+            @Override
+            protected int availableData() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            protected void produceData(final StreamChannel<CharBuffer> channel) throws IOException {
+                if (pieces == null) {
+                    pieces = pieces();
+                }
+                while (true) {
+                    if (piece != null) {
+                        channel.write(piece);
+                        if (piece.hasRemaining()) {
+                            // the channel is full, we get called again once it has room.
+                            return;
+                        }
+                    }
+                    if (!pieces.hasNext()) {
+                        channel.endStream();
+                        return;
+                    }
+                    piece = CharBuffer.wrap(pieces.next());
+                }
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+
+            @Override
+            public void failed(final Exception cause) {
+            }
+
+            @Override
+            public void releaseResources() {
+                super.releaseResources();
+                pieces = null;
+                piece = null;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,352 @@
+package com.github.sanctum.panther.net.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * A pool of kept-alive HTTP connections shared by every getter using it.
+ * <p>
+ * Getters use the {@link #getShared() shared pool} unless another one is selected through
+ * the {@code setPool} method of the {@link HttpUtils} builders.
+ * Connections are reused per route, idle ones get closed after the keep-alive period.
+ * <p>
+ * Asynchronous downloads use a separate set of connections served by a few I/O threads, which is only created once needed.
+ * Past the limit of concurrent asynchronous requests, further ones wait in line without occupying a thread.
+ *
+ * @since 1.3.5
+ */
+public final class HttpClientPool implements Closeable {
+
+    private static HttpClientPool shared;
+
+    private final PoolingHttpClientConnectionManager manager;
+    private final CloseableHttpClient client;
+    private final RequestConfig config;
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final int maxConcurrent;
+    private final Timeout responseTimeout;
+    private final TimeValue keepAlive;
+    private volatile CloseableHttpAsyncClient asyncClient;
+    private final Queue<BooleanSupplier> waiting = new ArrayDeque<>();
+    private int running;
+    private volatile boolean closed;
+
+    private HttpClientPool(final Builder builder) {
+        this.maxTotal = builder.maxTotal;
+        this.maxPerRoute = builder.maxPerRoute;
+        this.maxConcurrent = builder.maxConcurrent;
+        this.responseTimeout = builder.responseTimeout;
+        this.keepAlive = builder.keepAlive;
+        this.config = RequestConfig.custom()
+                .setConnectTimeout(builder.connectTimeout)
+                .setResponseTimeout(builder.responseTimeout)
+                .setConnectionRequestTimeout(builder.requestTimeout)
+                .setConnectionKeepAlive(builder.keepAlive)
+                .build();
+        this.manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(builder.maxTotal)
+                .setMaxConnPerRoute(builder.maxPerRoute)
+                .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(builder.responseTimeout).build())
+                .build();
+        this.client = HttpClients.custom()
+                .setConnectionManager(manager)
+                .setDefaultRequestConfig(config)
+                .evictExpiredConnections()
+                .evictIdleConnections(builder.keepAlive)
+                .build();
+    }
+
+    /**
+     * Gets the pool used by getters which weren't given one, it's created on first use.
+     *
+     * @return the shared pool
+     */
+    public static synchronized HttpClientPool getShared() {
+        if (shared == null || shared.closed) {
+            shared = builder().build();
+        }
+        return shared;
+    }
+
+    /**
+     * Creates a new builder for a pool separate from the shared one.
+     *
+     * @return a builder with the default settings
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    CloseableHttpClient getClient() {
+        if (closed) {
+            throw new IllegalStateException("This connection pool has been closed");
+        }
+        return client;
+    }
+
+    CloseableHttpAsyncClient getAsyncClient() {
+        CloseableHttpAsyncClient asyncClient = this.asyncClient;
+        if (asyncClient == null) {
+            synchronized (this) {
+                asyncClient = this.asyncClient;
+                if (asyncClient == null && !closed) {
+                    asyncClient = HttpAsyncClients.custom()
+                            .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                                    .setMaxConnTotal(maxTotal)
+                                    .setMaxConnPerRoute(maxPerRoute)
+                                    .build())
+                            .setIOReactorConfig(IOReactorConfig.custom().setSoTimeout(responseTimeout).build())
+                            .setDefaultRequestConfig(requestConfig(-1))
+                            .setThreadFactory(threads("Panther-Http-Dispatch"))
+                            // retries are up to the getter, see HttpAsyncRequest.
+                            .disableAutomaticRetries()
+                            .evictExpiredConnections()
+                            .evictIdleConnections(keepAlive)
+                            .build();
+                    asyncClient.start();
+                    this.asyncClient = asyncClient;
+                }
+            }
+        }
+        if (closed) {
+            throw new IllegalStateException("This connection pool has been closed");
+        }
+        return asyncClient;
+    }
+
+    /**
+     * @param remaining the milliseconds left until the deadline of a request, or -1 if it has none
+     * @return the request settings of asynchronous requests, waiting for a connection as long as the deadline allows
+     */
+    RequestConfig requestConfig(final long remaining) {
+        if (remaining < 0) {
+            // waiting for a connection doesn't hold up a thread, so requests queue up until one is free.
+            return RequestConfig.copy(config).setConnectionRequestTimeout(Timeout.DISABLED).build();
+        }
+        Timeout timeout = Timeout.ofMilliseconds(Math.max(1, remaining));
+        return RequestConfig.copy(config)
+                .setConnectionRequestTimeout(timeout)
+                .setConnectTimeout(min(config.getConnectTimeout(), timeout))
+                .setResponseTimeout(min(config.getResponseTimeout(), timeout))
+                .build();
+    }
+
+    private static Timeout min(final Timeout a, final Timeout b) {
+        return a == null || a.compareTo(b) > 0 ? b : a;
+    }
+
+    /**
+     * Runs an asynchronous request once fewer than the maximum amount are running.
+     *
+     * @param request starts the request, returning false if it's no longer needed, otherwise {@link #release()} must follow once it's done
+     */
+    void acquire(final BooleanSupplier request) {
+        synchronized (waiting) {
+            if (running >= maxConcurrent) {
+                waiting.add(request);
+                return;
+            }
+            running++;
+        }
+        if (!request.getAsBoolean()) {
+            release();
+        }
+    }
+
+    /**
+     * Starts the next waiting request, or frees up the slot of a completed one.
+     */
+    void release() {
+        while (true) {
+            BooleanSupplier next;
+            synchronized (waiting) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+            if (next.getAsBoolean()) {
+                return;
+            }
+        }
+    }
+
+    private static ThreadFactory threads(final String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Checks whether this pool has been closed.
+     *
+     * @return true if the connections of this pool have been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes every connection of this pool, waiting for running requests to complete.
+     * <p>
+     * Closing the shared pool makes the next getter using it create a new one.
+     */
+    @Override
+    public void close() throws IOException {
+        CloseableHttpAsyncClient asyncClient;
+        synchronized (this) {
+            closed = true;
+            asyncClient = this.asyncClient;
+        }
+        client.close(CloseMode.GRACEFUL);
+        manager.close(CloseMode.GRACEFUL);
+        if (asyncClient != null) {
+            asyncClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    /**
+     * The builder for {@link HttpClientPool} instances.
+     */
+    public static final class Builder {
+
+        private int maxTotal = 50;
+        private int maxPerRoute = 10;
+        private int maxConcurrent = 256;
+        private Timeout connectTimeout = Timeout.ofSeconds(10);
+        private Timeout responseTimeout = Timeout.ofSeconds(30);
+        private Timeout requestTimeout = Timeout.ofSeconds(10);
+        private TimeValue keepAlive = TimeValue.ofSeconds(60);
+
+        private Builder() {
+        }
+
+        /**
+         * Configures how many connections may be open at once, 50 by default.
+         *
+         * @param maxTotal the maximum amount of connections
+         * @return this builder instance
+         */
+        public Builder setMaxTotal(final int maxTotal) {
+            if (maxTotal < 1) {
+                throw new IllegalArgumentException("There must be at least one connection");
+            }
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Configures how many connections may be open to the same host at once, 10 by default.
+         *
+         * @param maxPerRoute the maximum amount of connections per route
+         * @return this builder instance
+         */
+        public Builder setMaxPerRoute(final int maxPerRoute) {
+            if (maxPerRoute < 1) {
+                throw new IllegalArgumentException("There must be at least one connection per route");
+            }
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        /**
+         * Configures how many asynchronous requests may run at once, 256 by default.
+         * <p>
+         * Further requests wait for one of them to complete, their deadline keeps running meanwhile.
+         *
+         * @param maxConcurrent the maximum amount of running asynchronous requests
+         * @return this builder instance
+         */
+        public Builder setMaxConcurrentRequests(final int maxConcurrent) {
+            if (maxConcurrent < 1) {
+                throw new IllegalArgumentException("There must be at least one concurrent request");
+            }
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+
+        /**
+         * Configures how long establishing a connection may take, 10 seconds by default.
+         *
+         * @param timeout the timeout
+         * @param unit    the unit of the timeout
+         * @return this builder instance
+         */
+        public Builder setConnectTimeout(final long timeout, final TimeUnit unit) {
+            this.connectTimeout = Timeout.of(timeout, unit);
+            return this;
+        }
+
+        /**
+         * Configures how long to wait for data of a response, 30 seconds by default.
+         *
+         * @param timeout the timeout
+         * @param unit    the unit of the timeout
+         * @return this builder instance
+         */
+        public Builder setResponseTimeout(final long timeout, final TimeUnit unit) {
+            this.responseTimeout = Timeout.of(timeout, unit);
+            return this;
+        }
+
+        /**
+         * Configures how long to wait for a free connection of the pool, 10 seconds by default.
+         *
+         * @param timeout the timeout
+         * @param unit    the unit of the timeout
+         * @return this builder instance
+         */
+        public Builder setRequestTimeout(final long timeout, final TimeUnit unit) {
+            this.requestTimeout = Timeout.of(timeout, unit);
+            return this;
+        }
+
+        /**
+         * Configures how long idle connections are kept open unless the server asks for less, 60 seconds by default.
+         *
+         * @param keepAlive the keep-alive period
+         * @param unit      the unit of the period
+         * @return this builder instance
+         */
+        public Builder setKeepAlive(final long keepAlive, final TimeUnit unit) {
+            this.keepAlive = TimeValue.of(keepAlive, unit);
+            return this;
+        }
+
+        /**
+         * Creates a new pool with the chosen settings.
+         *
+         * @return the new pool
+         */
+        public HttpClientPool build() {
+            return new HttpClientPool(this);
+        }
+
+    }
+
+}
@@ -1,9 +1,9 @@
 package com.github.sanctum.panther.net.http;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 class HttpConsumerImpl<T> extends HttpGetterImpl<T> implements HttpConsumer<T> {
 
@@ -13,9 +13,9 @@ class HttpConsumerImpl<T> extends HttpGetterImpl<T> implements HttpConsumer<T> {
 
 
     HttpConsumerImpl(final String url, final String subPath, final Map<String, String> arguments,
-                     final Function<String, T> dataBuilder, final List<Consumer<T>> consumers,
-                     final boolean restricted) {
-        super(url, subPath, arguments, dataBuilder);
+                     final ResponseParser<InputStream, T> parser, final List<Consumer<T>> consumers,
+                     final boolean restricted, final HttpOptions options) {
+        super(url, subPath, arguments, parser, options);
         this.consumers = consumers;
         this.restricted = restricted;
     }
@@ -35,6 +35,14 @@ class HttpConsumerImpl<T> extends HttpGetterImpl<T> implements HttpConsumer<T> {
         }
     }
 
+    @Override
+    protected void loaded(final T data) {
+        super.loaded(data);
+        synchronized (this) {
+            consumed = false;
+        }
+    }
+
     @Override
     public synchronized boolean isConsumed() {
         return restricted && consumed;
@@ -0,0 +1,101 @@
+package com.github.sanctum.panther.net.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Downloads in flight, so identical loads running at the same time share a single one.
+ * <p>
+ * Loads are identical if they request the same address through the same pool and cache. Whoever starts a download
+ * first performs it, everyone else joining meanwhile gets its body or failure. A download runs to its end even if
+ * the load which started it gets cancelled, as others may still be waiting for it.
+ */
+final class HttpFlight {
+
+    private static final ConcurrentHashMap<List<Object>, CompletableFuture<byte[]>> FLIGHTS = new ConcurrentHashMap<>();
+
+    private HttpFlight() {
+    }
+
+    static List<Object> key(final String uri, final HttpOptions options) {
+        return Arrays.asList(uri, options.pool(), options.cache);
+    }
+
+    /**
+     * Downloads on the calling thread, or waits for the identical download in flight.
+     *
+     * @return the body of the response
+     */
+    static byte[] join(final List<Object> key, final Download download) throws IOException {
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = FLIGHTS.putIfAbsent(key, flight);
+        if (running != null) {
+            try {
+                return running.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + key.get(0));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Download of " + key.get(0) + " failed", cause);
+            }
+        }
+        try {
+            byte[] body = download.run();
+            flight.complete(body);
+            return body;
+        } catch (IOException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            FLIGHTS.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts a download, or joins the identical download in flight.
+     *
+     * @return a future completed with the body of the response, cancelling it doesn't abort the download
+     */
+    static CompletableFuture<byte[]> joinAsync(final List<Object> key, final Supplier<CompletableFuture<byte[]>> download) {
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = FLIGHTS.putIfAbsent(key, flight);
+        if (running == null) {
+            running = flight;
+            CompletableFuture<byte[]> started;
+            try {
+                started = download.get();
+            } catch (RuntimeException e) {
+                started = new CompletableFuture<>();
+                started.completeExceptionally(e);
+            }
+            started.whenComplete((body, t) -> {
+                FLIGHTS.remove(key, flight);
+                if (t != null) {
+                    flight.completeExceptionally(t);
+                } else {
+                    flight.complete(body);
+                }
+            });
+        }
+        // every load gets its own future, so cancelling one doesn't affect the others.
+        return running.thenApply(body -> body);
+    }
+
+    @FunctionalInterface
+    interface Download {
+
+        byte[] run() throws IOException;
+
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.github.sanctum.panther.net.http;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Representation of an HTTP Data Downloader.
  * <p>
@@ -26,6 +29,17 @@ public interface HttpGetter<T> {
      */
     void load();
 
+    /**
+     * Downloads a new set of data without blocking the calling thread.
+     * <p>
+     * Cancelling the returned future aborts the download.
+     *
+     * @return a future completed with the intermediate result data once it's loaded
+     * @see HttpUtils.HttpGetterBuilder#setRetries(int, long, TimeUnit)
+     * @see HttpUtils.HttpGetterBuilder#setTimeout(long, TimeUnit)
+     */
+    CompletableFuture<T> loadAsync();
+
     /**
      * Gets the intermediate data.
      * This method needs the getter having loaded data already, which you can tell by {@link #isLoaded()}
@@ -1,20 +1,25 @@
 package com.github.sanctum.panther.net.http;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.net.URIBuilder;
 
 class HttpGetterImpl<T> implements HttpGetter<T> {
@@ -22,50 +27,52 @@ class HttpGetterImpl<T> implements HttpGetter<T> {
     protected final String url;
     protected final String subPath;
     protected final Map<String, String> arguments;
-    protected final Function<String, T> dataBuilder;
+    protected final ResponseParser<InputStream, T> parser;
+    protected final HttpOptions options;
     boolean loaded;
     T rawData;
 
-    public HttpGetterImpl(final String url, final String subPath, final Map<String, String> arguments, final Function<String, T> dataBuilder) {
+    public HttpGetterImpl(final String url, final String subPath, final Map<String, String> arguments, final ResponseParser<InputStream, T> parser, final HttpOptions options) {
         this.url = url;
         this.subPath = subPath;
         this.arguments = arguments;
-        this.dataBuilder = dataBuilder;
+        this.parser = parser;
+        this.options = options;
     }
 
     @Override
     public void load() {
         try {
-            CloseableHttpClient httpclient = HttpClients.createDefault();
-            //Create a request with selected target
-            HttpGet request = new HttpGet(url);
-            //Set the subpath of the page to our desired document
-            if (subPath != null) {
-                request.setPath(subPath);
-            }
-            //Set the URI Arguments
-            URI uri;
+            //Create a request with selected target, subpath and URI arguments
+            HttpGet request;
             try {
-                URIBuilder builder = new URIBuilder(request.getUri());
-                arguments.forEach(builder::addParameter);
-                uri = builder.build();
+                request = new HttpGet(uri());
             } catch (URISyntaxException e) {
                 e.printStackTrace();
                 return;
             }
-            request.setUri(uri);
-            //Try with resources - The connection of the request automatically gets closed when leaving this try block,
-            //especially in case of errors
-            try (CloseableHttpResponse response1 = httpclient.execute(request)) {
-                //Print status code. E.g. 404 NOT FOUND or 200 OK
-                System.out.println(response1.getCode() + " " + response1.getReasonPhrase());
-                HttpEntity entity1 = response1.getEntity();
-                BufferedReader connectionReader = new BufferedReader(new InputStreamReader(entity1.getContent(), StandardCharsets.UTF_8));
-                String toParse = connectionReader.lines().collect(Collectors.joining(System.lineSeparator()));
-
-                rawData = dataBuilder.apply(toParse);
-                synchronized (this) {
-                    loaded = true;
+            //Serve a fresh cached response, or ask the server whether a stale one is still up-to-date
+            HttpResponseCache cache = options.cache;
+            String key = request.getUri().toString();
+            HttpResponseCache.Entry cached = null;
+            if (cache != null) {
+                cached = cache.get(key);
+                byte[] fresh = cache.hit(cached);
+                if (fresh != null) {
+                    loaded(parse(fresh));
+                    return;
+                }
+                HttpResponseCache.validate(request, cached);
+            }
+            try {
+                if (options.coalescing) {
+                    //Identical loads running at the same time share a single download
+                    HttpResponseCache.Entry validated = cached;
+                    loaded(parse(HttpFlight.join(HttpFlight.key(key, options), () -> download(request, key, validated))));
+                } else if (cache != null) {
+                    loaded(parse(download(request, key, cached)));
+                } else {
+                    loaded(stream(request));
                 }
                 //Obligatory Exception handling since a lot can go wrong when working with network connections
             } catch (IOException e) {
@@ -78,6 +85,140 @@ class HttpGetterImpl<T> implements HttpGetter<T> {
         }
     }
 
+    /**
+     * Parses the response while it's being downloaded.
+     */
+    private T stream(final HttpGet request) throws IOException {
+        //Try with resources - The connection goes back to the pool when leaving this try block after reading the whole entity,
+        //in case of errors it gets closed instead
+        try (CloseableHttpResponse response1 = options.pool().getClient().execute(request)) {
+            HttpEntity entity1 = response1.getEntity();
+            if (entity1 == null) {
+                return parse(new byte[0]);
+            }
+            T data;
+            try (InputStream content = entity1.getContent()) {
+                data = parser.parse(content);
+            }
+            //Skip whatever the parser left unread
+            EntityUtils.consume(entity1);
+            return data;
+        }
+    }
+
+    /**
+     * Downloads the whole response, to be cached or shared.
+     */
+    private byte[] download(final HttpGet request, final String key, final HttpResponseCache.Entry cached) throws IOException {
+        try (CloseableHttpResponse response1 = options.pool().getClient().execute(request)) {
+            HttpEntity entity1 = response1.getEntity();
+            byte[] body = entity1 == null ? null : EntityUtils.toByteArray(entity1);
+            return options.cache != null ? options.cache.update(key, cached, response1, body) : body;
+        }
+    }
+
+    @Override
+    public CompletableFuture<T> loadAsync() {
+        URI uri;
+        try {
+            uri = uri();
+        } catch (URISyntaxException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        HttpResponseCache cache = options.cache;
+        String key = uri.toString();
+        // a response only stored in the directory is read off the calling thread.
+        CompletableFuture<HttpResponseCache.Entry> lookup = cache != null ? cache.getAsync(key) : CompletableFuture.completedFuture(null);
+        AtomicReference<CompletableFuture<byte[]>> started = new AtomicReference<>();
+        CompletableFuture<byte[]> download = lookup.thenCompose(cached -> {
+            byte[] fresh = cache != null ? cache.hit(cached) : null;
+            if (fresh != null) {
+                return CompletableFuture.completedFuture(fresh);
+            }
+            started.set(options.coalescing ? HttpFlight.joinAsync(HttpFlight.key(key, options), () -> downloadAsync(uri, key, cached))
+                    : downloadAsync(uri, key, cached));
+            return started.get();
+        });
+        // parse off the I/O threads of the client.
+        CompletableFuture<T> result = download.thenApplyAsync(body -> {
+            T data;
+            try {
+                data = parse(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            loaded(data);
+            return data;
+        });
+        result.whenComplete((data, t) -> {
+            if (t != null) {
+                download.cancel(false);
+                // cancelling the lookup doesn't reach a download it already started.
+                CompletableFuture<byte[]> running = started.get();
+                if (running != null) {
+                    running.cancel(false);
+                }
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<byte[]> downloadAsync(final URI uri, final String key, final HttpResponseCache.Entry cached) {
+        CompletableFuture<SimpleHttpResponse> request = HttpAsyncRequest.send(uri, options, cached);
+        HttpResponseCache cache = options.cache;
+        // the cache might have to access its directory, which doesn't belong on the I/O threads either.
+        CompletableFuture<byte[]> body = cache == null ? request.thenApply(SimpleHttpResponse::getBodyBytes)
+                : request.thenApplyAsync(response -> cache.update(key, cached, response, response.getBodyBytes()));
+        body.whenComplete((b, t) -> {
+            if (t != null) {
+                request.cancel(false);
+            }
+        });
+        return body;
+    }
+
+    private URI uri() throws URISyntaxException {
+        HttpGet request = new HttpGet(url);
+        //Set the subpath of the page to our desired document
+        if (subPath != null) {
+            request.setPath(subPath);
+        }
+        URIBuilder builder = new URIBuilder(request.getUri());
+        arguments.forEach(builder::addParameter);
+        return builder.build();
+    }
+
+    /**
+     * Parses a response which has already been downloaded as a whole.
+     */
+    private T parse(final byte[] body) throws IOException {
+        try (InputStream content = new ByteArrayInputStream(body == null ? new byte[0] : body)) {
+            return parser.parse(content);
+        }
+    }
+
+    /**
+     * Reads the whole response to a string first, joining its lines with the line separator of the system.
+     */
+    static <T> ResponseParser<InputStream, T> lines(final Function<String, T> dataBuilder) {
+        return content -> dataBuilder.apply(read(new InputStreamReader(content, StandardCharsets.UTF_8)));
+    }
+
+    private static String read(final Reader reader) throws IOException {
+        try (BufferedReader connectionReader = new BufferedReader(reader)) {
+            return connectionReader.lines().collect(Collectors.joining(System.lineSeparator()));
+        }
+    }
+
+    protected void loaded(final T data) {
+        rawData = data;
+        synchronized (this) {
+            loaded = true;
+        }
+    }
+
     @Override
     public T getData() {
         validateLoaded();
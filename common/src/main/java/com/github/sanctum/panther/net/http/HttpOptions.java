@@ -0,0 +1,30 @@
+package com.github.sanctum.panther.net.http;
+
+/**
+ * Settings of a getter besides its address, copied from the builder when a getter is built.
+ */
+final class HttpOptions {
+
+    HttpClientPool pool;
+    HttpResponseCache cache;
+    boolean coalescing;
+    int retries;
+    long backoff = 500;
+    long timeout = -1;
+
+    HttpClientPool pool() {
+        return pool != null ? pool : HttpClientPool.getShared();
+    }
+
+    HttpOptions copy() {
+        HttpOptions copy = new HttpOptions();
+        copy.pool = pool;
+        copy.cache = cache;
+        copy.coalescing = coalescing;
+        copy.retries = retries;
+        copy.backoff = backoff;
+        copy.timeout = timeout;
+        return copy;
+    }
+
+}
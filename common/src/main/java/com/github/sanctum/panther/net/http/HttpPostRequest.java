@@ -0,0 +1,105 @@
+package com.github.sanctum.panther.net.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.net.URIBuilder;
+
+/**
+ * A POST request built by a {@link HttpUtils.HttpPostBuilder}, sent through the clients of a {@link HttpClientPool}.
+ */
+final class HttpPostRequest {
+
+    private final String url;
+    private final String subPath;
+    private final Map<String, String> headers;
+    private final HttpBody body;
+    private final HttpOptions options;
+
+    HttpPostRequest(final String url, final String subPath, final Map<String, String> headers, final HttpBody body, final HttpOptions options) {
+        this.url = url;
+        this.subPath = subPath;
+        this.headers = headers;
+        this.body = body;
+        this.options = options;
+    }
+
+    String send() throws IOException {
+        HttpPost request;
+        try {
+            request = new HttpPost(uri());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+        headers.forEach(request::setHeader);
+        request.setEntity(body.entity());
+        //The connection goes back to the pool once the response has been read as a whole
+        try (CloseableHttpResponse response = options.pool().getClient().execute(request)) {
+            HttpEntity entity = response.getEntity();
+            String text;
+            try {
+                text = entity == null ? "" : EntityUtils.toString(entity, StandardCharsets.UTF_8);
+            } catch (ParseException e) {
+                throw new IOException(e);
+            }
+            return check(response, text);
+        }
+    }
+
+    CompletableFuture<String> sendAsync() {
+        URI uri;
+        try {
+            uri = uri();
+        } catch (URISyntaxException e) {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<SimpleHttpResponse> request = HttpAsyncRequest.post(uri, options, headers, body);
+        CompletableFuture<String> result = request.thenApply(response -> {
+            ContentType type = response.getContentType();
+            String text = new String(response.getBodyBytes() == null ? new byte[0] : response.getBodyBytes(),
+                    type != null && type.getCharset() != null ? type.getCharset() : StandardCharsets.UTF_8);
+            try {
+                return check(response, text);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        result.whenComplete((text, t) -> {
+            if (t != null) {
+                request.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private URI uri() throws URISyntaxException {
+        URIBuilder builder = new URIBuilder(url);
+        if (subPath != null) {
+            builder.setPath(subPath);
+        }
+        return builder.build();
+    }
+
+    private static String check(final HttpResponse response, final String text) throws IOException {
+        if (response.getCode() >= 400) {
+            throw new IOException("Server responded with " + response.getCode() + " " + response.getReasonPhrase() + ": " + text);
+        }
+        return text;
+    }
+
+}
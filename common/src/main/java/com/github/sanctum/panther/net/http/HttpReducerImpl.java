@@ -1,5 +1,6 @@
 package com.github.sanctum.panther.net.http;
 
+import java.io.InputStream;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -10,8 +11,8 @@ class HttpReducerImpl<T, R> extends HttpGetterImpl<T> implements HttpReducer<T,
     R processedData;
 
     HttpReducerImpl(final String url, final String subPath, final Map<String, String> arguments,
-                    final Function<String, T> dataBuilder, final Function<T, R> processor) {
-        super(url, subPath, arguments, dataBuilder);
+                    final ResponseParser<InputStream, T> parser, final Function<T, R> processor, final HttpOptions options) {
+        super(url, subPath, arguments, parser, options);
         this.processor = processor;
     }
 
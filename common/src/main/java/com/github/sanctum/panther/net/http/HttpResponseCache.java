@@ -0,0 +1,649 @@
+package com.github.sanctum.panther.net.http;
+
+import com.github.sanctum.panther.util.PantherLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * A cache of downloaded responses shared by every getter using it, kept in memory and optionally in a directory.
+ * <p>
+ * Responses stay fresh as long as their Cache-Control or Expires header allows, meanwhile they're served without
+ * contacting the server. Stale responses carrying an ETag or Last-Modified header are revalidated, so an unchanged
+ * resource only costs a 304 response. Responses marked no-store are never kept, no-cache ones are revalidated every time.
+ * <p>
+ * The least recently used responses are dropped first, from memory and the directory alike, each having its own limits.
+ * Getters using a cache need the whole response in memory, so they don't parse it while it's being downloaded.
+ *
+ * @see HttpUtils.HttpGetterBuilder#setCache(HttpResponseCache)
+ * @since 1.3.5
+ */
+public final class HttpResponseCache {
+
+    private static final int FORMAT = 1;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Path directory;
+    private final long maxDirectoryBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    // the files in the directory and their sizes, least recently used first. Guarded by itself.
+    private final Map<Path, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long fileBytes;
+    private boolean listed;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private HttpResponseCache(final Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxBytes = builder.maxBytes;
+        this.directory = builder.directory;
+        this.maxDirectoryBytes = builder.maxDirectoryBytes;
+    }
+
+    /**
+     * Creates a new builder for a cache.
+     *
+     * @return a builder with the default settings
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets how many responses were served without contacting the server.
+     *
+     * @return the amount of fresh responses served
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets how many responses were served after the server confirmed they're unchanged.
+     *
+     * @return the amount of 304 responses received
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Gets how many responses had to be downloaded.
+     *
+     * @return the amount of full responses received
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the share of responses which didn't need to be downloaded.
+     *
+     * @return the ratio of hits and revalidations to every response, 0 if there hasn't been any
+     */
+    public double getHitRatio() {
+        long served = getHits() + getRevalidations();
+        long total = served + getMisses();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    /**
+     * Gets how many responses are held in memory.
+     *
+     * @return the amount of responses in memory
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops every response, from memory and the directory.
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            bytes = 0;
+        }
+        if (directory != null) {
+            synchronized (files) {
+                files.clear();
+                fileBytes = 0;
+                listed = true;
+                try (Stream<Path> list = Files.list(directory)) {
+                    Iterator<Path> iterator = list.iterator();
+                    while (iterator.hasNext()) {
+                        Path file = iterator.next();
+                        if (file.getFileName().toString().endsWith(".cache")) {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                } catch (NoSuchFileException ignored) {
+                } catch (IOException e) {
+                    PantherLogger.getInstance().getLogger().warning("- Unable to clear the HTTP cache in " + directory + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets how many bytes of responses are stored in the directory.
+     *
+     * @return the size of the stored responses, 0 without a directory
+     */
+    public long getDirectorySize() {
+        if (directory == null) {
+            return 0;
+        }
+        synchronized (files) {
+            list();
+            return fileBytes;
+        }
+    }
+
+    /**
+     * @return the response stored for the key, fresh or not
+     */
+    Entry get(final String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null && directory != null) {
+            entry = read(key);
+            if (entry != null) {
+                remember(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Looks up a response without blocking on the directory, which is only read off the calling thread.
+     *
+     * @return the response stored for the key, fresh or not
+     */
+    CompletableFuture<Entry> getAsync(final String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null || directory == null) {
+            return CompletableFuture.completedFuture(entry);
+        }
+        return CompletableFuture.supplyAsync(() -> get(key));
+    }
+
+    /**
+     * @return the body of the response if it's still fresh, counting it as a hit
+     */
+    byte[] hit(final Entry entry) {
+        if (entry == null || !entry.isFresh()) {
+            return null;
+        }
+        hits.increment();
+        return entry.body;
+    }
+
+    /**
+     * Asks the server to only send the response if it differs from the cached one.
+     */
+    static void validate(final HttpRequest request, final Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        if (entry.etag != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+        }
+    }
+
+    /**
+     * Stores a received response.
+     *
+     * @param cached the response the request has been validated against
+     * @param body   the body of the received response
+     * @return the body to parse, the cached one if the server confirmed it's unchanged
+     */
+    byte[] update(final String key, final Entry cached, final HttpResponse response, final byte[] body) {
+        if (response.getCode() == HttpStatus.SC_NOT_MODIFIED && cached != null) {
+            revalidations.increment();
+            Entry entry = Entry.of(response, cached.body, cached);
+            if (entry != null) {
+                store(key, entry);
+            } else {
+                remove(key);
+            }
+            return cached.body;
+        }
+        misses.increment();
+        if (response.getCode() == HttpStatus.SC_OK) {
+            Entry entry = Entry.of(response, body == null ? new byte[0] : body, null);
+            if (entry != null) {
+                store(key, entry);
+            } else {
+                remove(key);
+            }
+        }
+        return body;
+    }
+
+    private void store(final String key, final Entry entry) {
+        remember(key, entry);
+        if (directory != null) {
+            write(key, entry);
+        }
+    }
+
+    private synchronized void remember(final String key, final Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= previous.body.length;
+        }
+        if (entry.body.length > maxBytes) {
+            return;
+        }
+        entries.put(key, entry);
+        bytes += entry.body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().body.length;
+            eldest.remove();
+        }
+    }
+
+    private void remove(final String key) {
+        synchronized (this) {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                bytes -= previous.body.length;
+            }
+        }
+        if (directory != null) {
+            Path file = file(key);
+            synchronized (files) {
+                list();
+                forget(file);
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    PantherLogger.getInstance().getLogger().warning("- Unable to remove a cached HTTP response of " + key + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the responses a previous run left in the directory, oldest first. Needs the lock of the files.
+     */
+    private void list() {
+        if (listed) {
+            return;
+        }
+        listed = true;
+        List<Path> found = new ArrayList<>();
+        try (Stream<Path> list = Files.list(directory)) {
+            list.filter(file -> file.getFileName().toString().endsWith(".cache")).forEach(found::add);
+        } catch (NoSuchFileException ignored) {
+            return;
+        } catch (IOException e) {
+            PantherLogger.getInstance().getLogger().warning("- Unable to list the HTTP cache in " + directory + ": " + e.getMessage());
+            return;
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        Map<Path, Long> sizes = new HashMap<>();
+        for (Path file : found) {
+            try {
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+                sizes.put(file, Files.size(file));
+            } catch (IOException ignored) {
+                // removed meanwhile.
+            }
+        }
+        found.removeIf(file -> !sizes.containsKey(file));
+        found.sort(Comparator.comparing(modified::get));
+        for (Path file : found) {
+            files.put(file, sizes.get(file));
+            fileBytes += sizes.get(file);
+        }
+        trim();
+    }
+
+    /**
+     * Deletes the least recently used files until the directory is within its limit. Needs the lock of the files.
+     */
+    private void trim() {
+        Iterator<Map.Entry<Path, Long>> eldest = files.entrySet().iterator();
+        while (fileBytes > maxDirectoryBytes && eldest.hasNext()) {
+            Map.Entry<Path, Long> file = eldest.next();
+            fileBytes -= file.getValue();
+            eldest.remove();
+            try {
+                Files.deleteIfExists(file.getKey());
+            } catch (IOException e) {
+                PantherLogger.getInstance().getLogger().warning("- Unable to evict a cached HTTP response in " + file.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops a file from the index. Needs the lock of the files.
+     */
+    private void forget(final Path file) {
+        Long previous = files.remove(file);
+        if (previous != null) {
+            fileBytes -= previous;
+        }
+    }
+
+    private Path file(final String key) {
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder name = new StringBuilder(hash.length * 2 + 6);
+        for (byte b : hash) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return directory.resolve(name.append(".cache").toString());
+    }
+
+    private Entry read(final String key) {
+        Path file = file(key);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+            synchronized (files) {
+                list();
+                // counts as a use, unless it got evicted meanwhile.
+                files.get(file);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            PantherLogger.getInstance().getLogger().warning("- Unable to read a cached HTTP response of " + key + ": " + e.getMessage());
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+            // a different format or a hash collision.
+            if (in.readInt() != FORMAT || !in.readUTF().equals(key)) {
+                return null;
+            }
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            long stored = in.readLong();
+            long lifetime = in.readLong();
+            int length = in.readInt();
+            // a damaged entry is a miss, never trust its length for allocation.
+            if (length != in.available()) {
+                return null;
+            }
+            byte[] body = new byte[length];
+            in.readFully(body);
+            return new Entry(body, etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified, stored, lifetime);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void write(final String key, final Entry entry) {
+        Path file = file(key);
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream(entry.body.length + 256);
+            try (DataOutputStream out = new DataOutputStream(content)) {
+                out.writeInt(FORMAT);
+                out.writeUTF(key);
+                out.writeUTF(entry.etag == null ? "" : entry.etag);
+                out.writeUTF(entry.lastModified == null ? "" : entry.lastModified);
+                out.writeLong(entry.stored);
+                out.writeLong(entry.lifetime);
+                out.writeInt(entry.body.length);
+                out.write(entry.body);
+            }
+            if (content.size() > maxDirectoryBytes) {
+                synchronized (files) {
+                    list();
+                    forget(file);
+                    Files.deleteIfExists(file);
+                }
+                return;
+            }
+            Files.createDirectories(directory);
+            // readers never see a partially written file.
+            Path temp = Files.createTempFile(directory, "response", ".tmp");
+            try {
+                Files.write(temp, content.toByteArray());
+                synchronized (files) {
+                    list();
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    forget(file);
+                    files.put(file, (long) content.size());
+                    fileBytes += content.size();
+                    trim();
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            PantherLogger.getInstance().getLogger().warning("- Unable to store a cached HTTP response of " + key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * A stored response, fresh for its lifetime after it has been received or revalidated.
+     */
+    static final class Entry {
+
+        final byte[] body;
+        final String etag;
+        final String lastModified;
+        final long stored;
+        final long lifetime;
+
+        Entry(final byte[] body, final String etag, final String lastModified, final long stored, final long lifetime) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.stored = stored;
+            this.lifetime = lifetime;
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() - stored < lifetime;
+        }
+
+        /**
+         * @param previous the response a 304 response refers to, its headers apply unless the new response replaces them
+         * @return the response to store, or null if it mustn't or can't be used again
+         */
+        static Entry of(final HttpResponse response, final byte[] body, final Entry previous) {
+            long now = System.currentTimeMillis();
+            Long lifetime = lifetime(response, now);
+            if (lifetime == null) {
+                // no-store
+                return null;
+            }
+            if (lifetime < 0) {
+                lifetime = previous != null ? previous.lifetime : 0L;
+            }
+            String etag = value(response, HttpHeaders.ETAG);
+            String lastModified = value(response, HttpHeaders.LAST_MODIFIED);
+            if (previous != null) {
+                etag = etag != null ? etag : previous.etag;
+                lastModified = lastModified != null ? lastModified : previous.lastModified;
+            }
+            if (lifetime <= 0 && etag == null && lastModified == null) {
+                // would have to be downloaded again anyway.
+                return null;
+            }
+            return new Entry(body, etag, lastModified, now, lifetime);
+        }
+
+        /**
+         * @return how long the response stays fresh in milliseconds, -1 if the response doesn't tell or null if it mustn't be stored
+         */
+        private static Long lifetime(final HttpResponse response, final long now) {
+            long maxAge = -1;
+            boolean cacheControl = false;
+            for (Header header : response.getHeaders(HttpHeaders.CACHE_CONTROL)) {
+                for (String directive : header.getValue().split(",")) {
+                    String name = directive.trim().toLowerCase(Locale.ROOT);
+                    if (name.equals("no-store")) {
+                        return null;
+                    }
+                    if (name.equals("no-cache")) {
+                        return 0L;
+                    }
+                    if (name.startsWith("max-age=")) {
+                        try {
+                            maxAge = Long.parseLong(name.substring(8).replace("\"", "").trim());
+                            cacheControl = true;
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                }
+            }
+            if (cacheControl) {
+                long age = 0;
+                String value = value(response, HttpHeaders.AGE);
+                if (value != null) {
+                    try {
+                        age = Long.parseLong(value.trim());
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+                return Math.max(0, maxAge - age) * 1000;
+            }
+            String expires = value(response, HttpHeaders.EXPIRES);
+            if (expires != null) {
+                Date expiry = DateUtils.parseDate(expires);
+                if (expiry == null) {
+                    // invalid dates like "0" mean already expired.
+                    return 0L;
+                }
+                Date date = DateUtils.parseDate(response, HttpHeaders.DATE);
+                return Math.max(0, expiry.getTime() - (date != null ? date.getTime() : now));
+            }
+            return -1L;
+        }
+
+        private static String value(final HttpResponse response, final String name) {
+            Header header = response.getFirstHeader(name);
+            return header != null ? header.getValue() : null;
+        }
+
+    }
+
+    /**
+     * The builder for {@link HttpResponseCache} instances.
+     */
+    public static final class Builder {
+
+        private int maxEntries = 256;
+        private long maxBytes = 16 * 1024 * 1024;
+        private Path directory;
+        private long maxDirectoryBytes = 64 * 1024 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Configures how many responses are kept in memory, 256 by default.
+         *
+         * @param maxEntries the maximum amount of responses in memory
+         * @return this builder instance
+         */
+        public Builder setMaxEntries(final int maxEntries) {
+            if (maxEntries < 0) {
+                throw new IllegalArgumentException("The maximum amount of entries must not be negative");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Configures how many bytes of responses are kept in memory, 16 MiB by default.
+         *
+         * @param maxBytes the maximum size of the responses in memory
+         * @return this builder instance
+         */
+        public Builder setMaxBytes(final long maxBytes) {
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("The maximum amount of bytes must not be negative");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Configures a directory to store cached responses in, so they're kept across restarts.
+         *
+         * @param directory the directory, or null to only keep responses in memory
+         * @return this builder instance
+         */
+        public Builder setDirectory(final Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Configures how many bytes of responses are kept in the directory, 64 MiB by default.
+         *
+         * @param maxDirectoryBytes the maximum size of the files in the directory
+         * @return this builder instance
+         */
+        public Builder setMaxDirectoryBytes(final long maxDirectoryBytes) {
+            if (maxDirectoryBytes < 0) {
+                throw new IllegalArgumentException("The maximum amount of directory bytes must not be negative");
+            }
+            this.maxDirectoryBytes = maxDirectoryBytes;
+            return this;
+        }
+
+        /**
+         * Creates a new cache with the chosen settings.
+         *
+         * @return the new cache
+         */
+        public HttpResponseCache build() {
+            return new HttpResponseCache(this);
+        }
+
+    }
+
+}
@@ -1,6 +1,15 @@
 package com.github.sanctum.panther.net.http;
 
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -45,7 +54,100 @@ public final class HttpUtils {
      */
     @SuppressWarnings("JavadocLinkAsPlainText")
     public static <T> HttpGetterBuilder<T> newGetBuilder(String url, Function<String, T> dataBuilder) {
-        return new HttpGetterBuilder<>(url, dataBuilder);
+        if (dataBuilder == null) {
+            throw new IllegalArgumentException("You must provide a data building Function!");
+        }
+        return new HttpGetterBuilder<>(url, HttpGetterImpl.lines(dataBuilder));
+    }
+
+    /**
+     * Creates a new Builder for a Get Request Object which will parse the result while it's being downloaded.
+     * <p>
+     * Unlike {@link #newGetBuilder(String, Function)}, the response isn't read to a string first,
+     * so large responses don't have to fit into memory more than once.
+     *
+     * @param url    the webserver address to get the data from, without any subpath on that page
+     * @param parser the parser reading the raw bytes of the response
+     * @param <T>    the type the pre-processed data will have
+     * @return a new builder object with the given settings.
+     */
+    public static <T> HttpGetterBuilder<T> newStreamingGetBuilder(String url, ResponseParser<InputStream, T> parser) {
+        return new HttpGetterBuilder<>(url, parser);
+    }
+
+    /**
+     * Creates a new Builder for a Get Request Object which will parse the result while it's being downloaded.
+     * <p>
+     * The response is decoded as UTF-8.
+     *
+     * @param url    the webserver address to get the data from, without any subpath on that page
+     * @param parser the parser reading the text of the response
+     * @param <T>    the type the pre-processed data will have
+     * @return a new builder object with the given settings.
+     * @see #newStreamingGetBuilder(String, ResponseParser)
+     */
+    public static <T> HttpGetterBuilder<T> newReaderGetBuilder(String url, ResponseParser<Reader, T> parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("You must provide a parser!");
+        }
+        return new HttpGetterBuilder<>(url, content -> parser.parse(new InputStreamReader(content, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Creates a new Builder for a Get Request Object which will parse the json result while it's being downloaded.
+     * <p>
+     * Usage example:
+     * <code>
+     * <br>HttpUtils.newJsonGetBuilder("https://jsonplaceholder.typicode.com", JsonParser::parseReader)
+     * <br>.setSubPath("/posts")
+     * <br>.buildAndGet();
+     * </code>
+     *
+     * @param url    the webserver address to get the data from, without any subpath on that page
+     * @param parser the parser reading the json tokens of the response, e.g. {@code JsonParser::parseReader} or {@code reader -> gson.fromJson(reader, type)}
+     * @param <T>    the type the pre-processed data will have
+     * @return a new builder object with the given settings.
+     * @see #newStreamingGetBuilder(String, ResponseParser)
+     */
+    @SuppressWarnings("JavadocLinkAsPlainText")
+    public static <T> HttpGetterBuilder<T> newJsonGetBuilder(String url, ResponseParser<JsonReader, T> parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("You must provide a parser!");
+        }
+        return newReaderGetBuilder(url, reader -> parser.parse(new JsonReader(reader)));
+    }
+
+    /**
+     * Creates a new Builder for a Post Request, whose body is sent while it's being encoded.
+     * <p>
+     * Usage example:
+     * <code>
+     * <br>HttpUtils.newPostBuilder("https://hastebin.skyra.pw")
+     * <br>.setSubPath("/documents")
+     * <br>.setText(lines, "text/plain")
+     * <br>.postAsync();
+     * </code>
+     *
+     * @param url the webserver address to post the data to, without any subpath on that page
+     * @return a new builder object with the given settings.
+     * @since 1.3.5
+     */
+    @SuppressWarnings("JavadocLinkAsPlainText")
+    public static HttpPostBuilder newPostBuilder(String url) {
+        return new HttpPostBuilder(url);
+    }
+
+    /**
+     * Continues a download, cancelling the continuation aborts the download as well.
+     */
+    private static <T, R> CompletableFuture<R> then(final CompletableFuture<T> load, final Function<T, R> next) {
+        CompletableFuture<R> result = load.thenApply(next);
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                load.cancel(false);
+            }
+        });
+        return result;
     }
 
     /**
@@ -59,16 +161,17 @@ public final class HttpUtils {
     @SuppressWarnings("unchecked")
     private static abstract class HttpGetterBuilderBase<T, B extends HttpGetterBuilderBase<T, B>> {
         private final String url;
-        private final Function<String, T> dataBuilder;
+        private final ResponseParser<InputStream, T> parser;
         protected String subPath;
         protected Map<String, String> arguments = new HashMap<>();
+        protected HttpOptions options = new HttpOptions();
 
-        private HttpGetterBuilderBase(final String url, final Function<String, T> dataBuilder) {
+        private HttpGetterBuilderBase(final String url, final ResponseParser<InputStream, T> parser) {
             this.url = url;
-            if (dataBuilder == null) {
-                throw new IllegalArgumentException("You must provide a data building Function!");
+            if (parser == null) {
+                throw new IllegalArgumentException("You must provide a parser!");
             }
-            this.dataBuilder = dataBuilder;
+            this.parser = parser;
         }
 
         /**
@@ -118,8 +221,84 @@ public final class HttpUtils {
             return (B) this;
         }
 
-        protected Function<String, T> getDataBuilder() {
-            return dataBuilder;
+        /**
+         * Configures the connection pool to be used in the HttpGetter.
+         * <p>
+         * Without one, the {@link HttpClientPool#getShared() shared pool} is used.
+         *
+         * @param pool the pool to download with
+         * @return this builder instance
+         */
+        public B setPool(final HttpClientPool pool) {
+            options.pool = pool;
+            return (B) this;
+        }
+
+        /**
+         * Configures a cache to keep the responses in, so unchanged ones don't have to be downloaded again.
+         * <p>
+         * Note that the response is read as a whole before being parsed then.
+         *
+         * @param cache the cache to use, or null to download every time
+         * @return this builder instance
+         */
+        public B setCache(final HttpResponseCache cache) {
+            options.cache = cache;
+            return (B) this;
+        }
+
+        /**
+         * Configures whether identical loads running at the same time should share a single download, false by default.
+         * <p>
+         * Loads are identical if they request the same url, subpath and arguments through the same pool and cache.
+         * Note that the response is read as a whole before being parsed then, each load parses it on its own.
+         * A shared download follows the settings of the load which started it, so it isn't aborted by cancelling
+         * a single load and its failure is passed on to every load sharing it.
+         *
+         * @param coalescing true to share downloads
+         * @return this builder instance
+         */
+        public B setCoalescing(final boolean coalescing) {
+            options.coalescing = coalescing;
+            return (B) this;
+        }
+
+        /**
+         * Configures how often an asynchronous download is retried after failing or getting a response
+         * telling the server is overloaded, none by default.
+         * <p>
+         * The wait before each further retry doubles.
+         *
+         * @param retries the maximum amount of retries
+         * @param backoff the time to wait before the first retry
+         * @param unit    the unit of the backoff
+         * @return this builder instance
+         */
+        public B setRetries(final int retries, final long backoff, final TimeUnit unit) {
+            if (retries < 0 || backoff < 0) {
+                throw new IllegalArgumentException("Retries and backoff must not be negative");
+            }
+            options.retries = retries;
+            options.backoff = unit.toMillis(backoff);
+            return (B) this;
+        }
+
+        /**
+         * Configures how long an asynchronous download may take, including retries and waiting for a free connection.
+         * <p>
+         * Once the time is up, the download gets aborted and its future completes with a {@link java.util.concurrent.TimeoutException}.
+         *
+         * @param timeout the timeout, negative for none
+         * @param unit    the unit of the timeout
+         * @return this builder instance
+         */
+        public B setTimeout(final long timeout, final TimeUnit unit) {
+            options.timeout = timeout < 0 ? -1 : unit.toMillis(timeout);
+            return (B) this;
+        }
+
+        protected ResponseParser<InputStream, T> getParser() {
+            return parser;
         }
 
         protected String getUrl() {
@@ -134,8 +313,8 @@ public final class HttpUtils {
      */
     public static final class HttpGetterBuilder<T> extends HttpGetterBuilderBase<T, HttpGetterBuilder<T>> {
 
-        private HttpGetterBuilder(final String url, Function<String, T> dataBuilder) {
-            super(url, dataBuilder);
+        private HttpGetterBuilder(final String url, ResponseParser<InputStream, T> parser) {
+            super(url, parser);
         }
 
         /**
@@ -185,7 +364,7 @@ public final class HttpUtils {
          * @return the created HttpGetter
          */
         public HttpGetter<T> build() {
-            return new HttpGetterImpl<>(getUrl(), subPath, arguments, getDataBuilder());
+            return new HttpGetterImpl<>(getUrl(), subPath, arguments, getParser(), options.copy());
         }
 
         /**
@@ -210,6 +389,17 @@ public final class HttpUtils {
             return build().loadAndGet();
         }
 
+        /**
+         * Creates a new {@link HttpGetter} instance and downloads the data without blocking the calling thread.
+         *
+         * @return a future completed with the created HttpGetter once the data is loaded
+         * @see HttpGetter#loadAsync()
+         */
+        public CompletableFuture<HttpGetter<T>> buildAsync() {
+            HttpGetter<T> getter = build();
+            return then(getter.loadAsync(), data -> getter);
+        }
+
     }
 
     /**
@@ -223,9 +413,10 @@ public final class HttpUtils {
         private final Function<T, R> processor;
 
         private ReducerBuilder(HttpGetterBuilder<T> stage1, Function<T, R> processor) {
-            super(stage1.getUrl(), stage1.getDataBuilder());
+            super(stage1.getUrl(), stage1.getParser());
             this.subPath = stage1.subPath;
             this.arguments = stage1.arguments;
+            this.options = stage1.options;
             this.processor = processor;
         }
 
@@ -235,7 +426,7 @@ public final class HttpUtils {
          * @return the new instance
          */
         public HttpReducer<T, R> build() {
-            return new HttpReducerImpl<>(getUrl(), subPath, arguments, getDataBuilder(), processor);
+            return new HttpReducerImpl<>(getUrl(), subPath, arguments, getParser(), processor, options.copy());
         }
 
         /**
@@ -276,6 +467,20 @@ public final class HttpUtils {
             return reducer.getResult();
         }
 
+        /**
+         * Creates a new {@link HttpReducer} instance, downloads and processes the data without blocking the calling thread.
+         *
+         * @return a future completed with the new instance once its result is ready to be retrieved
+         * @see HttpGetter#loadAsync()
+         */
+        public CompletableFuture<HttpReducer<T, R>> buildAsync() {
+            HttpReducer<T, R> reducer = build();
+            return then(reducer.loadAsync(), data -> {
+                reducer.process();
+                return reducer;
+            });
+        }
+
     }
 
     /**
@@ -290,16 +495,18 @@ public final class HttpUtils {
 
 
         private ConsumerBuilder(HttpGetterBuilder<T> stage1, Consumer<T> consumer) {
-            super(stage1.getUrl(), stage1.getDataBuilder());
+            super(stage1.getUrl(), stage1.getParser());
             this.subPath = stage1.subPath;
             this.arguments = stage1.arguments;
+            this.options = stage1.options;
             consumers.add(consumer);
         }
 
         private ConsumerBuilder(HttpGetterBuilder<T> stage1, Collection<Consumer<T>> consumers) {
-            super(stage1.getUrl(), stage1.getDataBuilder());
+            super(stage1.getUrl(), stage1.getParser());
             this.subPath = stage1.subPath;
             this.arguments = stage1.arguments;
+            this.options = stage1.options;
             this.consumers.addAll(consumers);
         }
 
@@ -352,7 +559,7 @@ public final class HttpUtils {
          * @return the new instance
          */
         public HttpConsumer<T> build() {
-            return new HttpConsumerImpl<>(getUrl(), subPath, arguments, getDataBuilder(), consumers, restrictMultipleUsage);
+            return new HttpConsumerImpl<>(getUrl(), subPath, arguments, getParser(), consumers, restrictMultipleUsage, options.copy());
         }
 
         /**
@@ -377,6 +584,181 @@ public final class HttpUtils {
             return consumer;
         }
 
+        /**
+         * Creates a new {@link HttpConsumer} instance, downloads and consumes the data without blocking the calling thread.
+         *
+         * @return a future completed with the new instance once its consumers have run
+         * @see HttpGetter#loadAsync()
+         */
+        public CompletableFuture<HttpConsumer<T>> buildAsync() {
+            HttpConsumer<T> consumer = build();
+            return then(consumer.loadAsync(), data -> {
+                consumer.consume();
+                return consumer;
+            });
+        }
+
+    }
+
+    /**
+     * The builder construct for a POST request.
+     * <p>
+     * The body is either plain text or a url encoded form. Its lines are encoded one by one while they're being sent,
+     * so they're never joined to a single string; they must not change until the request is done though.
+     *
+     * @since 1.3.5
+     */
+    public static final class HttpPostBuilder {
+
+        private final String url;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final HttpOptions options = new HttpOptions();
+        private String subPath;
+        private HttpBody body;
+
+        private HttpPostBuilder(final String url) {
+            this.url = url;
+        }
+
+        /**
+         * Configures the file path to post to.
+         *
+         * @param subPath the path
+         * @return this builder instance
+         * @see HttpGetterBuilder#setSubPath(String)
+         */
+        public HttpPostBuilder setSubPath(final String subPath) {
+            this.subPath = subPath;
+            return this;
+        }
+
+        /**
+         * Sets a header of the request.
+         *
+         * @param name  the name of the header
+         * @param value the value of the header
+         * @return this builder instance
+         */
+        public HttpPostBuilder setHeader(final String name, final String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * Configures the body to be plain text, each line followed by a line break.
+         *
+         * @param lines    the lines to send
+         * @param mimeType the content type of the text, e.g. {@code "text/plain"}, it's always sent as UTF-8
+         * @return this builder instance
+         */
+        public HttpPostBuilder setText(final Collection<? extends CharSequence> lines, final String mimeType) {
+            body = HttpBody.text(lines, mimeType);
+            return this;
+        }
+
+        /**
+         * Adds a field to the body, turning it into a url encoded form.
+         *
+         * @param name  the name of the field
+         * @param value the value of the field
+         * @return this builder instance
+         */
+        public HttpPostBuilder addField(final String name, final String value) {
+            form().field(name, value);
+            return this;
+        }
+
+        /**
+         * Adds a field to the body, turning it into a url encoded form.
+         *
+         * @param name  the name of the field
+         * @param lines the value of the field, each line followed by a line break
+         * @return this builder instance
+         */
+        public HttpPostBuilder addField(final String name, final Collection<? extends CharSequence> lines) {
+            form().field(name, lines);
+            return this;
+        }
+
+        private HttpBody form() {
+            if (body == null) {
+                body = HttpBody.form();
+            }
+            return body;
+        }
+
+        /**
+         * Configures the connection pool to post with.
+         * <p>
+         * Without one, the {@link HttpClientPool#getShared() shared pool} is used.
+         *
+         * @param pool the pool to post with
+         * @return this builder instance
+         */
+        public HttpPostBuilder setPool(final HttpClientPool pool) {
+            options.pool = pool;
+            return this;
+        }
+
+        /**
+         * Configures how often an asynchronous post is retried after failing or getting a response
+         * telling the server is overloaded, none by default.
+         * <p>
+         * Only use this if posting the same data twice does no harm.
+         *
+         * @param retries the maximum amount of retries
+         * @param backoff the time to wait before the first retry, doubling for each further one
+         * @param unit    the unit of the backoff
+         * @return this builder instance
+         */
+        public HttpPostBuilder setRetries(final int retries, final long backoff, final TimeUnit unit) {
+            if (retries < 0 || backoff < 0) {
+                throw new IllegalArgumentException("Retries and backoff must not be negative");
+            }
+            options.retries = retries;
+            options.backoff = unit.toMillis(backoff);
+            return this;
+        }
+
+        /**
+         * Configures how long an asynchronous post may take, including retries and waiting for a free connection.
+         *
+         * @param timeout the timeout, negative for none
+         * @param unit    the unit of the timeout
+         * @return this builder instance
+         * @see HttpGetterBuilder#setTimeout(long, TimeUnit)
+         */
+        public HttpPostBuilder setTimeout(final long timeout, final TimeUnit unit) {
+            options.timeout = timeout < 0 ? -1 : unit.toMillis(timeout);
+            return this;
+        }
+
+        private HttpPostRequest build() {
+            HttpBody body = this.body != null ? this.body : HttpBody.form();
+            return new HttpPostRequest(url, subPath, new LinkedHashMap<>(headers), body, options.copy());
+        }
+
+        /**
+         * Sends the request on the calling thread.
+         *
+         * @return the body of the response
+         * @throws IOException if the request failed or the server responded with an error
+         */
+        public String post() throws IOException {
+            return build().send();
+        }
+
+        /**
+         * Sends the request without blocking the calling thread.
+         * <p>
+         * Cancelling the returned future aborts the request.
+         *
+         * @return a future completed with the body of the response
+         */
+        public CompletableFuture<String> postAsync() {
+            return build().sendAsync();
+        }
+
     }
 
 }
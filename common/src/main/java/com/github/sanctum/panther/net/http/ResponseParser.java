@@ -0,0 +1,29 @@
+package com.github.sanctum.panther.net.http;
+
+import java.io.IOException;
+
+/**
+ * Parses a response while it's being downloaded, without keeping it in memory as a whole.
+ * <p>
+ * The source is closed by the getter once parsing has returned.
+ *
+ * @param <S> the type of source to read the response from
+ * @param <T> the type the response is parsed to
+ * @see HttpUtils#newStreamingGetBuilder(String, ResponseParser)
+ * @see HttpUtils#newReaderGetBuilder(String, ResponseParser)
+ * @see HttpUtils#newJsonGetBuilder(String, ResponseParser)
+ * @since 1.3.5
+ */
+@FunctionalInterface
+public interface ResponseParser<S, T> {
+
+    /**
+     * Parses the response.
+     *
+     * @param source the body of the response
+     * @return the intermediate result data
+     * @throws IOException if the response can't be read
+     */
+    T parse(S source) throws IOException;
+
+}
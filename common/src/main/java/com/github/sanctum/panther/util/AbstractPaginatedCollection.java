@@ -6,16 +6,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -30,17 +33,35 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class AbstractPaginatedCollection<T> implements Collection<Page<T>> {
 
+	// to be changed through this collection only, which keeps the page index below in sync.
 	protected final Set<Page<T>> set = Collections.synchronizedSet(new LinkedHashSet<>());
+	// the source elements, pages are published from them without changing them.
 	protected Collection<T> collection;
 	protected int initialElementsPer = 8;
 	protected boolean sorted;
 	protected Comparator<? super T> comparator;
 	protected Predicate<? super T> predicate;
+	protected int maximumElements = -1;
+	private volatile Iterator<? extends T> source;
+	// the filtered, sorted and limited elements the pages were sliced from.
+	private volatile Object[] elements;
+	private boolean retained;
+	private volatile Index<T> index;
 
 	protected AbstractPaginatedCollection(Collection<T> collection) {
 		this.collection = collection;
 	}
 
+	/**
+	 * Paginate the elements of an iterator, it only gets drained once the pages are first needed.
+	 *
+	 * @param source The source of elements.
+	 */
+	protected AbstractPaginatedCollection(Iterator<? extends T> source) {
+		this.collection = new ArrayList<>();
+		this.source = source;
+	}
+
 	@SafeVarargs
 	public AbstractPaginatedCollection(T... t) {
 		this.collection = Arrays.asList(t);
@@ -62,6 +83,26 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 		return new PantherPagination<>(collection);
 	}
 
+	/**
+	 * Paginate the elements of an iterator, drained once the pages are first needed.
+	 * <p>
+	 * Combined with {@link #top(int)} only the best elements are retained, so huge sources never need to fit in memory.
+	 * Later reorders select from the retained elements and those passed to {@link #update(Collection)}.
+	 *
+	 * @param source The source of elements.
+	 * @return A new pagination over the source.
+	 */
+	public static <T> AbstractPaginatedCollection<T> of(@NotNull Iterator<? extends T> source) {
+		return new PantherPagination<>(source);
+	}
+
+	/**
+	 * @see #of(Iterator)
+	 */
+	public static <T> AbstractPaginatedCollection<T> of(@NotNull Stream<? extends T> source) {
+		return of(source.iterator());
+	}
+
 	/**
 	 * Set the local comparator this pagination will use for calculation.
 	 * This option will determine the loading order in which elements are met in sequence.
@@ -97,105 +138,213 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 		return this;
 	}
 
+	/**
+	 * Set the local limit for elements kept in total, after filtering and sorting.
+	 * <p>
+	 * With a comparator the best elements are picked using a heap bounded by this limit instead of sorting every element,
+	 * without one the first elements are taken and the rest of an iterator source is never read.
+	 * Elements pushed out by an {@link #update(Collection)} stay in the source, the next reorder selects from all of them again.
+	 *
+	 * @param maximumElements The elements to keep, or -1 to keep every one of them.
+	 * @return The same abstract pagination.
+	 */
+	public AbstractPaginatedCollection<T> top(int maximumElements) {
+		this.maximumElements = maximumElements;
+		return this;
+	}
+
 	/**
 	 * Completely reset and re-order the backing page collection while un-affecting the provided <strong>element</strong> collection.
 	 *
 	 * @return A deployable reordering operation.
 	 */
 	public Deployable<AbstractPaginatedCollection<T>> reorder() {
-		return Deployable.of(() -> {
-			sorted = true;
-			Set<Page<T>> toAdd = new HashSet<>();
-			List<T> toSort = new ArrayList<>();
+		return reorder(0);
+	}
 
-			if (predicate != null) {
-				toSort = collection.stream().filter(predicate).collect(Collectors.toList());
-			}
-			if (comparator != null) {
-				if (toSort.isEmpty()) {
-					toSort = collection.stream().sorted(comparator).collect(Collectors.toList());
-				} else {
-					toSort = toSort.stream().sorted(comparator).collect(Collectors.toList());
+	public Deployable<AbstractPaginatedCollection<T>> reorder(int runtime) {
+		return Deployable.of(this::paginate, runtime);
+	}
+
+	/**
+	 * Re-sort only the given elements and re-slice the pages, instead of sorting every element again.
+	 * <p>
+	 * Meant for elements that were added to the source or whose sorting order changed since the last reorder, every element
+	 * equal to one of them is replaced by them at their new position. Elements no longer passing the filter get dropped.
+	 *
+	 * @param changed The added or changed elements.
+	 * @return A deployable reordering operation.
+	 */
+	public Deployable<AbstractPaginatedCollection<T>> update(@NotNull Collection<? extends T> changed) {
+		return update(changed, 0);
+	}
+
+	public Deployable<AbstractPaginatedCollection<T>> update(@NotNull Collection<? extends T> changed, int runtime) {
+		return Deployable.of(() -> {
+			synchronized (set) {
+				Object[] elements = this.elements;
+				if (elements == null) return paginate();
+				Set<Object> replaced = new HashSet<>(changed);
+				if (retained) {
+					// nothing else holds the elements of a drained iterator.
+					collection.removeIf(replaced::contains);
+					collection.addAll(changed);
 				}
-			}
-			if (toSort.isEmpty()) {
-				toSort = new ArrayList<>(collection);
-			}
-			collection = toSort;
-
-			int totalPageCount = size();
-			for (int slot = 1; slot < totalPageCount + 1; slot++) {
-				int page = slot;
-				Page<T> newPage = new Page.Impl<>(AbstractPaginatedCollection.this, slot);
-				if (page <= totalPageCount) {
-
-					if (!toSort.isEmpty()) {
-						int placeholder = 0, index = 0;
-						page--;
-						for (T value : toSort) {
-
-							index++;
-							if ((((page * initialElementsPer) + placeholder + 1) == index) && (index != ((page * initialElementsPer) + initialElementsPer + 1))) {
-								placeholder++;
-								newPage.add(value);
-							}
-						}
-					}
-					// end line
+				Object[] kept = new Object[elements.length];
+				int size = 0;
+				for (Object element : elements) {
+					if (!replaced.contains(element)) kept[size++] = element;
+				}
+				// an element changed twice is still only inserted once.
+				Object[] added = select(replaced.size() == changed.size() ? changed.toArray() : new LinkedHashSet<Object>(changed).toArray());
+				Object[] merged = new Object[size + added.length];
+				int from = 0, k = 0;
+				for (Object element : added) {
+					// after any equal elements, so ties keep their current order.
+					int to = comparator != null ? insertionPoint(kept, from, size, element) : size;
+					System.arraycopy(kept, from, merged, k, to - from);
+					k += to - from;
+					merged[k++] = element;
+					from = to;
 				}
-				toAdd.add(newPage);
+				System.arraycopy(kept, from, merged, k, size - from);
+				k += size - from;
+				if (maximumElements >= 0) k = Math.min(k, maximumElements);
+				publish(k == merged.length ? merged : Arrays.copyOf(merged, k));
 			}
-			set.addAll(toAdd);
 			return this;
-		}, 0);
+		}, runtime);
 	}
 
-	public Deployable<AbstractPaginatedCollection<T>> reorder(int runtime) {
-		return Deployable.of(() -> {
+	/**
+	 * Filter and sort the elements into a single array then slice it into pages, the pages share the array until they get modified.
+	 */
+	@SuppressWarnings("unchecked")
+	private AbstractPaginatedCollection<T> paginate() {
+		synchronized (set) {
 			sorted = true;
-			Set<Page<T>> toAdd = new HashSet<>();
-			List<T> toSort = new ArrayList<>();
+			Iterator<? extends T> source = this.source;
+			this.source = null;
+			if (source != null) {
+				Object[] selected = select(source);
+				collection = new ArrayList<>((List<T>) Arrays.asList(selected));
+				retained = true;
+				publish(selected);
+			} else {
+				publish(select(collection.toArray()));
+			}
+		}
+		return this;
+	}
 
-			if (predicate != null) {
-				toSort = collection.stream().filter(predicate).collect(Collectors.toList());
+	@SuppressWarnings("unchecked")
+	private Object[] select(Object[] elements) {
+		if (maximumElements >= 0 && elements.length > maximumElements) return select(Arrays.asList(elements).iterator());
+		int size = elements.length;
+		if (predicate != null) {
+			size = 0;
+			for (Object element : elements) {
+				if (predicate.test(cast(element))) elements[size++] = element;
 			}
-			if (comparator != null) {
-				if (toSort.isEmpty()) {
-					toSort = collection.stream().sorted(comparator).collect(Collectors.toList());
-				} else {
-					toSort = toSort.stream().sorted(comparator).collect(Collectors.toList());
-				}
+			if (size != elements.length) elements = Arrays.copyOf(elements, size);
+		}
+		if (comparator != null) {
+			Arrays.sort(elements, (Comparator<Object>) comparator);
+		}
+		return elements;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object[] select(Iterator<?> source) {
+		int limit = maximumElements;
+		if (limit < 0 || comparator == null) {
+			List<Object> list = new ArrayList<>();
+			while ((limit < 0 || list.size() < limit) && source.hasNext()) {
+				Object element = source.next();
+				if (predicate == null || predicate.test(cast(element))) list.add(element);
 			}
-			if (toSort.isEmpty()) {
-				toSort = new ArrayList<>(collection);
+			Object[] elements = list.toArray();
+			if (comparator != null) Arrays.sort(elements, (Comparator<Object>) comparator);
+			return elements;
+		}
+		if (limit == 0) return new Object[0];
+		// the worst of the best elements on top, equal ones ranked by arrival so sorting stays stable.
+		Comparator<Ranked> ranking = (a, b) -> {
+			int result = comparator.compare(cast(b.element), cast(a.element));
+			return result != 0 ? result : Long.compare(b.order, a.order);
+		};
+		PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.min(limit, 1 << 16) + 1, ranking);
+		long order = 0;
+		while (source.hasNext()) {
+			Object element = source.next();
+			if (predicate != null && !predicate.test(cast(element))) continue;
+			if (heap.size() < limit) {
+				heap.add(new Ranked(element, order++));
+			} else if (comparator.compare(cast(element), cast(heap.peek().element)) < 0) {
+				heap.poll();
+				heap.add(new Ranked(element, order++));
 			}
-			collection = toSort;
-
-			int totalPageCount = size();
-			for (int slot = 1; slot < totalPageCount + 1; slot++) {
-				int page = slot;
-				Page<T> newPage = new Page.Impl<>(AbstractPaginatedCollection.this, slot);
-				if (page <= totalPageCount) {
-
-					if (!toSort.isEmpty()) {
-						int placeholder = 0, index = 0;
-						page--;
-						for (T value : toSort) {
-
-							index++;
-							if ((((page * initialElementsPer) + placeholder + 1) == index) && (index != ((page * initialElementsPer) + initialElementsPer + 1))) {
-								placeholder++;
-								newPage.add(value);
-							}
-						}
-					}
-					// end line
-				}
-				toAdd.add(newPage);
+		}
+		Ranked[] best = heap.toArray(new Ranked[0]);
+		Arrays.sort(best, ranking.reversed());
+		Object[] elements = new Object[best.length];
+		for (int i = 0; i < best.length; i++) {
+			elements[i] = best[i].element;
+		}
+		return elements;
+	}
+
+	private int insertionPoint(Object[] elements, int from, int to, Object element) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (comparator.compare(cast(element), cast(elements[middle])) < 0) {
+				to = middle;
+			} else {
+				from = middle + 1;
 			}
-			set.addAll(toAdd);
-			return this;
-		}, runtime);
+		}
+		return from;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void publish(Object[] elements) {
+		this.elements = elements;
+		int count = size(), per = initialElementsPer;
+		Page<T>[] pages = (Page<T>[]) new Page<?>[count];
+		for (int i = 0; i < count; i++) {
+			int from = Math.min(elements.length, i * per);
+			pages[i] = new Page.Impl<>(this, i + 1, elements, from, Math.min(elements.length, from + per));
+		}
+		set.clear();
+		Collections.addAll(set, pages);
+		index = new Index<>(pages);
+	}
+
+	private void paginateIfEmpty() {
+		if (set.isEmpty() && (!collection.isEmpty() || source != null)) {
+			synchronized (set) {
+				if (set.isEmpty() && (!collection.isEmpty() || source != null)) paginate();
+			}
+		}
+	}
+
+	/**
+	 * @return the pages ordered by number, only sorted again after the page set changed.
+	 */
+	private Index<T> index() {
+		Index<T> index = this.index;
+		if (index == null) {
+			synchronized (set) {
+				index = this.index;
+				if (index == null) this.index = index = Index.of(set);
+			}
+		}
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T cast(Object o) {
+		return (T) o;
 	}
 
 	public @NotNull Set<Page<T>> getPages() {
@@ -207,13 +356,16 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public int size() {
+		if (source != null) paginateIfEmpty();
+		Object[] elements = this.elements;
+		int count = elements != null ? elements.length : this.collection.size();
 		int totalPageCount = 1;
-		if ((this.collection.size() % initialElementsPer) == 0) {
-			if (this.collection.size() > 0) {
-				totalPageCount = this.collection.size() / initialElementsPer;
+		if ((count % initialElementsPer) == 0) {
+			if (count > 0) {
+				totalPageCount = count / initialElementsPer;
 			}
 		} else {
-			totalPageCount = (this.collection.size() / initialElementsPer) + 1;
+			totalPageCount = (count / initialElementsPer) + 1;
 		}
 		return totalPageCount;
 	}
@@ -232,9 +384,7 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean isEmpty() {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
+		paginateIfEmpty();
 		return set.isEmpty();
 	}
 
@@ -246,12 +396,11 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	@Override
 	public boolean contains(Object o) {
 		if (o instanceof Integer) {
-			return set.stream().filter(ts -> ts.getNumber() == ((int)o)).findFirst().orElse(null) != null;
+			paginateIfEmpty();
+			return index().get((Integer) o) != null;
 		}
 		if (!(o instanceof Page)) return false;
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
+		paginateIfEmpty();
 		return set.contains(o);
 	}
 
@@ -261,10 +410,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	@NotNull
 	@Override
 	public Iterator<Page<T>> iterator() {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.stream().sorted(Comparator.comparingInt(Page::getNumber)).iterator();
+		paginateIfEmpty();
+		return Collections.unmodifiableList(Arrays.asList(index().ordered)).iterator();
 	}
 
 	/**
@@ -272,10 +419,9 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public Object[] toArray() {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.stream().sorted(Comparator.comparingInt(Page::getNumber)).toArray(Object[]::new);
+		paginateIfEmpty();
+		Page<T>[] ordered = index().ordered;
+		return Arrays.copyOf(ordered, ordered.length, Object[].class);
 	}
 
 
@@ -284,10 +430,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public <R> @NotNull R[] toArray(R[] a) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.toArray(a);
+		paginateIfEmpty();
+		return Arrays.asList(index().ordered).toArray(a);
 	}
 
 	/**
@@ -301,14 +445,13 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 * @return an existing page or a new one skipping nullity.
 	 */
 	public @NotNull Page<T> get(int index) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
+		paginateIfEmpty();
+		Page<T> page = index().get(index);
+		if (page == null) {
+			page = new Page.Impl<>(this, index);
+			add(page);
 		}
-		return set.stream().sorted(Comparator.comparingInt(Page::getNumber)).filter(p -> p.getNumber() == index).findFirst().orElseGet(() -> {
-			Page<T> newOne = new Page.Impl<>(this, index);
-			add(newOne);
-			return newOne;
-		});
+		return page;
 	}
 
 	/**
@@ -318,10 +461,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean add(Page<T> tPage) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.add(tPage);
+		paginateIfEmpty();
+		return changed(set.add(tPage));
 	}
 
 	/**
@@ -344,9 +485,7 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 * @return true if the element was added.
 	 */
 	public boolean add(T t, int page) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
+		paginateIfEmpty();
 		Page<T> test = get(page);
 		if (test != null) {
 			return test.add(t);
@@ -364,10 +503,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean remove(Object o) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.remove(o);
+		paginateIfEmpty();
+		return changed(set.remove(o));
 	}
 
 	/**
@@ -378,9 +515,7 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 * @return true if this element was removed.
 	 */
 	public boolean remove(T t, int page) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
+		paginateIfEmpty();
 		Page<T> test = get(page);
 		if (test != null) {
 			return test.remove(t);
@@ -393,9 +528,7 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean containsAll(@NotNull Collection<?> c) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
+		paginateIfEmpty();
 		return set.containsAll(c);
 	}
 
@@ -404,10 +537,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean addAll(@NotNull Collection<? extends Page<T>> c) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.addAll(c);
+		paginateIfEmpty();
+		return changed(set.addAll(c));
 	}
 
 	/**
@@ -415,10 +546,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean removeAll(@NotNull Collection<?> c) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.removeAll(c);
+		paginateIfEmpty();
+		return changed(set.removeAll(c));
 	}
 
 	/**
@@ -426,10 +555,8 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public boolean retainAll(@NotNull Collection<?> c) {
-		if (set.isEmpty() && !collection.isEmpty()) {
-			reorder().deploy().submit().join();
-		}
-		return set.retainAll(c);
+		paginateIfEmpty();
+		return changed(set.retainAll(c));
 	}
 
 	/**
@@ -437,6 +564,65 @@ public abstract class AbstractPaginatedCollection<T> implements Collection<Page<
 	 */
 	@Override
 	public void clear() {
-		set.clear();
+		synchronized (set) {
+			set.clear();
+			index = null;
+		}
+	}
+
+	private boolean changed(boolean changed) {
+		if (changed) index = null;
+		return changed;
+	}
+
+	static final class Ranked {
+
+		final Object element;
+		final long order;
+
+		Ranked(Object element, long order) {
+			this.element = element;
+			this.order = order;
+		}
+
 	}
+
+	/**
+	 * Every page ordered by number, ties in the order they were added, and the first page of every number.
+	 */
+	static final class Index<T> {
+
+		final Page<T>[] ordered;
+		// null while the pages are numbered 1 to n without gaps, they're then looked up by position.
+		private final Map<Integer, Page<T>> numbers;
+
+		Index(Page<T>[] ordered) {
+			this.ordered = ordered;
+			Map<Integer, Page<T>> numbers = null;
+			for (int i = 0; i < ordered.length; i++) {
+				if (numbers == null && ordered[i].getNumber() != i + 1) {
+					numbers = new HashMap<>();
+					for (int j = 0; j < i; j++) {
+						numbers.put(j + 1, ordered[j]);
+					}
+				}
+				if (numbers != null) numbers.putIfAbsent(ordered[i].getNumber(), ordered[i]);
+			}
+			this.numbers = numbers;
+		}
+
+		Page<T> get(int number) {
+			if (numbers != null) return numbers.get(number);
+			return number > 0 && number <= ordered.length ? ordered[number - 1] : null;
+		}
+
+		@SuppressWarnings("unchecked")
+		static <T> Index<T> of(Collection<Page<T>> pages) {
+			Page<T>[] ordered = pages.toArray((Page<T>[]) new Page<?>[0]);
+			Arrays.sort(ordered, Comparator.comparingInt(Page::getNumber));
+			return new Index<>(ordered);
+		}
+
+	}
+
 }
@@ -0,0 +1,739 @@
+package com.github.sanctum.panther.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compact binary {@link HFEncoded.Codec}.
+ * <p>
+ * Numbers are written as (zig-zag) varints, repeated strings (class names included) as back references and
+ * encoding happens within reusable per-thread buffers. Boxed primitives, strings, arrays, enums, UUIDs and the
+ * collections & maps of {@code java.util} are written natively, other types use a registered {@link Schema}
+ * or fall back to Java serialization.
+ * <p>
+ * Object identity isn't retained: shared references are written once per occurrence and cyclic graphs are rejected.
+ * Collections decode as {@link ArrayList}, {@link LinkedHashSet}, {@link LinkedHashMap} or, when naturally ordered,
+ * {@link TreeSet} and {@link TreeMap}.
+ */
+public final class BinaryCodec implements HFEncoded.Codec {
+
+	static final BinaryCodec DEFAULT = new BinaryCodec();
+	static final int VERSION = 1;
+	static final int MAX_DEPTH = 512;
+	// buffers grown beyond this size are released once done instead of being kept by their thread.
+	static final int RETAINED = 1 << 16;
+	static final int STREAM_BUFFER = 8192;
+
+	static final int NULL = 0, TRUE = 1, FALSE = 2, BYTE = 3, SHORT = 4, INT = 5, LONG = 6, FLOAT = 7, DOUBLE = 8, CHAR = 9,
+			STRING = 10, BYTES = 11, INTS = 12, LONGS = 13, DOUBLES = 14, ARRAY = 15, LIST = 16, SET = 17, SORTED_SET = 18,
+			MAP = 19, SORTED_MAP = 20, ENUM = 21, UUID_ = 22, SCHEMA = 23, SERIALIZED = 24;
+
+	private final Map<Class<?>, Registration<?>> types = new ConcurrentHashMap<>();
+	private final Map<Integer, Registration<?>> ids = new ConcurrentHashMap<>();
+	private final ThreadLocal<Output> outputs = ThreadLocal.withInitial(() -> new Output(this));
+	private final ClassLoader loader;
+
+	public BinaryCodec() {
+		this(BinaryCodec.class.getClassLoader());
+	}
+
+	/**
+	 * @param loader the class loader to resolve enums, arrays and serialized classes with.
+	 */
+	public BinaryCodec(@NotNull ClassLoader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Register a schema for a type, its instances will be written with the schema from then on.
+	 * <p>
+	 * Ids are part of the encoded data, they must stay the same for as long as encoded data is around.
+	 *
+	 * @param id     the unique, non-negative id of the schema.
+	 * @param type   the exact type handled by the schema.
+	 * @param schema the schema to use.
+	 * @param <T>    the type of object.
+	 * @return this codec.
+	 */
+	public <T> BinaryCodec register(int id, @NotNull Class<T> type, @NotNull Schema<T> schema) {
+		if (id < 0) throw new IllegalArgumentException("Schema ids must not be negative!");
+		Registration<T> registration = new Registration<>(id, type, schema);
+		if (ids.putIfAbsent(id, registration) != null) {
+			throw new IllegalArgumentException("Schema id " + id + " is already taken!");
+		}
+		types.put(type, registration);
+		return this;
+	}
+
+	private Output acquire() {
+		Output out = outputs.get();
+		if (out.busy) {
+			// a schema encoding a nested value on its own, don't clobber the buffer in use.
+			out = new Output(this);
+		}
+		out.busy = true;
+		return out;
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) throws IOException {
+		Output out = acquire();
+		try {
+			out.writeByte(VERSION);
+			out.writeObject(value);
+			return Arrays.copyOf(out.buffer, out.position);
+		} finally {
+			out.reset();
+		}
+	}
+
+	/**
+	 * Encode straight into a stream, only ever buffering a few kilobytes.
+	 */
+	@Override
+	public void write(@Nullable Object value, @NotNull OutputStream out) throws IOException {
+		Output output = acquire();
+		try {
+			if (output.buffer.length < STREAM_BUFFER) output.buffer = new byte[STREAM_BUFFER];
+			output.sink = out;
+			output.writeByte(VERSION);
+			output.writeObject(value);
+			output.flush();
+		} finally {
+			output.reset();
+		}
+	}
+
+	@Override
+	public @Nullable Object decode(byte[] data) throws IOException, ClassNotFoundException {
+		return read(new Input(this, data, 0, data.length));
+	}
+
+	/**
+	 * Decode straight from a stream, never reading past the end of the value.
+	 * <p>
+	 * Reads are small and frequent, pass a buffered stream.
+	 */
+	@Override
+	public @Nullable Object read(@NotNull InputStream in) throws IOException, ClassNotFoundException {
+		return read(new Input(this, in));
+	}
+
+	private Object read(Input in) throws IOException, ClassNotFoundException {
+		int version = in.readByte();
+		if (version != VERSION) throw new StreamCorruptedException("Unsupported binary codec version " + version);
+		return in.readObject();
+	}
+
+	Class<?> resolve(String name) throws ClassNotFoundException {
+		return Class.forName(name, false, loader);
+	}
+
+	/**
+	 * Writes and reads a specific type of object field by field.
+	 *
+	 * @param <T> the type of object.
+	 */
+	public interface Schema<T> {
+
+		void write(@NotNull T value, @NotNull Output out) throws IOException;
+
+		@NotNull T read(@NotNull Input in) throws IOException, ClassNotFoundException;
+
+	}
+
+	/**
+	 * A growable, reusable output buffer.
+	 */
+	public static final class Output {
+
+		private final BinaryCodec codec;
+		private final Map<String, Integer> strings = new HashMap<>();
+		byte[] buffer = new byte[256];
+		int position;
+		boolean busy;
+		// when set, full buffers are written out instead of growing.
+		OutputStream sink;
+		private int depth;
+
+		Output(BinaryCodec codec) {
+			this.codec = codec;
+		}
+
+		void reset() {
+			position = 0;
+			depth = 0;
+			busy = false;
+			sink = null;
+			if (buffer.length > RETAINED) buffer = new byte[256];
+			strings.clear();
+		}
+
+		private void ensure(int bytes) throws IOException {
+			if (position + bytes > buffer.length) {
+				if (sink != null) flush();
+				if (position + bytes > buffer.length) {
+					buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + bytes));
+				}
+			}
+		}
+
+		void flush() throws IOException {
+			if (position > 0) {
+				sink.write(buffer, 0, position);
+				position = 0;
+			}
+		}
+
+		public void writeByte(int value) throws IOException {
+			ensure(1);
+			buffer[position++] = (byte) value;
+		}
+
+		public void writeBoolean(boolean value) throws IOException {
+			writeByte(value ? 1 : 0);
+		}
+
+		public void writeRaw(byte[] bytes, int offset, int length) throws IOException {
+			if (sink != null && length > buffer.length) {
+				flush();
+				sink.write(bytes, offset, length);
+				return;
+			}
+			ensure(length);
+			System.arraycopy(bytes, offset, buffer, position, length);
+			position += length;
+		}
+
+		/**
+		 * Write an unsigned variable length int, 1 to 5 bytes.
+		 */
+		public void writeVarInt(int value) throws IOException {
+			ensure(5);
+			while ((value & ~0x7F) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		/**
+		 * Write an unsigned variable length long, 1 to 10 bytes.
+		 */
+		public void writeVarLong(long value) throws IOException {
+			ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		/**
+		 * Write a signed int, small negative values stay small.
+		 */
+		public void writeInt(int value) throws IOException {
+			writeVarInt((value << 1) ^ (value >> 31));
+		}
+
+		public void writeLong(long value) throws IOException {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		public void writeFixedInt(int value) throws IOException {
+			ensure(4);
+			buffer[position++] = (byte) (value >>> 24);
+			buffer[position++] = (byte) (value >>> 16);
+			buffer[position++] = (byte) (value >>> 8);
+			buffer[position++] = (byte) value;
+		}
+
+		public void writeFixedLong(long value) throws IOException {
+			writeFixedInt((int) (value >>> 32));
+			writeFixedInt((int) value);
+		}
+
+		public void writeFloat(float value) throws IOException {
+			writeFixedInt(Float.floatToIntBits(value));
+		}
+
+		public void writeDouble(double value) throws IOException {
+			writeFixedLong(Double.doubleToLongBits(value));
+		}
+
+		/**
+		 * Write a string, strings already written by this output are replaced with a reference.
+		 */
+		public void writeString(@NotNull String value) throws IOException {
+			Integer index = strings.get(value);
+			if (index != null) {
+				writeVarInt((index << 1) | 1);
+				return;
+			}
+			strings.put(value, strings.size());
+			int length = value.length();
+			boolean ascii = true;
+			for (int i = 0; i < length; i++) {
+				if (value.charAt(i) >= 0x80) {
+					ascii = false;
+					break;
+				}
+			}
+			if (ascii) {
+				writeVarInt(length << 1);
+				ensure(length);
+				for (int i = 0; i < length; i++) {
+					buffer[position++] = (byte) value.charAt(i);
+				}
+			} else {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				writeVarInt(bytes.length << 1);
+				writeRaw(bytes, 0, bytes.length);
+			}
+		}
+
+		public void writeBytes(byte[] value) throws IOException {
+			writeVarInt(value.length);
+			writeRaw(value, 0, value.length);
+		}
+
+		/**
+		 * Write any supported object, including null.
+		 *
+		 * @throws NotSerializableException if the object has no native, schema or serializable representation.
+		 */
+		public void writeObject(@Nullable Object value) throws IOException {
+			if (++depth > MAX_DEPTH) {
+				throw new StreamCorruptedException("Object graph exceeds a depth of " + MAX_DEPTH + ", cyclic references aren't supported");
+			}
+			try {
+				write(value);
+			} finally {
+				depth--;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void write(Object value) throws IOException {
+			if (value == null) {
+				writeByte(NULL);
+				return;
+			}
+			Class<?> type = value.getClass();
+			Registration<Object> registration = (Registration<Object>) codec.types.get(type);
+			if (registration != null) {
+				writeByte(SCHEMA);
+				writeVarInt(registration.id);
+				registration.schema.write(value, this);
+			} else if (type == String.class) {
+				writeByte(STRING);
+				writeString((String) value);
+			} else if (type == Integer.class) {
+				writeByte(INT);
+				writeInt((Integer) value);
+			} else if (type == Boolean.class) {
+				writeByte((Boolean) value ? TRUE : FALSE);
+			} else if (type == Long.class) {
+				writeByte(LONG);
+				writeLong((Long) value);
+			} else if (type == Double.class) {
+				writeByte(DOUBLE);
+				writeDouble((Double) value);
+			} else if (type == Float.class) {
+				writeByte(FLOAT);
+				writeFloat((Float) value);
+			} else if (type == Short.class) {
+				writeByte(SHORT);
+				writeInt((Short) value);
+			} else if (type == Byte.class) {
+				writeByte(BYTE);
+				writeByte((Byte) value);
+			} else if (type == Character.class) {
+				writeByte(CHAR);
+				writeVarInt((Character) value);
+			} else if (type == byte[].class) {
+				writeByte(BYTES);
+				writeBytes((byte[]) value);
+			} else if (type == int[].class) {
+				int[] array = (int[]) value;
+				writeByte(INTS);
+				writeVarInt(array.length);
+				for (int i : array) writeInt(i);
+			} else if (type == long[].class) {
+				long[] array = (long[]) value;
+				writeByte(LONGS);
+				writeVarInt(array.length);
+				for (long l : array) writeLong(l);
+			} else if (type == double[].class) {
+				double[] array = (double[]) value;
+				writeByte(DOUBLES);
+				writeVarInt(array.length);
+				for (double d : array) writeDouble(d);
+			} else if (type == UUID.class) {
+				writeByte(UUID_);
+				writeFixedLong(((UUID) value).getMostSignificantBits());
+				writeFixedLong(((UUID) value).getLeastSignificantBits());
+			} else if (value instanceof Enum) {
+				writeByte(ENUM);
+				writeString(((Enum<?>) value).getDeclaringClass().getName());
+				writeString(((Enum<?>) value).name());
+			} else if (type.isArray() && !type.getComponentType().isPrimitive()) {
+				Object[] array = (Object[]) value;
+				writeByte(ARRAY);
+				writeString(type.getComponentType().getName());
+				writeVarInt(array.length);
+				for (Object o : array) writeObject(o);
+			} else if (value instanceof Map && isNative(value)) {
+				Map<?, ?> map = (Map<?, ?>) value;
+				writeByte(value instanceof SortedMap ? SORTED_MAP : MAP);
+				writeVarInt(map.size());
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					writeObject(entry.getKey());
+					writeObject(entry.getValue());
+				}
+			} else if (value instanceof Collection && isNative(value)) {
+				Collection<?> collection = (Collection<?>) value;
+				writeByte(value instanceof SortedSet ? SORTED_SET : value instanceof Set ? SET : LIST);
+				writeVarInt(collection.size());
+				for (Object o : collection) writeObject(o);
+			} else if (value instanceof Serializable) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+					stream.writeObject(value);
+				}
+				writeByte(SERIALIZED);
+				writeBytes(bytes.toByteArray());
+			} else {
+				throw new NotSerializableException(type.getName());
+			}
+		}
+
+		/**
+		 * Collections and maps of java.util are written natively, sorted ones only if naturally ordered.
+		 */
+		private static boolean isNative(Object value) {
+			if (!value.getClass().getName().startsWith("java.util.")) return false;
+			if (value instanceof SortedMap) return ((SortedMap<?, ?>) value).comparator() == null;
+			if (value instanceof SortedSet) return ((SortedSet<?>) value).comparator() == null;
+			return true;
+		}
+
+	}
+
+	/**
+	 * A bounds checked reader over encoded bytes.
+	 */
+	public static final class Input {
+
+		private final BinaryCodec codec;
+		private final List<String> strings = new ArrayList<>();
+		private final InputStream source;
+		private byte[] data;
+		private int limit;
+		private int position;
+		private int depth;
+
+		Input(BinaryCodec codec, byte[] data, int offset, int length) {
+			this.codec = codec;
+			this.source = null;
+			this.data = data;
+			this.position = offset;
+			this.limit = offset + length;
+		}
+
+		Input(BinaryCodec codec, InputStream source) {
+			this.codec = codec;
+			this.source = source;
+			this.data = new byte[256];
+		}
+
+		private void require(int bytes) throws IOException {
+			if (bytes >= 0 && limit - position >= bytes) return;
+			if (bytes < 0 || source == null) throw new EOFException("Unexpected end of encoded data");
+			int available = limit - position;
+			System.arraycopy(data, position, data, 0, available);
+			position = 0;
+			limit = available;
+			// only read what's required so the stream stays positioned right after the value,
+			// the buffer only grows as far as data actually arrives.
+			while (limit < bytes) {
+				if (limit == data.length) data = Arrays.copyOf(data, Math.min(data.length << 1, bytes));
+				int read = source.read(data, limit, Math.min(data.length, bytes) - limit);
+				if (read < 0) throw new EOFException("Unexpected end of encoded data");
+				limit += read;
+			}
+		}
+
+		public int readByte() throws IOException {
+			require(1);
+			return data[position++];
+		}
+
+		public boolean readBoolean() throws IOException {
+			return readByte() != 0;
+		}
+
+		public int readVarInt() throws IOException {
+			int result = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				int b = readByte();
+				result |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) return result;
+			}
+			throw new StreamCorruptedException("Malformed varint");
+		}
+
+		public long readVarLong() throws IOException {
+			long result = 0;
+			for (int shift = 0; shift < 70; shift += 7) {
+				int b = readByte();
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) return result;
+			}
+			throw new StreamCorruptedException("Malformed varlong");
+		}
+
+		public int readInt() throws IOException {
+			int raw = readVarInt();
+			return (raw >>> 1) ^ -(raw & 1);
+		}
+
+		public long readLong() throws IOException {
+			long raw = readVarLong();
+			return (raw >>> 1) ^ -(raw & 1);
+		}
+
+		public int readFixedInt() throws IOException {
+			require(4);
+			return (data[position++] & 0xFF) << 24 | (data[position++] & 0xFF) << 16 | (data[position++] & 0xFF) << 8 | (data[position++] & 0xFF);
+		}
+
+		public long readFixedLong() throws IOException {
+			return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+		}
+
+		public float readFloat() throws IOException {
+			return Float.intBitsToFloat(readFixedInt());
+		}
+
+		public double readDouble() throws IOException {
+			return Double.longBitsToDouble(readFixedLong());
+		}
+
+		public @NotNull String readString() throws IOException {
+			int header = readVarInt();
+			if ((header & 1) != 0) {
+				int index = header >>> 1;
+				if (index >= strings.size()) throw new StreamCorruptedException("Unknown string reference " + index);
+				return strings.get(index);
+			}
+			int length = header >>> 1;
+			require(length);
+			String value = new String(data, position, length, StandardCharsets.UTF_8);
+			position += length;
+			strings.add(value);
+			return value;
+		}
+
+		public byte[] readBytes() throws IOException {
+			int length = readVarInt();
+			require(length);
+			byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+			position += length;
+			return bytes;
+		}
+
+		private int readSize() throws IOException {
+			int size = readVarInt();
+			if (size < 0) throw new StreamCorruptedException("Negative size " + size);
+			return size;
+		}
+
+		/**
+		 * @return an initial capacity bounded by what's buffered, so corrupt sizes can't trigger huge allocations.
+		 */
+		private int capacity(int size) {
+			return Math.min(size, limit - position);
+		}
+
+		public @Nullable Object readObject() throws IOException, ClassNotFoundException {
+			if (++depth > MAX_DEPTH) throw new StreamCorruptedException("Encoded graph exceeds a depth of " + MAX_DEPTH);
+			try {
+				return read();
+			} finally {
+				depth--;
+			}
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private Object read() throws IOException, ClassNotFoundException {
+			int tag = readByte();
+			switch (tag) {
+				case NULL:
+					return null;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case BYTE:
+					return (byte) readByte();
+				case SHORT:
+					return (short) readInt();
+				case INT:
+					return readInt();
+				case LONG:
+					return readLong();
+				case FLOAT:
+					return readFloat();
+				case DOUBLE:
+					return readDouble();
+				case CHAR:
+					return (char) readVarInt();
+				case STRING:
+					return readString();
+				case BYTES:
+					return readBytes();
+				case INTS: {
+					int size = readSize();
+					// every element takes at least a byte.
+					require(size);
+					int[] array = new int[size];
+					for (int i = 0; i < array.length; i++) array[i] = readInt();
+					return array;
+				}
+				case LONGS: {
+					int size = readSize();
+					// every element takes at least a byte.
+					require(size);
+					long[] array = new long[size];
+					for (int i = 0; i < array.length; i++) array[i] = readLong();
+					return array;
+				}
+				case DOUBLES: {
+					int size = readSize();
+					require(size > Integer.MAX_VALUE / 8 ? -1 : size * 8);
+					double[] array = new double[size];
+					for (int i = 0; i < array.length; i++) array[i] = readDouble();
+					return array;
+				}
+				case UUID_:
+					return new UUID(readFixedLong(), readFixedLong());
+				case ENUM: {
+					Class<?> type = codec.resolve(readString());
+					if (!type.isEnum()) throw new StreamCorruptedException(type.getName() + " is not an enum");
+					return Enum.valueOf((Class) type, readString());
+				}
+				case ARRAY: {
+					Class<?> component = codec.resolve(readString());
+					int size = readSize();
+					require(size);
+					Object[] array = (Object[]) Array.newInstance(component, size);
+					for (int i = 0; i < size; i++) array[i] = readObject();
+					return array;
+				}
+				case LIST: {
+					int size = readSize();
+					List<Object> list = new ArrayList<>(capacity(size));
+					for (int i = 0; i < size; i++) list.add(readObject());
+					return list;
+				}
+				case SET:
+				case SORTED_SET: {
+					int size = readSize();
+					Set<Object> set = tag == SET ? new LinkedHashSet<>(capacity(size)) : new TreeSet<>();
+					for (int i = 0; i < size; i++) set.add(readObject());
+					return set;
+				}
+				case MAP:
+				case SORTED_MAP: {
+					int size = readSize();
+					Map<Object, Object> map = tag == MAP ? new LinkedHashMap<>(capacity(size)) : new TreeMap<>();
+					for (int i = 0; i < size; i++) map.put(readObject(), readObject());
+					return map;
+				}
+				case SCHEMA: {
+					int id = readVarInt();
+					Registration<?> registration = codec.ids.get(id);
+					if (registration == null) throw new StreamCorruptedException("No schema registered under id " + id);
+					return registration.schema.read(this);
+				}
+				case SERIALIZED: {
+					int length = readVarInt();
+					require(length);
+					InputStream bytes = new ByteArrayInputStream(data, position, length);
+					position += length;
+					try (ObjectInputStream stream = new LoaderStream(bytes, codec)) {
+						return stream.readObject();
+					}
+				}
+				default:
+					throw new StreamCorruptedException("Unknown tag " + tag);
+			}
+		}
+
+	}
+
+	static final class LoaderStream extends ObjectInputStream {
+
+		private final BinaryCodec codec;
+
+		LoaderStream(InputStream in, BinaryCodec codec) throws IOException {
+			super(in);
+			this.codec = codec;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return codec.resolve(desc.getName());
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(desc);
+			}
+		}
+
+	}
+
+	static final class Registration<T> {
+
+		final int id;
+		final Class<T> type;
+		final Schema<T> schema;
+
+		Registration(int id, Class<T> type, Schema<T> schema) {
+			this.id = id;
+			this.type = type;
+			this.schema = schema;
+		}
+
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.github.sanctum.panther.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Deflates the output of another codec, prefixed with the uncompressed length as a fixed 4 byte int.
+ * <p>
+ * Deflaters, inflaters and their buffers are kept per thread and reset between uses.
+ */
+final class DeflateCodec implements HFEncoded.Codec {
+
+	private final HFEncoded.Codec codec;
+	private final ThreadLocal<Deflater> deflaters;
+	private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+	private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[256]);
+
+	DeflateCodec(HFEncoded.Codec codec, int level) {
+		if (level != Deflater.DEFAULT_COMPRESSION && (level < 0 || level > 9)) {
+			throw new IllegalArgumentException("Invalid compression level " + level);
+		}
+		this.codec = codec;
+		this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level));
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) throws IOException {
+		byte[] raw = codec.encode(value);
+		Deflater deflater = deflaters.get();
+		byte[] buffer = buffers.get();
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			int length = 4;
+			while (!deflater.finished()) {
+				if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length << 1);
+				length += deflater.deflate(buffer, length, buffer.length - length);
+			}
+			buffer[0] = (byte) (raw.length >>> 24);
+			buffer[1] = (byte) (raw.length >>> 16);
+			buffer[2] = (byte) (raw.length >>> 8);
+			buffer[3] = (byte) raw.length;
+			return Arrays.copyOf(buffer, length);
+		} finally {
+			deflater.reset();
+			if (buffer.length <= BinaryCodec.RETAINED) buffers.set(buffer);
+		}
+	}
+
+	@Override
+	public @Nullable Object decode(byte[] data) throws IOException, ClassNotFoundException {
+		if (data.length < 4) throw new StreamCorruptedException("Missing length header");
+		int length = length(data);
+		Inflater inflater = inflaters.get();
+		try {
+			inflater.setInput(data, 4, data.length - 4);
+			return codec.decode(inflate(inflater, length, null, null));
+		} finally {
+			inflater.reset();
+		}
+	}
+
+	/**
+	 * Reads exactly one record, the stream is left right behind the end of its compressed data when it supports
+	 * {@link InputStream#mark(int)}. Other streams are read a byte at a time, wrap them in a buffered stream if nothing follows the record.
+	 */
+	@Override
+	public @Nullable Object read(@NotNull InputStream in) throws IOException, ClassNotFoundException {
+		byte[] header = new byte[4];
+		for (int read = 0; read < 4; ) {
+			int n = in.read(header, read, 4 - read);
+			if (n == -1) throw new EOFException("Missing length header");
+			read += n;
+		}
+		int length = length(header);
+		Inflater inflater = inflaters.get();
+		try {
+			return codec.decode(inflate(inflater, length, in, new byte[in.markSupported() ? 512 : 1]));
+		} finally {
+			inflater.reset();
+		}
+	}
+
+	private static int length(byte[] header) throws StreamCorruptedException {
+		int length = (header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16 | (header[2] & 0xFF) << 8 | (header[3] & 0xFF);
+		if (length < 0) throw new StreamCorruptedException("Negative length " + length);
+		return length;
+	}
+
+	/**
+	 * The header isn't trusted for allocation, the output grows with what actually inflates and may never exceed it.
+	 */
+	private static byte[] inflate(Inflater inflater, int length, @Nullable InputStream in, @Nullable byte[] input) throws IOException {
+		byte[] raw = new byte[Math.min(length, 8192)];
+		int read = 0;
+		int chunk = 0;
+		try {
+			while (!inflater.finished()) {
+				int n;
+				if (read < length) {
+					if (read == raw.length) raw = Arrays.copyOf(raw, (int) Math.min(length, raw.length * 2L));
+					n = inflater.inflate(raw, read, raw.length - read);
+					read += n;
+				} else {
+					// only the end of the stream may follow.
+					n = inflater.inflate(new byte[1]);
+					if (n > 0) throw new StreamCorruptedException("Compressed data is longer than its length header");
+				}
+				if (n == 0 && !inflater.finished()) {
+					if (inflater.needsDictionary() || !inflater.needsInput() || in == null || input == null) {
+						throw new StreamCorruptedException("Compressed data doesn't match its length header");
+					}
+					if (in.markSupported()) in.mark(input.length);
+					chunk = in.read(input);
+					if (chunk == -1) throw new EOFException("Compressed data ended early");
+					inflater.setInput(input, 0, chunk);
+				}
+			}
+		} catch (DataFormatException e) {
+			throw new StreamCorruptedException(e.getMessage());
+		}
+		if (in != null && in.markSupported() && inflater.getRemaining() > 0) {
+			// give back what was read past the end of the record.
+			in.reset();
+			skip(in, chunk - inflater.getRemaining());
+		}
+		if (read != length) throw new StreamCorruptedException("Compressed data doesn't match its length header");
+		return raw;
+	}
+
+	private static void skip(InputStream in, long bytes) throws IOException {
+		while (bytes > 0) {
+			long n = in.skip(bytes);
+			if (n <= 0) {
+				if (in.read() == -1) throw new EOFException();
+				n = 1;
+			}
+			bytes -= n;
+		}
+	}
+
+}
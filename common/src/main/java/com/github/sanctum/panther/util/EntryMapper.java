@@ -2,10 +2,12 @@ package com.github.sanctum.panther.util;
 
 import com.github.sanctum.panther.container.PantherCollection;
 import com.github.sanctum.panther.container.PantherMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import org.jetbrains.annotations.NotNull;
 
-public interface EntryMapper {
+public interface EntryMapper extends Iterable<Map.Entry<String, Object>> {
 
 	Set<String> toSet();
 
@@ -15,4 +17,12 @@ public interface EntryMapper {
 
 	PantherMap<String, Object> toPantherMap();
 
+	/**
+	 * @return the mapped entries one at a time, without collecting them first.
+	 */
+	@Override
+	default @NotNull Iterator<Map.Entry<String, Object>> iterator() {
+		return toMap().entrySet().iterator();
+	}
+
 }
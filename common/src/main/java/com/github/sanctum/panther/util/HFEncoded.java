@@ -1,12 +1,28 @@
 package com.github.sanctum.panther.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
+import java.util.zip.Deflater;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -280,6 +296,182 @@ public class HFEncoded {
 		return null;
 	}
 
+	/**
+	 * Convert the object into bytes using a specific codec.
+	 *
+	 * @param codec the codec to use, see {@link Codec#binary()} for a compact format.
+	 * @return the encoded object
+	 * @throws IllegalStateException if unable to write the object
+	 */
+	public byte[] encodeBytes(@NotNull Codec codec) throws IllegalStateException {
+		try {
+			return codec.encode(obj);
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to encode " + (obj != null ? obj.getClass().getName() : "null"), e);
+		}
+	}
+
+	/**
+	 * Convert the object into a base 64 string using a specific codec.
+	 *
+	 * @param codec the codec to use, see {@link Codec#binary()} for a compact format.
+	 * @return the encoded object
+	 * @throws IllegalStateException if unable to write the object
+	 */
+	public String encode(@NotNull Codec codec) throws IllegalStateException {
+		return Base64.getEncoder().encodeToString(encodeBytes(codec));
+	}
+
+	/**
+	 * Decode the provided byte array or base 64 string using the codec it was encoded with.
+	 *
+	 * @param codec the codec the object was encoded with.
+	 * @param type  the type this object represents
+	 * @param <R>   the type this object represents
+	 * @return the decoded object or null
+	 * @throws IOException            if the data is malformed or wasn't written by this codec
+	 * @throws ClassNotFoundException if the class of an encoded object cannot be found
+	 */
+	public <R> @Nullable R decode(@NotNull Codec codec, @NotNull Class<R> type) throws IOException, ClassNotFoundException {
+		if (obj == null) return null;
+		byte[] data = obj instanceof byte[] ? (byte[]) obj : Base64.getDecoder().decode(obj.toString());
+		return cast(codec.decode(data), type);
+	}
+
+	/**
+	 * Encode the object straight into a stream without holding its encoded form in memory.
+	 *
+	 * @param codec the codec to use.
+	 * @param out   the stream to write to, it is flushed but not closed.
+	 * @throws IOException if unable to write the object
+	 */
+	public void encode(@NotNull Codec codec, @NotNull OutputStream out) throws IOException {
+		codec.write(obj, out);
+		out.flush();
+	}
+
+	/**
+	 * Encode the object straight into a channel without holding its encoded form in memory.
+	 *
+	 * @param codec   the codec to use.
+	 * @param channel the channel to write to, it isn't closed.
+	 * @throws IOException if unable to write the object
+	 */
+	public void encode(@NotNull Codec codec, @NotNull WritableByteChannel channel) throws IOException {
+		OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 8192);
+		codec.write(obj, out);
+		out.flush();
+	}
+
+	/**
+	 * Encode the object into a stream as base 64 text, converting on the fly.
+	 *
+	 * @param codec the codec to use.
+	 * @param out   the stream to write to, it is flushed but not closed.
+	 * @throws IOException if unable to write the object
+	 */
+	public void encodeBase64(@NotNull Codec codec, @NotNull OutputStream out) throws IOException {
+		// closing the wrapper writes the final padding, without closing the actual stream.
+		try (OutputStream base64 = Base64.getEncoder().wrap(new Unclosed(out))) {
+			codec.write(obj, base64);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Decode an object from a stream, the stream isn't closed.
+	 *
+	 * @param codec the codec the object was encoded with.
+	 * @param in    the stream to read from.
+	 * @param type  the type the object represents
+	 * @param <R>   the type the object represents
+	 * @return the decoded object or null
+	 * @throws IOException            if the data is malformed or wasn't written by this codec
+	 * @throws ClassNotFoundException if the class of an encoded object cannot be found
+	 */
+	public static <R> @Nullable R decode(@NotNull Codec codec, @NotNull InputStream in, @NotNull Class<R> type) throws IOException, ClassNotFoundException {
+		return cast(codec.read(in), type);
+	}
+
+	/**
+	 * Decode an object from a channel, the channel isn't closed.
+	 *
+	 * @param codec   the codec the object was encoded with.
+	 * @param channel the channel to read from.
+	 * @param type    the type the object represents
+	 * @param <R>     the type the object represents
+	 * @return the decoded object or null
+	 * @throws IOException            if the data is malformed or wasn't written by this codec
+	 * @throws ClassNotFoundException if the class of an encoded object cannot be found
+	 */
+	public static <R> @Nullable R decode(@NotNull Codec codec, @NotNull ReadableByteChannel channel, @NotNull Class<R> type) throws IOException, ClassNotFoundException {
+		return cast(codec.read(new BufferedInputStream(Channels.newInputStream(channel), 8192)), type);
+	}
+
+	/**
+	 * Decode an object from a stream of base 64 text, converting on the fly.
+	 *
+	 * @param codec the codec the object was encoded with.
+	 * @param in    the stream to read from.
+	 * @param type  the type the object represents
+	 * @param <R>   the type the object represents
+	 * @return the decoded object or null
+	 * @throws IOException            if the data is malformed or wasn't written by this codec
+	 * @throws ClassNotFoundException if the class of an encoded object cannot be found
+	 */
+	public static <R> @Nullable R decodeBase64(@NotNull Codec codec, @NotNull InputStream in, @NotNull Class<R> type) throws IOException, ClassNotFoundException {
+		return cast(codec.read(new BufferedInputStream(Base64.getDecoder().wrap(in), 8192)), type);
+	}
+
+	/**
+	 * Encode every element of an iterable as a separate, length prefixed record.
+	 * <p>
+	 * Only one element is held in its encoded form at a time, read the records back using {@link #decodeAll(Codec, InputStream, Class)}.
+	 *
+	 * @param codec  the codec to use.
+	 * @param values the elements to write.
+	 * @param out    the stream to write to, it is flushed but not closed.
+	 * @return the amount of records written.
+	 * @throws IOException if unable to write an element
+	 */
+	public static long encodeAll(@NotNull Codec codec, @NotNull Iterable<?> values, @NotNull OutputStream out) throws IOException {
+		long count = 0;
+		for (Object value : values) {
+			byte[] record = codec.encode(value);
+			int length = record.length;
+			while ((length & ~0x7F) != 0) {
+				out.write((length & 0x7F) | 0x80);
+				length >>>= 7;
+			}
+			out.write(length);
+			out.write(record);
+			count++;
+		}
+		out.flush();
+		return count;
+	}
+
+	/**
+	 * Read records written by {@link #encodeAll(Codec, Iterable, OutputStream)} one by one.
+	 *
+	 * @param codec the codec the records were encoded with.
+	 * @param in    the stream to read from, closed along with the returned reader.
+	 * @param type  the type of every record
+	 * @param <R>   the type of every record
+	 * @return a lazy record reader.
+	 */
+	public static <R> @NotNull Records<R> decodeAll(@NotNull Codec codec, @NotNull InputStream in, @NotNull Class<R> type) {
+		return new Records<>(codec, in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 8192), type);
+	}
+
+	private static <R> R cast(Object o, Class<R> type) {
+		if (o == null) return null;
+		if (!type.isInstance(o)) {
+			throw new IllegalArgumentException(o.getClass().getSimpleName() + " is not assignable from " + type.getSimpleName());
+		}
+		return type.cast(o);
+	}
+
 	/**
 	 * A delegation interface for assigning alternative classloader provision.
 	 */
@@ -305,4 +497,181 @@ public class HFEncoded {
 
 	}
 
+	/**
+	 * Converts objects to and from bytes.
+	 * <p>
+	 * {@link #java()} is the format used by the stream based methods of this class, {@link #binary()} is a faster
+	 * and considerably smaller alternative for plain data.
+	 */
+	public interface Codec {
+
+		byte[] encode(@Nullable Object value) throws IOException;
+
+		@Nullable Object decode(byte[] data) throws IOException, ClassNotFoundException;
+
+		/**
+		 * Encode a value into a stream, the stream is neither flushed nor closed.
+		 * <p>
+		 * By default the value is encoded in memory first.
+		 */
+		default void write(@Nullable Object value, @NotNull OutputStream out) throws IOException {
+			out.write(encode(value));
+		}
+
+		/**
+		 * Decode a value from a stream, the stream isn't closed.
+		 * <p>
+		 * By default the remainder of the stream is read into memory first.
+		 */
+		default @Nullable Object read(@NotNull InputStream in) throws IOException, ClassNotFoundException {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				output.write(buffer, 0, read);
+			}
+			return decode(output.toByteArray());
+		}
+
+		/**
+		 * @return the codec writing plain java serialization.
+		 */
+		static @NotNull Codec java() {
+			return JavaCodec.INSTANCE;
+		}
+
+		/**
+		 * Get the shared binary codec, schemas registered with it apply to every user of it.
+		 *
+		 * @return the shared binary codec.
+		 */
+		static @NotNull BinaryCodec binary() {
+			return BinaryCodec.DEFAULT;
+		}
+
+		/**
+		 * Compress everything written by another codec.
+		 *
+		 * @param codec the codec to compress.
+		 * @return a deflating codec.
+		 */
+		static @NotNull Codec deflate(@NotNull Codec codec) {
+			return new DeflateCodec(codec, Deflater.DEFAULT_COMPRESSION);
+		}
+
+		/**
+		 * Compress everything written by another codec.
+		 *
+		 * @param codec the codec to compress.
+		 * @param level the compression level from 0 to 9, see {@link Deflater}.
+		 * @return a deflating codec.
+		 */
+		static @NotNull Codec deflate(@NotNull Codec codec, int level) {
+			return new DeflateCodec(codec, level);
+		}
+
+	}
+
+	/**
+	 * A lazy reader over a stream of length prefixed records.
+	 * <p>
+	 * Failures while reading surface as {@link UncheckedIOException}, the cause of a missing class included.
+	 *
+	 * @param <T> the type of every record
+	 */
+	public static final class Records<T> implements Iterator<T>, Closeable {
+
+		private final Codec codec;
+		private final InputStream in;
+		private final Class<T> type;
+		private int next = -2;
+
+		Records(Codec codec, InputStream in, Class<T> type) {
+			this.codec = codec;
+			this.in = in;
+			this.type = type;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == -2) {
+				try {
+					next = readLength();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			return next >= 0;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			int length = next;
+			next = -2;
+			try {
+				byte[] record = new byte[0];
+				// grow along with the data actually read, a corrupt length can't allocate more than what's there.
+				while (record.length < length) {
+					int offset = record.length;
+					record = Arrays.copyOf(record, Math.min(length, Math.max(offset << 1, 8192)));
+					while (offset < record.length) {
+						int read = in.read(record, offset, record.length - offset);
+						if (read < 0) throw new EOFException("Record ends early");
+						offset += read;
+					}
+				}
+				return cast(codec.decode(record), type);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (ClassNotFoundException e) {
+				throw new UncheckedIOException(new IOException(e));
+			}
+		}
+
+		/**
+		 * @return the length of the next record or -1 at the end of the stream.
+		 */
+		private int readLength() throws IOException {
+			int length = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				int b = in.read();
+				if (b < 0) {
+					if (shift == 0) return -1;
+					throw new EOFException("Record length ends early");
+				}
+				length |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					if (length < 0) throw new StreamCorruptedException("Negative record length");
+					return length;
+				}
+			}
+			throw new StreamCorruptedException("Malformed record length");
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+
+	}
+
+	static final class Unclosed extends FilterOutputStream {
+
+		Unclosed(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+	}
+
 }
@@ -0,0 +1,52 @@
+package com.github.sanctum.panther.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The plain java serialization format, byte for byte what {@link HFEncoded#toByteArray(java.util.function.Function)} writes.
+ */
+final class JavaCodec implements HFEncoded.Codec {
+
+	static final JavaCodec INSTANCE = new JavaCodec();
+
+	private JavaCodec() {
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+			stream.writeObject(value);
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public void write(@Nullable Object value, @NotNull OutputStream out) throws IOException {
+		ObjectOutputStream stream = new ObjectOutputStream(out);
+		stream.writeObject(value);
+		// flushed, not closed, the stream belongs to the caller.
+		stream.flush();
+	}
+
+	@Override
+	public @Nullable Object read(@NotNull InputStream in) throws IOException, ClassNotFoundException {
+		return new ObjectInputStream(in).readObject();
+	}
+
+	@Override
+	public @Nullable Object decode(byte[] data) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+			return stream.readObject();
+		}
+	}
+
+}
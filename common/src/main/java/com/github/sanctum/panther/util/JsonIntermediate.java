@@ -1,19 +1,18 @@
 package com.github.sanctum.panther.util;
 
-import com.github.sanctum.panther.annotation.AnnotationDiscovery;
-import com.github.sanctum.panther.annotation.Json;
 import com.github.sanctum.panther.container.PantherCollection;
 import com.github.sanctum.panther.container.PantherEntryMap;
 import com.github.sanctum.panther.container.PantherList;
 import com.github.sanctum.panther.container.PantherMap;
 import com.github.sanctum.panther.file.JsonAdapter;
-import com.github.sanctum.panther.file.Node;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -66,28 +65,19 @@ public interface JsonIntermediate {
 	 * @return A new json array.
 	 */
 	static JsonArray toJsonArray(Object object) {
-		JsonArray array = new JsonArray();
 		if (object instanceof String && Check.isJson((String) object)) {
-			return JsonAdapter.getJsonBuilder().create().fromJson((String)object, JsonArray.class);
+			return JsonAdapter.getJson().fromJson((String)object, JsonArray.class);
 		}
 		if (object instanceof Iterable) {
-			for (Object o : Check.forNull((Iterable<?>)object)) {
-				if (o instanceof Number) {
-					JsonElement element = new JsonPrimitive((Number) o);
-					array.add(element);
-				} else if (o instanceof Boolean) {
-					JsonElement element = new JsonPrimitive((Boolean) o);
-					array.add(element);
-				} else if (o instanceof String) {
-					JsonElement element = new JsonPrimitive((String) o);
-					array.add(element);
-				} else {
-					JsonElement element = toJsonObject(o);
-					array.add(element);
-				}
+			JsonTreeBuilder writer = new JsonTreeBuilder();
+			try {
+				JsonPlan.writeArray(writer, Check.forNull((Iterable<?>)object));
+			} catch (IOException e) {
+				throw new IllegalStateException("This should never happen", e);
 			}
+			return writer.get().getAsJsonArray();
 		}
-		return array;
+		return new JsonArray();
 	}
 
 	/**
@@ -97,121 +87,37 @@ public interface JsonIntermediate {
 	 * @return A new json object.
 	 */
 	static JsonObject toJsonObject(Object o) {
-		JsonObject object = new JsonObject();
 		if (o instanceof String && Check.isJson((String) o)) {
-			return JsonAdapter.getJsonBuilder().create().fromJson((String)o, JsonObject.class);
-		}
-		if (o instanceof Map) {
-			for (Map.Entry<String, Object> entry : ((Map<String, Object>) o).entrySet()) {
-				if (entry.getValue() instanceof String) {
-					object.addProperty(entry.getKey(), (String) entry.getValue());
-				} else if (entry.getValue() instanceof Integer) {
-					object.addProperty(entry.getKey(), (Integer) entry.getValue());
-				} else if (entry.getValue() instanceof Float) {
-					object.addProperty(entry.getKey(), (Float) entry.getValue());
-				} else if (entry.getValue() instanceof Long) {
-					object.addProperty(entry.getKey(), (Long) entry.getValue());
-				} else if (entry.getValue() instanceof Double) {
-					object.addProperty(entry.getKey(), (Double) entry.getValue());
-				} else if (entry.getValue() instanceof Map) {
-					object.add(entry.getKey(), toJsonObject(entry.getValue()));
-				}
-			}
-			return object;
+			return JsonAdapter.getJson().fromJson((String)o, JsonObject.class);
 		}
-		if (o instanceof PantherMap) {
-			for (Map.Entry<String, Object> entry : ((PantherMap<String, Object>) o).entries()) {
-				if (entry.getValue() instanceof String) {
-					object.addProperty(entry.getKey(), (String) entry.getValue());
-				} else if (entry.getValue() instanceof Integer) {
-					object.addProperty(entry.getKey(), (Integer) entry.getValue());
-				} else if (entry.getValue() instanceof Float) {
-					object.addProperty(entry.getKey(), (Float) entry.getValue());
-				} else if (entry.getValue() instanceof Long) {
-					object.addProperty(entry.getKey(), (Long) entry.getValue());
-				} else if (entry.getValue() instanceof Double) {
-					object.addProperty(entry.getKey(), (Double) entry.getValue());
-				} else if (entry.getValue() instanceof PantherMap) {
-					object.add(entry.getKey(), toJsonObject(entry.getValue()));
-				}
-			}
-			return object;
+		JsonTreeBuilder writer = new JsonTreeBuilder();
+		try {
+			write(o, writer);
+		} catch (IOException e) {
+			throw new IllegalStateException("This should never happen", e);
 		}
-		AnnotationDiscovery<Json, Object> discovery = AnnotationDiscovery.of(Json.class, Check.forNull(o)).filter(true);
-		Map<Class<? extends Json.Reducer>, Json.Reducer> useable = new HashMap<>();
-		if (discovery.isPresent()) {
-			for (Method m : discovery) {
-				try {
-					Json annotation = m.getAnnotation(Json.class);
-					Object invoke = m.invoke(o);
-					if (invoke instanceof String) {
-						object.addProperty(annotation.key(), (String) invoke);
-					} else if (invoke instanceof Integer) {
-						object.addProperty(annotation.key(), (Integer) invoke);
-					} else if (invoke instanceof Float) {
-						object.addProperty(annotation.key(), (Float) invoke);
-					} else if (invoke instanceof Long) {
-						object.addProperty(annotation.key(), (Long) invoke);
-					} else if (invoke instanceof Double) {
-						object.addProperty(annotation.key(), (Double) invoke);
-					} else if (invoke instanceof Iterable) {
-						object.add(annotation.key(), toJsonArray(invoke));
-					} else {
-						if (!annotation.reducer().equals(DummyReducer.class)) {
-							Class<? extends Json.Reducer> clazz = annotation.reducer();
-							if (useable.get(clazz) == null) {
-								Constructor<? extends Json.Reducer> constructor = clazz.getDeclaredConstructor();
-								constructor.setAccessible(true);
-								Json.Reducer reducer = constructor.newInstance();
-								useable.put(clazz, reducer);
-								Object n = reducer.reduce(invoke);
-								if (n instanceof String) {
-									object.addProperty(annotation.key(), (String) n);
-								} else if (n instanceof Integer) {
-									object.addProperty(annotation.key(), (Integer) n);
-								} else if (n instanceof Float) {
-									object.addProperty(annotation.key(), (Float) n);
-								} else if (n instanceof Long) {
-									object.addProperty(annotation.key(), (Long) n);
-								} else if (n instanceof Double) {
-									object.addProperty(annotation.key(), (Double) n);
-								} else {
-									object.add(annotation.key(), toJsonObject(n));
-								}
-							} else {
-								Json.Reducer reducer = useable.get(clazz);
-								Object n = reducer.reduce(invoke);
-								if (n instanceof String) {
-									object.addProperty(annotation.key(), (String) n);
-								} else if (n instanceof Integer) {
-									object.addProperty(annotation.key(), (Integer) n);
-								} else if (n instanceof Float) {
-									object.addProperty(annotation.key(), (Float) n);
-								} else if (n instanceof Long) {
-									object.addProperty(annotation.key(), (Long) n);
-								} else if (n instanceof Double) {
-									object.addProperty(annotation.key(), (Double) n);
-								} else {
-									object.add(annotation.key(), toJsonObject(n));
-								}
-							}
-						} else {
-							object.add(annotation.key(), toJsonObject(invoke));
-						}
-					}
+		return writer.get().getAsJsonObject();
+	}
 
-				} catch (Exception ignored) {
-				}
-			}
-			String key = AnnotationDiscovery.of(Node.Pointer.class, o).mapFromClass((r, u) -> r.value());
-			JsonObject parent = new JsonObject();
-			if (key != null) {
-				parent.add(key, object);
-			} else {
-				return object;
-			}
-			return parent;
-		} else throw new NullPointerException(o.getClass() + " doesn't contain any json keys.");
+	/**
+	 * Write all values from an object directly to a json writer without building an intermediate json tree.
+	 * <p>
+	 * Iterables are written as arrays, everything else like {@link #toJsonObject(Object)} would map it.
+	 * The json layout of a class is only looked up once.
+	 *
+	 * @param o      The object, iterable, map or string to use.
+	 * @param writer The writer to write to.
+	 * @throws IOException if the writer fails.
+	 */
+	static void write(Object o, JsonWriter writer) throws IOException {
+		if (o instanceof Iterable) {
+			JsonPlan.writeArray(writer, (Iterable<?>) o);
+			return;
+		}
+		if (!(o instanceof Map) && !(o instanceof PantherMap)) {
+			Check.forNull(o);
+		}
+		JsonPlan.writeObject(writer, o);
 	}
 
 	/**
@@ -221,10 +127,18 @@ public interface JsonIntermediate {
 	 * @return A new json string.
 	 */
 	static String toJsonString(Object o) {
-		if (o instanceof Iterable) {
-			return toJsonArray(o).toString();
-		} else
-		return toJsonObject(o).toString();
+		if (o instanceof String && Check.isJson((String) o)) {
+			return toJsonObject(o).toString();
+		}
+		StringWriter string = new StringWriter();
+		JsonWriter writer = new JsonWriter(string);
+		writer.setLenient(true);
+		try {
+			write(o, writer);
+		} catch (IOException e) {
+			throw new IllegalStateException("This should never happen", e);
+		}
+		return string.toString();
 	}
 
 	/**
@@ -351,4 +265,52 @@ public interface JsonIntermediate {
 		return map;
 	}
 
+	/**
+	 * Read a json object straight into a map of keyed values in a single pass, without building a json tree first.
+	 * <p>
+	 * Json objects convert to other maps and json arrays convert to other lists, just like {@link #convertToPantherMap(JsonObject)}.
+	 *
+	 * @param reader The reader positioned at the start of a json object.
+	 * @return A map of keyed values.
+	 * @throws IOException if the reader fails or the json is malformed.
+	 */
+	static PantherMap<String, Object> convertToPantherMap(JsonReader reader) throws IOException {
+		return PantherJson.readMap(reader);
+	}
+
+	/**
+	 * Read a json array straight into a list of objects in a single pass, without building a json tree first.
+	 *
+	 * @param reader The reader positioned at the start of a json array.
+	 * @return A list of objects.
+	 * @throws IOException if the reader fails or the json is malformed.
+	 */
+	static PantherCollection<Object> convertToPantherList(JsonReader reader) throws IOException {
+		return PantherJson.readList(reader);
+	}
+
+	/**
+	 * Write a map of keyed values straight to a json writer, the inverse of {@link #convertToPantherMap(JsonReader)}.
+	 * <p>
+	 * Maps write as json objects, other iterables as json arrays.
+	 *
+	 * @param map    The map to write.
+	 * @param writer The writer to use.
+	 * @throws IOException if the writer fails.
+	 */
+	static void writePantherMap(PantherMap<String, ?> map, JsonWriter writer) throws IOException {
+		PantherJson.writeMap(writer, map);
+	}
+
+	/**
+	 * Write a collection straight to a json writer, the inverse of {@link #convertToPantherList(JsonReader)}.
+	 *
+	 * @param collection The collection to write.
+	 * @param writer     The writer to use.
+	 * @throws IOException if the writer fails.
+	 */
+	static void writePantherList(PantherCollection<?> collection, JsonWriter writer) throws IOException {
+		PantherJson.writeList(writer, collection);
+	}
+
 }
@@ -0,0 +1,279 @@
+package com.github.sanctum.panther.util;
+
+import com.github.sanctum.panther.annotation.AnnotationDiscovery;
+import com.github.sanctum.panther.annotation.Json;
+import com.github.sanctum.panther.container.PantherMap;
+import com.github.sanctum.panther.file.JsonAdapter;
+import com.github.sanctum.panther.file.Node;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The json layout of a class, resolved once and shared by every {@link JsonIntermediate} conversion.
+ * <p>
+ * {@link Json} getters become method handles, reducers are instantiated once and the {@link Node.Pointer} key is read up front.
+ * Values are written straight to a {@link JsonWriter}, a property whose value can't be represented is detected before
+ * anything is written and skipped as a whole, just like failing properties always were.
+ */
+final class JsonPlan {
+
+	private static final ClassValue<JsonPlan> PLANS = new ClassValue<JsonPlan>() {
+		@Override
+		protected JsonPlan computeValue(Class<?> type) {
+			return new JsonPlan(type);
+		}
+	};
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+	private final boolean present;
+	private final String pointer;
+	private final Property[] properties;
+
+	@SuppressWarnings("unchecked")
+	private JsonPlan(Class<?> type) {
+		AnnotationDiscovery<Json, Object> discovery = AnnotationDiscovery.of(Json.class, (Class<Object>) type).filter(true);
+		Map<String, List<Getter>> keys = new LinkedHashMap<>();
+		Map<Class<?>, Json.Reducer> reducers = new HashMap<>();
+		for (Method method : discovery) {
+			// getters needing arguments or which can't be accessed would fail on every single call.
+			if (method.getParameterCount() != 0) continue;
+			MethodHandle handle;
+			try {
+				handle = LOOKUP.unreflect(method);
+			} catch (IllegalAccessException e) {
+				continue;
+			}
+			if (Modifier.isStatic(method.getModifiers())) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			Json json = method.getAnnotation(Json.class);
+			boolean reduce = !json.reducer().equals(DummyReducer.class);
+			Json.Reducer reducer = reduce ? reducers.computeIfAbsent(json.reducer(), JsonPlan::instantiate) : null;
+			keys.computeIfAbsent(json.key(), k -> new ArrayList<>()).add(new Getter(handle.asType(GETTER), reduce, reducer));
+		}
+		List<Property> list = new ArrayList<>();
+		keys.forEach((key, getters) -> list.add(new Property(key, getters.toArray(new Getter[0]))));
+		Node.Pointer pointer = type.getAnnotation(Node.Pointer.class);
+		this.present = discovery.isPresent();
+		this.pointer = pointer != null ? pointer.value() : null;
+		this.properties = list.toArray(new Property[0]);
+	}
+
+	private static Json.Reducer instantiate(Class<?> type) {
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return (Json.Reducer) constructor.newInstance();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Write an object, map or json string as a json object.
+	 *
+	 * @throws NullPointerException if the object is null or of a type without json keys.
+	 * @throws ClassCastException   if a map contains keys other than strings.
+	 */
+	static void writeObject(JsonWriter out, Object o) throws IOException {
+		if (o == null) throw new NullPointerException("Value cannot be null!");
+		if (o instanceof String && Check.isJson((String) o)) {
+			JsonObject object = JsonAdapter.getJson().fromJson((String) o, JsonObject.class);
+			JsonAdapter.getJson().getAdapter(JsonElement.class).write(out, object);
+			return;
+		}
+		if (o instanceof Map) {
+			out.beginObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+				Object value = entry.getValue();
+				if (isPrimitive(value)) {
+					writePrimitive(out.name((String) entry.getKey()), value);
+				} else if (value instanceof Map) {
+					writeObject(out.name((String) entry.getKey()), value);
+				}
+			}
+			out.endObject();
+			return;
+		}
+		if (o instanceof PantherMap) {
+			out.beginObject();
+			for (Map.Entry<?, ?> entry : ((PantherMap<?, ?>) o).entries()) {
+				Object value = entry.getValue();
+				if (isPrimitive(value)) {
+					writePrimitive(out.name((String) entry.getKey()), value);
+				} else if (value instanceof PantherMap) {
+					writeObject(out.name((String) entry.getKey()), value);
+				}
+			}
+			out.endObject();
+			return;
+		}
+		JsonPlan plan = PLANS.get(o.getClass());
+		if (!plan.present) throw new NullPointerException(o.getClass() + " doesn't contain any json keys.");
+		if (plan.pointer != null) out.beginObject().name(plan.pointer);
+		out.beginObject();
+		for (Property property : plan.properties) {
+			property.write(out, o);
+		}
+		out.endObject();
+		if (plan.pointer != null) out.endObject();
+	}
+
+	/**
+	 * Write every element of an iterable, numbers, booleans and strings as they are and anything else as a json object.
+	 */
+	static void writeArray(JsonWriter out, Iterable<?> iterable) throws IOException {
+		out.beginArray();
+		for (Object o : iterable) {
+			if (o instanceof Number) {
+				out.value((Number) o);
+			} else if (o instanceof Boolean) {
+				out.value((boolean) (Boolean) o);
+			} else if (o instanceof String) {
+				out.value((String) o);
+			} else {
+				writeObject(out, o);
+			}
+		}
+		out.endArray();
+	}
+
+	/**
+	 * @return true if {@link #writeObject(JsonWriter, Object)} succeeds for the object, without calling any getters.
+	 */
+	static boolean isObject(Object o) {
+		if (o == null) return false;
+		if (o instanceof String && Check.isJson((String) o)) {
+			try {
+				JsonAdapter.getJson().fromJson((String) o, JsonObject.class);
+				return true;
+			} catch (JsonParseException | IllegalStateException | ClassCastException e) {
+				return false;
+			}
+		}
+		if (o instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+				if (!isEntry(entry, entry.getValue() instanceof Map)) return false;
+			}
+			return true;
+		}
+		if (o instanceof PantherMap) {
+			for (Map.Entry<?, ?> entry : ((PantherMap<?, ?>) o).entries()) {
+				if (!isEntry(entry, entry.getValue() instanceof PantherMap)) return false;
+			}
+			return true;
+		}
+		return PLANS.get(o.getClass()).present;
+	}
+
+	private static boolean isEntry(Map.Entry<?, ?> entry, boolean nested) {
+		if (!nested && !isPrimitive(entry.getValue())) return true;
+		return entry.getKey() instanceof String && (!nested || isObject(entry.getValue()));
+	}
+
+	static boolean isArray(Iterable<?> iterable) {
+		for (Object o : iterable) {
+			if (!(o instanceof Number || o instanceof Boolean || o instanceof String) && !isObject(o)) return false;
+		}
+		return true;
+	}
+
+	private static boolean isPrimitive(Object value) {
+		return value instanceof String || value instanceof Integer || value instanceof Float || value instanceof Long || value instanceof Double;
+	}
+
+	private static void writePrimitive(JsonWriter out, Object value) throws IOException {
+		if (value instanceof String) {
+			out.value((String) value);
+		} else {
+			out.value((Number) value);
+		}
+	}
+
+	/**
+	 * A json key along with every getter declaring it, the last one succeeding wins.
+	 */
+	static final class Property {
+
+		private final String key;
+		private final Getter[] getters;
+
+		Property(String key, Getter[] getters) {
+			this.key = key;
+			this.getters = getters;
+		}
+
+		void write(JsonWriter out, Object instance) throws IOException {
+			for (int i = getters.length - 1; i >= 0; i--) {
+				if (getters[i].write(out, key, instance)) return;
+			}
+		}
+
+	}
+
+	static final class Getter {
+
+		private final MethodHandle handle;
+		private final boolean reduce;
+		private final Json.Reducer reducer;
+
+		Getter(MethodHandle handle, boolean reduce, Json.Reducer reducer) {
+			this.handle = handle;
+			this.reduce = reduce;
+			this.reducer = reducer;
+		}
+
+		/**
+		 * @return false if nothing was written as the value couldn't be retrieved or represented.
+		 */
+		boolean write(JsonWriter out, String key, Object instance) throws IOException {
+			Object value;
+			try {
+				value = (Object) handle.invokeExact(instance);
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable t) {
+				return false;
+			}
+			if (isPrimitive(value)) {
+				writePrimitive(out.name(key), value);
+				return true;
+			}
+			if (value instanceof Iterable) {
+				if (!isArray((Iterable<?>) value)) return false;
+				writeArray(out.name(key), (Iterable<?>) value);
+				return true;
+			}
+			if (reduce) {
+				if (reducer == null) return false;
+				try {
+					value = reducer.reduce(value);
+				} catch (RuntimeException e) {
+					return false;
+				}
+				if (isPrimitive(value)) {
+					writePrimitive(out.name(key), value);
+					return true;
+				}
+			}
+			if (!isObject(value)) return false;
+			writeObject(out.name(key), value);
+			return true;
+		}
+
+	}
+
+}
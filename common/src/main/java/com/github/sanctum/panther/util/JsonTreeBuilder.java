@@ -0,0 +1,162 @@
+package com.github.sanctum.panther.util;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link JsonWriter} assembling a json tree out of {@link JsonObject}s and {@link JsonArray}s instead of text,
+ * so trees and text are written by the same code.
+ * <p>
+ * Like {@link JsonPrimitive}, NaN and infinities are accepted.
+ */
+final class JsonTreeBuilder extends JsonWriter {
+
+	private static final Writer UNWRITABLE = new Writer() {
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			throw new UnsupportedOperationException("Json trees aren't written as text!");
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	private final Deque<JsonElement> stack = new ArrayDeque<>();
+	private String name;
+	private JsonElement root;
+
+	JsonTreeBuilder() {
+		super(UNWRITABLE);
+		setLenient(true);
+	}
+
+	/**
+	 * @return the completed tree.
+	 * @throws IllegalStateException if nothing or only part of a tree was written.
+	 */
+	JsonElement get() {
+		if (root == null || !stack.isEmpty()) throw new IllegalStateException("Expected one complete json value.");
+		return root;
+	}
+
+	private JsonWriter put(JsonElement value) throws IOException {
+		if (stack.isEmpty()) {
+			if (root != null) throw new IOException("Json trees have a single root.");
+			root = value;
+			return this;
+		}
+		JsonElement parent = stack.peek();
+		if (parent instanceof JsonArray) {
+			((JsonArray) parent).add(value);
+		} else {
+			if (name == null) throw new IOException("Expected a name before the value.");
+			((JsonObject) parent).add(name, value);
+			name = null;
+		}
+		return this;
+	}
+
+	private JsonWriter end(Class<? extends JsonElement> type) throws IOException {
+		if (!type.isInstance(stack.peek()) || name != null) throw new IOException("Nesting problem.");
+		stack.pop();
+		return this;
+	}
+
+	@Override
+	public JsonWriter beginArray() throws IOException {
+		JsonArray array = new JsonArray();
+		put(array);
+		stack.push(array);
+		return this;
+	}
+
+	@Override
+	public JsonWriter endArray() throws IOException {
+		return end(JsonArray.class);
+	}
+
+	@Override
+	public JsonWriter beginObject() throws IOException {
+		JsonObject object = new JsonObject();
+		put(object);
+		stack.push(object);
+		return this;
+	}
+
+	@Override
+	public JsonWriter endObject() throws IOException {
+		return end(JsonObject.class);
+	}
+
+	@Override
+	public JsonWriter name(String name) throws IOException {
+		if (name == null) throw new NullPointerException("name == null");
+		if (!(stack.peek() instanceof JsonObject) || this.name != null) throw new IOException("Names are only expected within objects.");
+		this.name = name;
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(String value) throws IOException {
+		return value == null ? nullValue() : put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public JsonWriter jsonValue(String value) throws IOException {
+		return value == null ? nullValue() : put(JsonParser.parseString(value));
+	}
+
+	@Override
+	public JsonWriter nullValue() throws IOException {
+		return put(JsonNull.INSTANCE);
+	}
+
+	@Override
+	public JsonWriter value(boolean value) throws IOException {
+		return put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public JsonWriter value(Boolean value) throws IOException {
+		return value == null ? nullValue() : put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public JsonWriter value(double value) throws IOException {
+		return put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public JsonWriter value(long value) throws IOException {
+		return put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public JsonWriter value(Number value) throws IOException {
+		return value == null ? nullValue() : put(new JsonPrimitive(value));
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!stack.isEmpty()) throw new IOException("Incomplete document");
+	}
+
+}
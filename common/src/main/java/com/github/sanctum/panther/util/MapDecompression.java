@@ -10,11 +10,16 @@ import com.github.sanctum.panther.recursive.ServiceLoader;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -60,88 +65,102 @@ public final class MapDecompression implements Service {
 		return new EntryMapper() {
 			@Override
 			public Set<String> toSet() {
-				return decompressNormalKeys(iterable, divider, parentKey);
+				Set<String> set = new HashSet<>();
+				iterator().forEachRemaining(e -> set.add(e.getKey()));
+				return set;
 			}
 
 			@Override
 			public PantherCollection<String> toPantherSet() {
-				return decompressLabyrinthKeys(iterable, divider, parentKey);
+				PantherCollection<String> set = new PantherSet<>();
+				iterator().forEachRemaining(e -> set.add(e.getKey()));
+				return set;
 			}
 
 			@Override
 			public Map<String, Object> toMap() {
-				return decompressNormalValues(iterable, divider, parentKey);
+				Map<String, Object> m = new HashMap<>();
+				iterator().forEachRemaining(e -> m.put(e.getKey(), e.getValue()));
+				return m;
 			}
 
 			@Override
 			public PantherMap<String, Object> toPantherMap() {
-				return decompressLabyrinthValues(iterable, divider, parentKey);
+				PantherMap<String, Object> m = new PantherEntryMap<>();
+				iterator().forEachRemaining(e -> m.put(e.getKey(), e.getValue()));
+				return m;
+			}
+
+			@Override
+			public @NotNull Iterator<Map.Entry<String, Object>> iterator() {
+				return iterate(iterable, divider, parentKey);
 			}
 		};
 	}
 
-	Set<String> decompressNormalKeys(@NotNull Iterable<? extends Map.Entry<String, Object>> iterable, char divider, @Nullable String parent) {
-		Set<String> set = new HashSet<>();
-		for (Map.Entry<String, Object> entry : iterable) {
-			if (entry.getValue() instanceof Map) {
-				set.addAll(decompressNormalKeys(((Map<String, Object>) entry.getValue()).entrySet(), divider, appendChild(parent, divider, entry.getKey())));
-			} else {
-				if (entry.getValue() instanceof PantherMap) {
-					decompressLabyrinthKeys(((PantherMap<String, Object>) entry.getValue()).entries(), divider, appendChild(parent, divider, entry.getKey())).forEach(set::add);
-				} else {
-					set.add(appendChild(parent, divider, entry.getKey()));
-				}
+	/**
+	 * Walk the decompressed entries of a map one by one, without building any collection of them.
+	 * <p>
+	 * Nested maps (standard or panther) are descended into depth first, every other value is yielded under its full key.
+	 *
+	 * @param iterable  the entries to decompress.
+	 * @param divider   the character to join keys with.
+	 * @param parentKey the key to prefix every entry with or null.
+	 * @return a lazy iterator of decompressed entries.
+	 */
+	public Iterator<Map.Entry<String, Object>> iterate(@NotNull Iterable<? extends Map.Entry<String, Object>> iterable, char divider, @Nullable String parentKey) {
+		return new Iterator<Map.Entry<String, Object>>() {
+
+			private final Deque<Level> levels = new ArrayDeque<>();
+			private Map.Entry<String, Object> next;
+
+			{
+				levels.push(new Level(parentKey, iterable.iterator()));
 			}
-		}
-		return set;
-	}
 
-	Map<String, Object> decompressNormalValues(@NotNull Iterable<? extends Map.Entry<String, Object>> iterable, char divider, @Nullable String parent) {
-		Map<String, Object> m = new HashMap<>();
-		for (Map.Entry<String, Object> entry : iterable) {
-			if (entry.getValue() instanceof Map) {
-				m.putAll(decompressNormalValues(((Map<String, Object>) entry.getValue()).entrySet(), divider, appendChild(parent, divider, entry.getKey())));
-			} else {
-				if (entry.getValue() instanceof PantherMap) {
-					decompressLabyrinthValues(((PantherMap<String, Object>) entry.getValue()).entries(), divider, appendChild(parent, divider, entry.getKey())).forEach(e -> m.put(e.getKey(), e.getValue()));
-				} else {
-					m.put(appendChild(parent, divider, entry.getKey()), entry.getValue());
+			@Override
+			@SuppressWarnings("unchecked")
+			public boolean hasNext() {
+				while (next == null && !levels.isEmpty()) {
+					Level level = levels.peek();
+					if (!level.entries.hasNext()) {
+						levels.pop();
+						continue;
+					}
+					Map.Entry<String, Object> entry = level.entries.next();
+					String key = appendChild(level.key, divider, entry.getKey());
+					Object value = entry.getValue();
+					if (value instanceof Map) {
+						levels.push(new Level(key, ((Map<String, Object>) value).entrySet().iterator()));
+					} else if (value instanceof PantherMap) {
+						levels.push(new Level(key, ((PantherMap<String, Object>) value).iterator()));
+					} else {
+						next = new AbstractMap.SimpleImmutableEntry<>(key, value);
+					}
 				}
+				return next != null;
 			}
-		}
-		return m;
-	}
 
-	PantherCollection<String> decompressLabyrinthKeys(@NotNull Iterable<? extends Map.Entry<String, Object>> iterable, char divider, @Nullable String parent) {
-		PantherCollection<String> set = new PantherSet<>();
-		for (Map.Entry<String, Object> entry : iterable) {
-			if (entry.getValue() instanceof PantherMap) {
-				set.addAll(decompressLabyrinthKeys(((PantherMap<String, Object>) entry.getValue()).entries(), divider, appendChild(parent, divider, entry.getKey())));
-			} else {
-				if (entry.getValue() instanceof Map) {
-					set.addAll(decompressNormalKeys(((Map<String, Object>) entry.getValue()).entrySet(), divider, appendChild(parent, divider, entry.getKey())));
-				} else {
-					set.add(appendChild(parent, divider, entry.getKey()));
-				}
+			@Override
+			public Map.Entry<String, Object> next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				Map.Entry<String, Object> entry = next;
+				next = null;
+				return entry;
 			}
-		}
-		return set;
+		};
 	}
 
-	PantherMap<String, Object> decompressLabyrinthValues(@NotNull Iterable<? extends Map.Entry<String, Object>> iterable, char divider, @Nullable String parent) {
-		PantherMap<String, Object> m = new PantherEntryMap<>();
-		for (Map.Entry<String, Object> entry : iterable) {
-			if (entry.getValue() instanceof PantherMap) {
-				decompressLabyrinthValues(((PantherMap<String, Object>) entry.getValue()).entries(), divider, appendChild(parent, divider, entry.getKey())).forEach(e -> m.put(e.getKey(), e.getValue()));
-			} else {
-				if (entry.getValue() instanceof Map) {
-					decompressNormalValues(((Map<String, Object>) entry.getValue()).entrySet(), divider, appendChild(parent, divider, entry.getKey())).forEach(m::put);
-				} else {
-					m.put(appendChild(parent, divider, entry.getKey()), entry.getValue());
-				}
-			}
+	static final class Level {
+
+		final String key;
+		final Iterator<? extends Map.Entry<String, Object>> entries;
+
+		Level(String key, Iterator<? extends Map.Entry<String, Object>> entries) {
+			this.key = key;
+			this.entries = entries;
 		}
-		return m;
+
 	}
 
 	public static @NotNull MapDecompression getInstance() {
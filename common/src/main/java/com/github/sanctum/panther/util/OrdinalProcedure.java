@@ -1,10 +1,10 @@
 package com.github.sanctum.panther.util;
 
-import com.github.sanctum.panther.annotation.AnnotationDiscovery;
+import com.github.sanctum.panther.annotation.AnnotatedMethod;
 import com.github.sanctum.panther.annotation.Ordinal;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -21,6 +21,15 @@ import java.util.List;
  */
 public abstract class OrdinalProcedure<E> {
 
+	private static final ClassValue<List<AnnotatedMethod>> ORDINALS = new ClassValue<List<AnnotatedMethod>>() {
+		@Override
+		protected List<AnnotatedMethod> computeValue(Class<?> type) {
+			List<AnnotatedMethod> list = AnnotatedMethod.of(type, Ordinal.class);
+			list.sort(Comparator.comparingInt(m -> m.getAnnotation(Ordinal.class).value()));
+			return Collections.unmodifiableList(list);
+		}
+	};
+
 	private E e;
 	private Iterable<E> eI;
 
@@ -145,8 +154,7 @@ public abstract class OrdinalProcedure<E> {
 	}
 
 	private OrdinalElement<E> run(E element) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		for (Method m : discovery) {
+		for (AnnotatedMethod m : ordinals(element)) {
 			try {
 				m.invoke(element);
 			} catch (Exception e) {
@@ -157,8 +165,8 @@ public abstract class OrdinalProcedure<E> {
 	}
 
 	private OrdinalElement<E> run(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() == ordinal) {
 				try {
 					method.invoke(element);
@@ -174,13 +182,13 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
 	private OrdinalElement<E> max(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() <= ordinal) {
 				try {
 					method.invoke(element);
@@ -196,13 +204,13 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
 	private OrdinalElement<E> min(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() >= ordinal) {
 				try {
 					method.invoke(element);
@@ -218,13 +226,12 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
 	private GenericOrdinalElement get(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		return discovery.getFilteredMethods().stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
+		return ordinals(element).stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
 			try {
 				return new GenericOrdinalElement(method.invoke(element));
 			} catch (Exception exception) {
@@ -242,8 +249,7 @@ public abstract class OrdinalProcedure<E> {
 	}
 
 	private GenericOrdinalElement get(E element, int ordinal, Object... args) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		return discovery.getFilteredMethods().stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
+		return ordinals(element).stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
 			try {
 				return new GenericOrdinalElement(method.invoke(element, args));
 			} catch (Exception exception) {
@@ -260,6 +266,13 @@ public abstract class OrdinalProcedure<E> {
 		}).orElseThrow(() -> new RuntimeException("Ordinal " + ordinal + " either not found or access failed."));
 	}
 
+	/**
+	 * @return the ordinal methods declared by the element's class, sorted by ordinal.
+	 */
+	private static List<AnnotatedMethod> ordinals(Object element) {
+		return ORDINALS.get(element.getClass());
+	}
+
 	public static <E> OrdinalProcedure<E> of(E e) {
 		return new OrdinalProcedure<E>(e) {};
 	}
@@ -291,8 +304,7 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A processed element.
 	 */
 	public static <E> OrdinalElement<E> process(E element) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		for (Method m : discovery) {
+		for (AnnotatedMethod m : ordinals(element)) {
 			try {
 				m.invoke(element);
 			} catch (Exception e) {
@@ -311,8 +323,8 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A processed element.
 	 */
 	public static <E> OrdinalElement<E> process(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() == ordinal) {
 				try {
 					method.invoke(element);
@@ -328,7 +340,7 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
@@ -341,8 +353,8 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A processed element.
 	 */
 	public static <E> OrdinalElement<E> processMax(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() <= ordinal) {
 				try {
 					method.invoke(element);
@@ -358,7 +370,7 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
@@ -371,8 +383,8 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A processed element.
 	 */
 	public static <E> OrdinalElement<E> processMin(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true).sort(Comparator.comparingInt(value -> value.getAnnotation(Ordinal.class).value()));
-		discovery.ifPresent((ord, method) -> {
+		for (AnnotatedMethod method : ordinals(element)) {
+			Ordinal ord = method.getAnnotation(Ordinal.class);
 			if (ord.value() >= ordinal) {
 				try {
 					method.invoke(element);
@@ -388,7 +400,7 @@ public abstract class OrdinalProcedure<E> {
 					}
 				}
 			}
-		});
+		}
 		return new ProcessedOrdinalElement<>(element);
 	}
 
@@ -401,8 +413,7 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A generic ordinal containing synchronized information.
 	 */
 	public static <E> GenericOrdinalElement select(E element, int ordinal) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		return discovery.getFilteredMethods().stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
+		return ordinals(element).stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
 			try {
 				return new GenericOrdinalElement(method.invoke(element));
 			} catch (Exception exception) {
@@ -429,8 +440,7 @@ public abstract class OrdinalProcedure<E> {
 	 * @return A generic ordinal containing synchronized information.
 	 */
 	public static <E> GenericOrdinalElement select(E element, int ordinal, Object... args) {
-		AnnotationDiscovery<Ordinal, E> discovery = AnnotationDiscovery.of(Ordinal.class, element).filter(true);
-		return discovery.getFilteredMethods().stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
+		return ordinals(element).stream().filter(m -> m.getAnnotation(Ordinal.class).value() == ordinal).findFirst().map(method -> {
 			try {
 				return new GenericOrdinalElement(method.invoke(element, args));
 			} catch (Exception exception) {
@@ -5,6 +5,8 @@ import com.github.sanctum.panther.container.PantherCollectors;
 import com.github.sanctum.panther.container.PantherList;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -91,6 +93,9 @@ public interface Page<T> extends Iterable<T> {
 		private final AbstractPaginatedCollection<T> parent;
 		private PantherCollection<T> collection;
 		private final int page;
+		// a slice of the parents' sorted elements, only copied once this page gets modified.
+		private Object[] elements;
+		private int from, to;
 
 		public Impl(AbstractPaginatedCollection<T> parent, int number) {
 			this.parent = parent;
@@ -98,6 +103,31 @@ public interface Page<T> extends Iterable<T> {
 			this.page = number;
 		}
 
+		Impl(AbstractPaginatedCollection<T> parent, int number, Object[] elements, int from, int to) {
+			this.parent = parent;
+			this.page = number;
+			this.elements = elements;
+			this.from = from;
+			this.to = to;
+		}
+
+		private PantherCollection<T> modifiable() {
+			if (collection == null) {
+				PantherCollection<T> copy = new PantherList<>();
+				for (int i = from; i < to; i++) {
+					copy.add(cast(elements[i]));
+				}
+				collection = copy;
+				elements = null;
+			}
+			return collection;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T cast(Object o) {
+			return (T) o;
+		}
+
 		@Override
 		public boolean isModifiable() {
 			return true;
@@ -110,39 +140,64 @@ public interface Page<T> extends Iterable<T> {
 
 		@Override
 		public int size() {
-			return collection.size();
+			PantherCollection<T> collection = this.collection;
+			return collection != null ? collection.size() : to - from;
 		}
 
 		@Override
 		public T get(int index) {
-			return collection.get(index);
+			if (collection != null) return collection.get(index);
+			if (index < 0 || index >= to - from)
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for capacity " + (to - from));
+			return cast(elements[from + index]);
 		}
 
 		@Override
 		public boolean add(T t) {
 			if (!isModifiable()) return false;
-			return collection.add(t);
+			return modifiable().add(t);
 		}
 
 		@Override
 		public boolean remove(T t) {
 			if (!isModifiable()) return false;
-			return collection.remove(t);
+			return modifiable().remove(t);
 		}
 
 		@Override
 		public boolean contains(T t) {
-			return collection.contains(t);
+			if (collection != null) return collection.contains(t);
+			for (int i = from; i < to; i++) {
+				if (Objects.equals(elements[i], t)) return true;
+			}
+			return false;
 		}
 
 		@Override
 		public @NotNull Iterator<T> iterator() {
-			return collection.iterator();
+			if (collection != null) return collection.iterator();
+			Object[] elements = this.elements;
+			int to = this.to;
+			return new Iterator<T>() {
+				int index = from;
+
+				@Override
+				public boolean hasNext() {
+					return index < to;
+				}
+
+				@Override
+				public T next() {
+					if (index >= to) throw new NoSuchElementException();
+					return cast(elements[index++]);
+				}
+			};
 		}
 
 		@Override
 		public Deployable<Page<T>> reorder() {
 			return Deployable.of(() -> {
+				PantherCollection<T> collection = modifiable();
 				PantherCollection<T> copy = collection;
 				if (parent.predicate != null) {
 					copy = collection.stream().filter(parent.predicate).collect(PantherCollectors.toList());
@@ -151,7 +206,7 @@ public interface Page<T> extends Iterable<T> {
 					copy = copy.stream().sorted(parent.comparator).collect(PantherCollectors.toSet());
 				}
 				collection.clear();
-				collection = copy;
+				this.collection = copy;
 				return this;
 			}, 0);
 		}
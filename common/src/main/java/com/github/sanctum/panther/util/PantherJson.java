@@ -0,0 +1,117 @@
+package com.github.sanctum.panther.util;
+
+import com.github.sanctum.panther.container.PantherCollection;
+import com.github.sanctum.panther.container.PantherEntryMap;
+import com.github.sanctum.panther.container.PantherList;
+import com.github.sanctum.panther.container.PantherMap;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Single pass conversions between json streams and panther containers, no json tree is built in between.
+ * <p>
+ * Values are converted just like {@link JsonIntermediate#convertToPantherMap(com.google.gson.JsonObject)} does,
+ * numbers are kept lazily parsed and nulls are left out.
+ */
+final class PantherJson {
+
+	private PantherJson() {
+	}
+
+	static PantherMap<String, Object> readMap(JsonReader in) throws IOException {
+		PantherMap<String, Object> map = new PantherEntryMap<>();
+		in.beginObject();
+		while (in.hasNext()) {
+			String key = in.nextName();
+			Object value = readValue(in);
+			if (value != null) {
+				map.put(key, value);
+			} else {
+				// a later null replaces an earlier duplicate, which then gets left out.
+				map.remove(key);
+			}
+		}
+		in.endObject();
+		return map;
+	}
+
+	static PantherCollection<Object> readList(JsonReader in) throws IOException {
+		PantherCollection<Object> list = new PantherList<>();
+		in.beginArray();
+		while (in.hasNext()) {
+			Object value = readValue(in);
+			if (value != null) list.add(value);
+		}
+		in.endArray();
+		return list;
+	}
+
+	static Object readValue(JsonReader in) throws IOException {
+		switch (in.peek()) {
+			case BEGIN_OBJECT:
+				return readMap(in);
+			case BEGIN_ARRAY:
+				return readList(in);
+			case STRING:
+				return in.nextString();
+			case NUMBER:
+				return ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in);
+			case BOOLEAN:
+				return in.nextBoolean();
+			case NULL:
+				in.nextNull();
+				return null;
+			default:
+				throw new MalformedJsonException("Unexpected " + in.peek() + " at " + in.getPath());
+		}
+	}
+
+	static void writeMap(JsonWriter out, PantherMap<?, ?> map) throws IOException {
+		out.beginObject();
+		for (Map.Entry<?, ?> entry : map) {
+			writeValue(out.name(String.valueOf(entry.getKey())), entry.getValue());
+		}
+		out.endObject();
+	}
+
+	static void writeList(JsonWriter out, Iterable<?> list) throws IOException {
+		out.beginArray();
+		for (Object o : list) {
+			writeValue(out, o);
+		}
+		out.endArray();
+	}
+
+	static void writeValue(JsonWriter out, Object value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else if (value instanceof String) {
+			out.value((String) value);
+		} else if (value instanceof Number) {
+			out.value((Number) value);
+		} else if (value instanceof Boolean) {
+			out.value((boolean) (Boolean) value);
+		} else if (value instanceof Character) {
+			out.value(value.toString());
+		} else if (value instanceof PantherMap) {
+			writeMap(out, (PantherMap<?, ?>) value);
+		} else if (value instanceof Map) {
+			out.beginObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				writeValue(out.name(String.valueOf(entry.getKey())), entry.getValue());
+			}
+			out.endObject();
+		} else if (value instanceof Iterable) {
+			writeList(out, (Iterable<?>) value);
+		} else if (JsonPlan.isObject(value)) {
+			JsonPlan.writeObject(out, value);
+		} else {
+			out.value(value.toString());
+		}
+	}
+
+}
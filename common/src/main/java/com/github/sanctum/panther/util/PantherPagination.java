@@ -2,6 +2,7 @@ package com.github.sanctum.panther.util;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 
 class PantherPagination<T> extends AbstractPaginatedCollection<T> {
 
@@ -13,6 +14,10 @@ class PantherPagination<T> extends AbstractPaginatedCollection<T> {
 		super(collection);
 	}
 
+	PantherPagination(Iterator<? extends T> source) {
+		super(source);
+	}
+
 	@SafeVarargs
 	PantherPagination(T... collection) {
 		super(collection);
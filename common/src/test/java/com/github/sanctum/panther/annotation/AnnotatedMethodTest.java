@@ -0,0 +1,51 @@
+package com.github.sanctum.panther.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AnnotatedMethodTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Sample {
+
+        int value() default 1;
+
+        String[] names() default {};
+
+        long[] weights() default {};
+
+    }
+
+    @Sample(value = 3, names = {"a", "b"}, weights = 7)
+    void annotated() {
+    }
+
+    @Test
+    void synthesizedAnnotationsHonourTheAnnotationContract() throws NoSuchMethodException {
+        Sample real = AnnotatedMethodTest.class.getDeclaredMethod("annotated").getAnnotation(Sample.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("value", 3);
+        attributes.put("names", new String[]{"a", "b"});
+        attributes.put("weights", new long[]{7});
+        Annotation synthesized = AnnotatedMethod.Generated.synthesize(Sample.class, attributes);
+
+        assertEquals(real, synthesized);
+        assertEquals(synthesized, real);
+        assertEquals(real.hashCode(), synthesized.hashCode());
+
+        Map<String, Object> changed = new HashMap<>(attributes);
+        changed.put("names", new String[]{"a"});
+        Annotation other = AnnotatedMethod.Generated.synthesize(Sample.class, changed);
+        assertNotEquals(real, other);
+        assertNotEquals(other, real);
+        assertNotEquals(synthesized, other);
+    }
+
+}
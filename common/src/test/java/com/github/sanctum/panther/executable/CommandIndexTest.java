@@ -0,0 +1,87 @@
+package com.github.sanctum.panther.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.sanctum.panther.util.PantherLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+class CommandIndexTest {
+
+	public static class Alpha implements Executable {
+
+		@Command(aliases = {"alpha", "x"}, description = "")
+		public void alpha(Command.Context context) {
+		}
+
+	}
+
+	public static class Shadowing implements Executable {
+
+		@Command(aliases = "x", description = "")
+		public void x(Command.Context context) {
+		}
+
+	}
+
+	public static class Taken implements Executable {
+
+		@Command(aliases = {"gamma", "alpha"}, description = "")
+		public void gamma(Command.Context context) {
+		}
+
+	}
+
+	public static class Unrelated implements Executable {
+
+		@Command(aliases = "delta", description = "")
+		public void delta(Command.Context context) {
+		}
+
+	}
+
+	@Test
+	void conflictsAreReportedInBothDirectionsOnce() {
+		List<String> warnings = new ArrayList<>();
+		Handler handler = new Handler() {
+			@Override
+			public void publish(LogRecord record) {
+				warnings.add(record.getMessage());
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		Logger logger = PantherLogger.getInstance().getLogger();
+		logger.addHandler(handler);
+		try {
+			CommandIndex index = CommandIndex.EMPTY.with(new Alpha());
+			assertEquals(0, warnings.size());
+
+			index = index.with(new Shadowing());
+			assertEquals("x", index.get("x").label);
+			assertEquals(1, warnings.size());
+			assertEquals("- Command 'x' takes over alias 'x' of command 'alpha', it no longer resolves to it.", warnings.get(0));
+
+			index = index.with(new Taken());
+			assertEquals("alpha", index.get("alpha").label);
+			assertEquals(2, warnings.size());
+			assertEquals("- Alias 'alpha' of command 'gamma' is already taken by command 'alpha', ignoring it.", warnings.get(1));
+
+			index = index.with(new Unrelated());
+			assertEquals(2, warnings.size());
+		} finally {
+			logger.removeHandler(handler);
+		}
+	}
+
+}
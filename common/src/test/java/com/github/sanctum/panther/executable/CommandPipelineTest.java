@@ -0,0 +1,39 @@
+package com.github.sanctum.panther.executable;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CommandPipelineTest {
+
+	@Test
+	void executorsSharingANameShareALane() throws Exception {
+		CommandPipeline pipeline = new CommandPipeline();
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		// separate instances without equals, like a fresh wrapper per command sender.
+		Executor first = () -> "steve";
+		Executor second = () -> "steve";
+		Executor other = () -> "alex";
+
+		CompletableFuture<Void> blocking = pipeline.submit(first, () -> {
+			running.countDown();
+			release.await();
+		});
+		assertTrue(running.await(10, TimeUnit.SECONDS));
+		CompletableFuture<Void> queued = pipeline.submit(second, () -> {
+		});
+		pipeline.submit(other, () -> {
+		}).get(10, TimeUnit.SECONDS);
+		assertFalse(queued.isDone());
+
+		release.countDown();
+		blocking.get(10, TimeUnit.SECONDS);
+		queued.get(10, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.github.sanctum.panther.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CommandProcessorTest {
+
+	public static class Clan implements Executable {
+
+		@Command(aliases = {"clan", "c"}, description = "", args = {"join", "leave"})
+		public void clan(Command.Context context) {
+		}
+
+		@SubCommand(aliase = "info", command = "clan")
+		public void info(Command.Context context) {
+		}
+
+		@SubCommand(aliase = "base", command = "clan")
+		public void base(Command.Context context) {
+		}
+
+		@SubCommand(aliase = "home", command = "clan", pos = 2)
+		@SubCommand.Requirement(arg = "set", pos = 1)
+		public void setHome(Command.Context context) {
+		}
+
+	}
+
+	static CommandProcessor processor() {
+		CommandProcessor processor = new CommandProcessor() {
+		};
+		processor.register(new Clan());
+		return processor;
+	}
+
+	/**
+	 * @return the context {@link CommandProcessor#complete(Executor, String)} completes, a trailing space starts a new argument.
+	 */
+	static Command.Context context(String executor, String text) {
+		return new CommandContext(() -> executor, text.split(" ", -1));
+	}
+
+	@Test
+	void labelsAndAliasesCompleteFirst() {
+		CommandProcessor processor = processor();
+		assertEquals(Arrays.asList("c", "clan"), processor.complete(() -> "steve", "C"));
+		assertEquals(Collections.singletonList("clan"), processor.complete(() -> "steve", "cl"));
+		assertEquals(Collections.emptyList(), processor.complete(() -> "steve", "x"));
+	}
+
+	@Test
+	void subCommandsComeBeforeArgumentsAndCompleters() {
+		CommandProcessor processor = processor();
+		processor.addCompleter("clan", 1, context -> Arrays.asList("invite", "base", "Info", null));
+		assertEquals(Arrays.asList("base", "info", "join", "leave", "invite"), processor.complete(() -> "steve", "clan "));
+		assertEquals(Arrays.asList("info", "invite"), processor.complete(() -> "steve", "c I"));
+		// unknown labels and positions nothing was added for.
+		assertEquals(Collections.emptyList(), processor.complete(() -> "steve", "guild "));
+		assertEquals(Collections.emptyList(), processor.complete(() -> "steve", "clan info "));
+	}
+
+	@Test
+	void requirementsGateSubCommands() {
+		CommandProcessor processor = processor();
+		assertEquals(Collections.singletonList("home"), processor.complete(() -> "steve", "clan set h"));
+		assertEquals(Collections.emptyList(), processor.complete(() -> "steve", "clan get h"));
+	}
+
+	@Test
+	void completersRemovedStopSuggesting() {
+		CommandProcessor processor = processor();
+		Command.Completer completer = context -> Collections.singletonList("invite");
+		// added for an alias, only asked when typing that alias.
+		processor.addCompleter("c", 1, completer);
+		assertEquals(Arrays.asList("info", "invite"), processor.complete(() -> "steve", "C in"));
+		assertEquals(Collections.singletonList("info"), processor.complete(() -> "steve", "clan in"));
+		processor.removeCompleter(completer);
+		assertEquals(Collections.singletonList("info"), processor.complete(() -> "steve", "c in"));
+	}
+
+	@Test
+	void cachedSuggestionsAreSharedPerExecutorName() {
+		AtomicInteger calls = new AtomicInteger();
+		CachedCompleter completer = new CachedCompleter(context -> {
+			calls.incrementAndGet();
+			return Collections.singletonList(context.getExecutor().getName());
+		}, 1, TimeUnit.MINUTES);
+
+		// fresh executor instances, just like a new wrapper per command sender.
+		Suggestions first = completer.get(context("steve", "clan invite "));
+		assertSame(first, completer.get(context("steve", "clan invite st")));
+		assertEquals(1, calls.get());
+
+		// another executor or other preceding arguments miss.
+		completer.get(context("alex", "clan invite "));
+		completer.get(context("steve", "clan kick "));
+		assertEquals(3, calls.get());
+		// preceding arguments are compared ignoring case.
+		completer.get(context("steve", "CLAN Invite "));
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	void uncachedCompletersAreAskedEveryTime() throws InterruptedException {
+		AtomicInteger calls = new AtomicInteger();
+		CachedCompleter uncached = new CachedCompleter(context -> {
+			calls.incrementAndGet();
+			return Collections.singletonList("a");
+		}, 0, TimeUnit.MILLISECONDS);
+		uncached.get(context("steve", "clan "));
+		uncached.get(context("steve", "clan "));
+		assertEquals(2, calls.get());
+
+		CachedCompleter expiring = new CachedCompleter(context -> {
+			calls.incrementAndGet();
+			return Collections.singletonList("a");
+		}, 1, TimeUnit.MILLISECONDS);
+		expiring.get(context("steve", "clan "));
+		Thread.sleep(5);
+		expiring.get(context("steve", "clan "));
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	void suggestionsFilterByPrefixAndKeepTheLowestRank() {
+		Suggestions suggestions = new Suggestions.Builder()
+				.add("Beta", Suggestions.COMPLETER, null)
+				.add("alpha", Suggestions.ARGUMENT, null)
+				.add("beta", Suggestions.SUB_COMMAND, null)
+				.add("", Suggestions.ARGUMENT, null)
+				.add("bravo", Suggestions.ARGUMENT, null)
+				.build();
+		Suggestions.Ranking ranking = new Suggestions.Ranking();
+		suggestions.collect("b", context("steve", "clan b"), ranking);
+		assertEquals(Arrays.asList("beta", "bravo"), ranking.toList());
+
+		ranking = new Suggestions.Ranking();
+		suggestions.collect("", context("steve", "clan "), ranking);
+		assertEquals(Arrays.asList("beta", "alpha", "bravo"), ranking.toList());
+
+		ranking = new Suggestions.Ranking();
+		Suggestions.EMPTY.collect("", context("steve", "clan "), ranking);
+		assertTrue(ranking.toList().isEmpty());
+		assertSame(Suggestions.EMPTY, Suggestions.of(Collections.singletonList(""), Suggestions.COMPLETER));
+	}
+
+}
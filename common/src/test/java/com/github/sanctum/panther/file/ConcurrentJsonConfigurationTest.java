@@ -0,0 +1,110 @@
+package com.github.sanctum.panther.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConcurrentJsonConfigurationTest {
+
+	@TempDir
+	File folder;
+
+	@Test
+	void writesReachTheJsonTree() {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		configuration.set("a.b", 1);
+		configuration.set("a.c", Arrays.asList("x", "y"));
+		assertEquals(1, ((Map<?, ?>) configuration.json.get("a")).get("b"));
+		assertEquals(configuration.json, configuration.snapshot());
+		configuration.set("a.b", null);
+		assertEquals(configuration.json, configuration.snapshot());
+	}
+
+	@Test
+	void returnedListsAreModifiableCopies() {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		configuration.set("list", Arrays.asList("x", "y"));
+		List<String> list = configuration.getStringList("list");
+		list.add("z");
+		assertEquals(Arrays.asList("x", "y"), configuration.getStringList("list"));
+		@SuppressWarnings("unchecked")
+		List<Object> frozen = (List<Object>) configuration.snapshot().get("list");
+		assertThrows(UnsupportedOperationException.class, () -> frozen.add("z"));
+	}
+
+	@Test
+	void readsOnlyCopyTheTopLevel() {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		configuration.set("a.b.c", 1);
+		Map<?, ?> section = (Map<?, ?>) configuration.get("a");
+		Map<?, ?> frozen = (Map<?, ?>) configuration.snapshot().get("a");
+		assertNotSame(frozen, section);
+		assertSame(frozen.get("b"), section.get("b"));
+		assertSame(frozen, configuration.getValues(false).get("a"));
+		section.clear();
+		assertEquals(1, configuration.get("a.b.c", Integer.class));
+	}
+
+	@Test
+	void concurrentWritesAreNotLost() throws InterruptedException {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 1000; i++) {
+			String key = "section" + (i % 8) + ".key" + i;
+			int value = i;
+			executor.execute(() -> configuration.set(key, value));
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1000, configuration.getKeys(true).stream().filter(k -> k.contains(".key")).count());
+		assertEquals(configuration.json, configuration.snapshot());
+	}
+
+	@Test
+	void deepReadsSeeTheLatestWrite() throws Exception {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		// keeps rebuilding the deep index while the writes below publish their trees.
+		CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+			while (writing.get()) {
+				configuration.getValues(true);
+			}
+		});
+		try {
+			for (int i = 0; i < 2000; i++) {
+				configuration.set("a.b.c", i);
+				assertTrue(configuration.getKeys(true).contains("a.b.c"));
+				assertEquals(i, configuration.getValues(true).get("a.b.c"));
+			}
+		} finally {
+			writing.set(false);
+		}
+		reader.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void savedFileMatchesSnapshot() {
+		ConcurrentJsonConfiguration configuration = new ConcurrentJsonConfiguration(folder, "test", null);
+		configuration.set("a.b", "c");
+		assertTrue(configuration.save());
+		JsonConfiguration reloaded = new JsonConfiguration(folder, "test", null);
+		assertEquals("c", reloaded.getString("a.b"));
+		assertEquals(new ArrayList<>(configuration.getKeys(true)).size(), reloaded.getKeys(true).size());
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.github.sanctum.panther.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.sanctum.panther.event.Vent;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigurableWatcherTest {
+
+	@TempDir
+	File folder;
+
+	@Test
+	void ownSavesAreNotReloadedButExternalChangesAre() throws Exception {
+		Vent.Host host = new Vent.Host() {
+			@Override
+			public @NotNull String getName() {
+				return "watcher-test";
+			}
+
+			@Override
+			public @NotNull File getDataFolder() {
+				return folder;
+			}
+		};
+		BlockingQueue<ConfigurableReloadEvent> events = new LinkedBlockingQueue<>();
+		host.subscribe(new Vent.Subscription<>(ConfigurableReloadEvent.class, host, Vent.Priority.MEDIUM, (event, subscription) -> events.add(event)));
+		Configurable configurable = Configurable.view(host).get("settings", Configurable.Type.JSON).getRoot();
+		try (ConfigurableWatcher watcher = new ConfigurableWatcher(20, TimeUnit.MILLISECONDS)) {
+			watcher.watch(host);
+			for (int i = 0; i < 3; i++) {
+				configurable.set("count", i);
+				assertTrue(configurable.save());
+			}
+			assertEquals(null, events.poll(500, TimeUnit.MILLISECONDS));
+			assertEquals(2, configurable.get("count"));
+
+			Files.write(configurable.getParent().toPath(), "{\"count\": 5}".getBytes(StandardCharsets.UTF_8));
+			ConfigurableReloadEvent event = events.poll(10, TimeUnit.SECONDS);
+			assertTrue(event != null && event.getChangedKeys().contains("count"));
+			assertEquals(5, configurable.getInt("count"));
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.github.sanctum.panther.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.sanctum.panther.event.Vent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EditorCacheTest {
+
+	@TempDir
+	File folder;
+
+	Vent.Host host(String name) {
+		return new Vent.Host() {
+			@Override
+			public @NotNull String getName() {
+				return name;
+			}
+
+			@Override
+			public @NotNull File getDataFolder() {
+				return folder;
+			}
+		};
+	}
+
+	@Test
+	void concurrentLookupsShareOneEditor() throws Exception {
+		Vent.Host host = host("editor-cache-shared");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Configurable.Editor>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return Configurable.view(host).get("shared", Configurable.Type.JSON);
+				}));
+			}
+			start.countDown();
+			Configurable.Editor first = futures.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<Configurable.Editor> future : futures) {
+				assertSame(first, future.get(10, TimeUnit.SECONDS));
+			}
+			assertSame(first, Configurable.view(host).get("shared", Configurable.Type.JSON));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void lookupsWaitForTheWriteBackOfAnEvictedEditor() throws Exception {
+		Configurable.Host host = host("editor-cache-eviction");
+		CountDownLatch saving = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		JsonConfiguration slow = new JsonConfiguration(folder, "data", null) {
+			@Override
+			public boolean save() {
+				saving.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.save();
+			}
+		};
+		slow.set("value", "unsaved");
+		EditorCache cache = new EditorCache(1, 0, TimeUnit.MINUTES);
+		Configurable.Editor editor = new Configurable.Editor(host, slow);
+		cache.putIfAbsent(editor);
+
+		CompletableFuture<Void> evicting = CompletableFuture.runAsync(() -> cache.putIfAbsent(new Configurable.Editor(host, new JsonConfiguration(folder, "other", null))));
+		assertTrue(saving.await(10, TimeUnit.SECONDS));
+		CompletableFuture<Configurable.Editor> lookup = CompletableFuture.supplyAsync(() -> cache.get(EditorCache.key(editor)));
+		Thread.sleep(200);
+		assertFalse(lookup.isDone());
+
+		release.countDown();
+		assertNull(lookup.get(10, TimeUnit.SECONDS));
+		evicting.get(10, TimeUnit.SECONDS);
+		assertEquals("unsaved", new JsonConfiguration(folder, "data", null).getString("value"));
+	}
+
+}
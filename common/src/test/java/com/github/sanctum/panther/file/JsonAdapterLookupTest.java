@@ -0,0 +1,60 @@
+package com.github.sanctum.panther.file;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonAdapterLookupTest {
+
+	interface Shape {
+	}
+
+	static class Square implements Shape {
+	}
+
+	static class ColoredSquare extends Square {
+	}
+
+	static final class ShapeAdapter implements JsonAdapter<Shape> {
+
+		@Override
+		public JsonElement write(Shape shape) {
+			return new JsonObject();
+		}
+
+		@Override
+		public Shape read(Map<String, Object> object) {
+			return new Square();
+		}
+
+		@Override
+		public Class<? extends Shape> getSerializationSignature() {
+			return Shape.class;
+		}
+
+	}
+
+	@Test
+	void subtypesResolveTheAdapterOfTheirClosestSupertype() {
+		JsonAdapterInput<?> input = new JsonAdapterInput.Impl<>(new ShapeAdapter());
+		Configurable.serializers.put("shape", input);
+		JsonAdapterLookup.invalidate();
+		try {
+			assertSame(input, JsonAdapterLookup.resolve(Shape.class).getValue());
+			assertSame(input, JsonAdapterLookup.resolve(Square.class).getValue());
+			assertSame(input, JsonAdapterLookup.resolve(ColoredSquare.class).getValue());
+			assertSame(input, JsonAdapterLookup.resolve(new Square() {}.getClass()).getValue());
+			// array elements have to be instances of the requested type, a supertype adapter doesn't qualify.
+			assertNull(JsonAdapterLookup.resolveAssignable(Square.class));
+		} finally {
+			Configurable.serializers.remove("shape");
+			JsonAdapterLookup.invalidate();
+		}
+		assertNull(JsonAdapterLookup.resolve(ColoredSquare.class));
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.github.sanctum.panther.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonConfigurationTest {
+
+	@TempDir
+	File folder;
+
+	@Test
+	void savingRecordsTheHashOfTheFile() throws Exception {
+		JsonConfiguration configuration = new JsonConfiguration(folder, "test", null);
+		configuration.set("a", 1);
+		assertTrue(configuration.save());
+		assertArrayEquals(ConfigurableWatcher.digest(Files.readAllBytes(configuration.getParent().toPath())), configuration.digest);
+		JsonConfiguration loaded = new JsonConfiguration(folder, "test", null);
+		assertArrayEquals(configuration.digest, loaded.digest);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void reloadedTreeDoesNotReplaceWritesMadeMeanwhile() {
+		JsonConfiguration configuration = new JsonConfiguration(folder, "test", null);
+		long modificationCount = configuration.getModificationCount();
+		configuration.set("a", 1);
+		assertFalse(configuration.replaceRoot(new JSONObject(), modificationCount));
+		assertEquals(1, configuration.get("a"));
+		configuration.save();
+		JSONObject external = new JSONObject();
+		external.put("b", 2L);
+		assertTrue(configuration.replaceRoot(external, configuration.getModificationCount()));
+		assertEquals(2L, configuration.get("b"));
+		assertFalse(configuration.isDirty());
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.github.sanctum.panther.net.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+class HttpBodyTest {
+
+    static byte[] written(HttpEntity entity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void contentMatchesWhatIsWritten() throws Exception {
+        HttpBody form = HttpBody.form();
+        form.field("api_paste_code", Arrays.asList("first line", "zweite Zeile mit Umlauten äöü", "🐾"));
+        form.field("api_option", "paste");
+        HttpEntity entity = form.entity();
+        byte[] expected = written(entity);
+        assertEquals("api_paste_code=first+line%0Azweite+Zeile+mit+Umlauten+%C3%A4%C3%B6%C3%BC%0A%F0%9F%90%BE%0A&api_option=paste",
+                new String(expected, StandardCharsets.UTF_8));
+
+        // repeatable, every call reads the whole body again.
+        assertTrue(entity.isRepeatable());
+        assertArrayEquals(expected, EntityUtils.toByteArray(entity));
+        assertArrayEquals(expected, EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    void contentCanBeReadByteByByte() throws Exception {
+        HttpEntity entity = HttpBody.text(Arrays.asList("a", "", "ü"), "text/plain").entity();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        try (InputStream content = entity.getContent()) {
+            for (int b; (b = content.read()) != -1; ) {
+                read.write(b);
+            }
+        }
+        assertArrayEquals(written(entity), read.toByteArray());
+        assertArrayEquals("a\n\nü\n".getBytes(StandardCharsets.UTF_8), read.toByteArray());
+
+        HttpEntity empty = HttpBody.text(Collections.emptyList(), "text/plain").entity();
+        try (InputStream content = empty.getContent()) {
+            assertEquals(-1, content.read(new byte[4], 0, 4));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.sanctum.panther.net.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpClientPoolTest {
+
+    static {
+        // small responses otherwise wait out delayed acks, read once when the first server starts.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private ExecutorService handlers;
+    private String url;
+
+    @BeforeEach
+    void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            // every kept-alive connection keeps its client port.
+            connections.add(exchange.getRemoteAddress());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        handlers = Executors.newFixedThreadPool(8);
+        server.setExecutor(handlers);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void requestsReuseThePooledConnections() throws Exception {
+        int threads = 8, requests = 250;
+        try (HttpClientPool pool = HttpClientPool.builder().setMaxPerRoute(4).build()) {
+            ExecutorService clients = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(clients.submit(() -> {
+                        int ok = 0;
+                        for (int i = 0; i < requests; i++) {
+                            if ("ok".equals(HttpUtils.newGetBuilder(url, s -> s).setSubPath("/data").setPool(pool).buildAndGet())) ok++;
+                        }
+                        return ok;
+                    }));
+                }
+                int ok = 0;
+                for (Future<Integer> future : futures) {
+                    ok += future.get(60, TimeUnit.SECONDS);
+                }
+                assertEquals(threads * requests, ok);
+                assertTrue(connections.size() <= 4, "opened " + connections.size() + " connections");
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+        assertTrue(!connections.isEmpty());
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.github.sanctum.panther.net.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HttpResponseCacheTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    void damagedEntriesAreMisses() throws Exception {
+        String key = "http://127.0.0.1/data";
+        byte[] body = "cached body".getBytes(StandardCharsets.UTF_8);
+        BasicHttpResponse response = new BasicHttpResponse(200);
+        response.setHeader("ETag", "\"v1\"");
+        HttpResponseCache.builder().setDirectory(folder.toPath()).build().update(key, null, response, body);
+        assertArrayEquals(body, HttpResponseCache.builder().setDirectory(folder.toPath()).build().get(key).body);
+
+        Path file;
+        try (Stream<Path> files = Files.list(folder.toPath())) {
+            file = files.filter(p -> p.toString().endsWith(".cache")).findFirst().orElseThrow(IllegalStateException::new);
+        }
+        byte[] content = Files.readAllBytes(file);
+        int length = content.length - body.length - 4;
+        assertEquals(body.length, ByteBuffer.wrap(content, length, 4).getInt());
+        for (int damaged : new int[]{-1, Integer.MIN_VALUE, Integer.MAX_VALUE, body.length + 1, body.length - 1}) {
+            ByteBuffer.wrap(content, length, 4).putInt(damaged);
+            Files.write(file, content);
+            assertNull(HttpResponseCache.builder().setDirectory(folder.toPath()).build().get(key));
+        }
+    }
+
+    static BasicHttpResponse response() {
+        BasicHttpResponse response = new BasicHttpResponse(200);
+        response.setHeader("ETag", "\"v1\"");
+        return response;
+    }
+
+    long files() throws Exception {
+        try (Stream<Path> files = Files.list(folder.toPath())) {
+            return files.filter(p -> p.toString().endsWith(".cache")).count();
+        }
+    }
+
+    @Test
+    void theDirectoryDropsTheLeastRecentlyUsedResponses() throws Exception {
+        byte[] body = new byte[1000];
+        HttpResponseCache measure = HttpResponseCache.builder().setDirectory(folder.toPath()).build();
+        measure.update("http://127.0.0.1/0", null, response(), body);
+        long size = measure.getDirectorySize();
+        assertTrue(size > body.length);
+
+        // room for two responses, none of them kept in memory.
+        HttpResponseCache cache = HttpResponseCache.builder().setDirectory(folder.toPath()).setMaxEntries(0).setMaxDirectoryBytes(size * 2).build();
+        cache.update("http://127.0.0.1/1", null, response(), body);
+        assertEquals(2, files());
+        // reading keeps the older one, the newer one gets dropped instead.
+        assertArrayEquals(body, cache.get("http://127.0.0.1/0").body);
+        cache.update("http://127.0.0.1/2", null, response(), body);
+        assertEquals(2, files());
+        assertEquals(size * 2, cache.getDirectorySize());
+        assertNull(cache.get("http://127.0.0.1/1"));
+        assertArrayEquals(body, cache.get("http://127.0.0.1/0").body);
+
+        // responses larger than the directory never reach it.
+        cache.update("http://127.0.0.1/0", null, response(), new byte[(int) size * 2]);
+        assertNull(cache.get("http://127.0.0.1/0"));
+        assertEquals(1, files());
+
+        // a smaller limit applies to what a previous run left behind.
+        HttpResponseCache smaller = HttpResponseCache.builder().setDirectory(folder.toPath()).setMaxDirectoryBytes(size - 1).build();
+        assertEquals(0, smaller.getDirectorySize());
+        assertEquals(0, files());
+    }
+
+    @Test
+    void asyncLookupsOnlyWaitForTheDirectory() throws Exception {
+        byte[] body = "cached body".getBytes(StandardCharsets.UTF_8);
+        HttpResponseCache.builder().setDirectory(folder.toPath()).build().update("http://127.0.0.1/data", null, response(), body);
+        HttpResponseCache cache = HttpResponseCache.builder().setDirectory(folder.toPath()).build();
+        assertNull(cache.getAsync("http://127.0.0.1/missing").get());
+        assertArrayEquals(body, cache.getAsync("http://127.0.0.1/data").get().body);
+
+        // remembered in memory by now.
+        CompletableFuture<HttpResponseCache.Entry> remembered = cache.getAsync("http://127.0.0.1/data");
+        assertTrue(remembered.isDone());
+        assertArrayEquals(body, remembered.get().body);
+    }
+
+}
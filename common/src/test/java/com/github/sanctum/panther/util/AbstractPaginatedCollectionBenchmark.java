@@ -0,0 +1,65 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Times reordering, visiting every page and updating a few elements at 1k, 100k and 1M random ints, 10 per page.
+ */
+@Tag("benchmark")
+class AbstractPaginatedCollectionBenchmark {
+
+	static AbstractPaginatedCollection<Integer> paginate(List<Integer> elements) {
+		return AbstractPaginatedCollection.of(new ArrayList<>(elements))
+				.sort(Comparator.naturalOrder())
+				.limit(10);
+	}
+
+	@Test
+	void pagination() throws Exception {
+		for (int n : new int[]{1_000, 100_000, 1_000_000}) {
+			Random random = new Random(n);
+			List<Integer> elements = new ArrayList<>(n);
+			for (int i = 0; i < n; i++) {
+				elements.add(random.nextInt());
+			}
+			int iterations = Math.max(5, 100_000 / n);
+			// a fresh collection each time, reordering sorted elements again is cheaper than the first reorder.
+			double reorder = Benchmark.measure(iterations, iterations, () -> paginate(elements).reorder().deploy());
+			AbstractPaginatedCollection<Integer> collection = paginate(elements);
+			collection.reorder().deploy();
+			double visit = Benchmark.measure(iterations, iterations, () -> {
+				int total = 0;
+				for (int page = 1; page <= collection.size(); page++) {
+					total += collection.get(page).size();
+				}
+				return total;
+			});
+			List<Integer> changed = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				changed.add(random.nextInt());
+			}
+			double update = Benchmark.measure(iterations, iterations, () -> collection.update(changed).deploy());
+
+			int previous = Integer.MIN_VALUE, total = 0;
+			for (int page = 1; page <= collection.size(); page++) {
+				for (Integer element : collection.get(page)) {
+					assertEquals(true, previous <= element);
+					previous = element;
+					total++;
+				}
+			}
+			assertEquals(n + changed.size(), total);
+			Benchmark.report(n + " reorder", reorder, collection.size() + " pages");
+			Benchmark.report(n + " every page via get()", visit, "");
+			Benchmark.report(n + " update of 10 elements", update, "");
+		}
+	}
+
+}
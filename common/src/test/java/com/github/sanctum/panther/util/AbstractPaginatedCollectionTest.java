@@ -0,0 +1,283 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class AbstractPaginatedCollectionTest {
+
+	static <T> List<List<T>> pages(AbstractPaginatedCollection<T> collection) {
+		List<List<T>> pages = new ArrayList<>();
+		for (Page<T> page : collection) {
+			List<T> elements = new ArrayList<>();
+			page.forEach(elements::add);
+			pages.add(elements);
+		}
+		return pages;
+	}
+
+	static List<Integer> range(int from, int to) {
+		List<Integer> list = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	@Test
+	void topKeepsTheBestElementsWithoutLosingTheRest() {
+		List<Integer> source = new ArrayList<>(Arrays.asList(5, 3, 9, 1, 7, 2, 8));
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source)
+				.sort(Comparator.naturalOrder())
+				.limit(2)
+				.top(3);
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), pages(collection));
+		assertEquals(2, collection.size());
+		assertEquals(Arrays.asList(5, 3, 9, 1, 7, 2, 8), source);
+
+		// the dropped elements come back once the limit is raised.
+		collection.top(-1).reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 5), Arrays.asList(7, 8), Arrays.asList(9)), pages(collection));
+
+		// and once another order prefers them.
+		collection.top(2).sort(Comparator.reverseOrder()).reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(9, 8)), pages(collection));
+	}
+
+	@Test
+	void filtersDoNotChangeTheSource() {
+		List<Integer> source = range(0, 10);
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source)
+				.filter(i -> i % 2 == 0)
+				.limit(3);
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(0, 2, 4), Arrays.asList(6, 8)), pages(collection));
+
+		collection.filter(i -> i % 2 == 1).reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 3, 5), Arrays.asList(7, 9)), pages(collection));
+		assertEquals(10, source.size());
+	}
+
+	@Test
+	void iteratorsAreDrainedOnceWhenFirstNeeded() {
+		AtomicInteger read = new AtomicInteger();
+		Iterator<Integer> source = IntStream.range(0, 100).peek(i -> read.incrementAndGet()).iterator();
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source)
+				.sort(Comparator.reverseOrder())
+				.limit(5)
+				.top(7);
+		assertEquals(0, read.get());
+		assertEquals(2, collection.size());
+		assertEquals(100, read.get());
+		assertEquals(Arrays.asList(Arrays.asList(99, 98, 97, 96, 95), Arrays.asList(94, 93)), pages(collection));
+
+		// reorders select from the retained elements.
+		collection.top(-1).sort(Comparator.naturalOrder()).reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(93, 94, 95, 96, 97), Arrays.asList(98, 99)), pages(collection));
+		assertEquals(100, read.get());
+	}
+
+	@Test
+	void unsortedIteratorsStopReadingAtTheLimit() {
+		AtomicInteger read = new AtomicInteger();
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()))
+				.filter(i -> i % 3 == 0)
+				.limit(2)
+				.top(4);
+		assertEquals(Arrays.asList(Arrays.asList(0, 3), Arrays.asList(6, 9)), pages(collection));
+		assertEquals(10, read.get());
+	}
+
+	@Test
+	void updatesOfDrainedIteratorsSurviveAReorder() {
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(Stream.of(4, 1, 3))
+				.sort(Comparator.naturalOrder())
+				.limit(10);
+		assertEquals(Arrays.asList(Arrays.asList(1, 3, 4)), pages(collection));
+		collection.update(Arrays.asList(2, 3)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3, 4)), pages(collection));
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3, 4)), pages(collection));
+	}
+
+	@Test
+	void pagesAreNumberedInOrder() {
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(range(0, 5)).limit(2);
+		assertTrue(collection.contains(3));
+		assertFalse(collection.contains(4));
+		assertEquals(Arrays.asList(4), pages(collection).get(2));
+		assertEquals(3, collection.get(3).getNumber());
+		assertTrue(collection.isSorted());
+	}
+
+	/**
+	 * Equal by name, so an updated score replaces the previous one.
+	 */
+	static final class Player {
+
+		final String name;
+		int score;
+
+		Player(String name, int score) {
+			this.name = name;
+			this.score = score;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Player && ((Player) o).name.equals(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+	}
+
+	@Test
+	void updatesInsertNewElementsInPlace() {
+		List<Integer> source = new ArrayList<>(Arrays.asList(10, 30, 50, 70));
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source)
+				.sort(Comparator.naturalOrder())
+				.limit(2);
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(10, 30), Arrays.asList(50, 70)), pages(collection));
+
+		source.addAll(Arrays.asList(60, 20, 80));
+		collection.update(Arrays.asList(60, 20, 80)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(10, 20), Arrays.asList(30, 50), Arrays.asList(60, 70), Arrays.asList(80)), pages(collection));
+		assertEquals(4, collection.size());
+	}
+
+	@Test
+	void updatesMoveChangedElements() {
+		Player a = new Player("a", 1), b = new Player("b", 2), c = new Player("c", 3), d = new Player("d", 4);
+		AbstractPaginatedCollection<Player> collection = AbstractPaginatedCollection.of(new ArrayList<>(Arrays.asList(a, b, c, d)))
+				.sort(Comparator.comparingInt(p -> p.score))
+				.limit(2);
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(a, b), Arrays.asList(c, d)), pages(collection));
+
+		a.score = 5;
+		c.score = 0;
+		collection.update(Arrays.asList(a, c)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(c, b), Arrays.asList(d, a)), pages(collection));
+	}
+
+	@Test
+	void updatesKeepTiesInTheirCurrentOrder() {
+		Player a = new Player("a", 1), b = new Player("b", 1), c = new Player("c", 2);
+		AbstractPaginatedCollection<Player> collection = AbstractPaginatedCollection.of(new ArrayList<>(Arrays.asList(a, b, c)))
+				.sort(Comparator.comparingInt(p -> p.score));
+		collection.reorder().deploy();
+		Player e = new Player("e", 1);
+		collection.update(Arrays.asList(e)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(a, b, e, c)), pages(collection));
+	}
+
+	@Test
+	void updatesDropElementsNoLongerPassingTheFilter() {
+		Player a = new Player("a", 1), b = new Player("b", 2), c = new Player("c", 3);
+		AbstractPaginatedCollection<Player> collection = AbstractPaginatedCollection.of(new ArrayList<>(Arrays.asList(a, b, c)))
+				.filter(p -> p.score > 0)
+				.sort(Comparator.comparingInt(p -> p.score));
+		collection.reorder().deploy();
+		b.score = -1;
+		collection.update(Arrays.asList(b)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(a, c)), pages(collection));
+		b.score = 4;
+		collection.update(Arrays.asList(b)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(a, c, b)), pages(collection));
+	}
+
+	@Test
+	void updatesRespectTheTopLimit() {
+		List<Integer> source = new ArrayList<>(range(0, 10));
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source)
+				.sort(Comparator.naturalOrder())
+				.limit(2)
+				.top(4);
+		collection.reorder().deploy();
+		assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3)), pages(collection));
+		source.add(-1);
+		collection.update(Arrays.asList(-1)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(-1, 0), Arrays.asList(1, 2)), pages(collection));
+	}
+
+	@Test
+	void elementsChangedTwiceAreInsertedOnce() {
+		List<Integer> source = new ArrayList<>(Arrays.asList(1, 3));
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source).sort(Comparator.naturalOrder());
+		collection.reorder().deploy();
+		source.add(2);
+		collection.update(Arrays.asList(2, 3, 2)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3)), pages(collection));
+	}
+
+	@Test
+	void updatesBeforeTheFirstReorderPaginateEverything() {
+		List<Integer> source = new ArrayList<>(Arrays.asList(3, 1, 2));
+		AbstractPaginatedCollection<Integer> collection = AbstractPaginatedCollection.of(source).sort(Comparator.naturalOrder());
+		collection.update(Arrays.asList(1)).deploy();
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3)), pages(collection));
+	}
+
+	@Test
+	void updatesMatchAFullReorder() {
+		Random random = new Random(42);
+		List<Player> players = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			players.add(new Player("p" + i, random.nextInt(50)));
+		}
+		Comparator<Player> comparator = Comparator.comparingInt(p -> p.score);
+		AbstractPaginatedCollection<Player> updated = AbstractPaginatedCollection.of(players)
+				.filter(p -> p.score % 7 != 0)
+				.sort(comparator)
+				.limit(9);
+		updated.reorder().deploy();
+		for (int round = 0; round < 20; round++) {
+			List<Player> changed = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				Player player = players.get(random.nextInt(players.size()));
+				player.score = random.nextInt(50);
+				changed.add(player);
+			}
+			updated.update(changed).deploy();
+			AbstractPaginatedCollection<Player> reordered = AbstractPaginatedCollection.of(players)
+					.filter(p -> p.score % 7 != 0)
+					.sort(comparator)
+					.limit(9);
+			reordered.reorder().deploy();
+			List<List<Integer>> expected = new ArrayList<>(), actual = new ArrayList<>();
+			// ties may be ordered differently, the scores on every page have to match.
+			pages(reordered).forEach(page -> expected.add(scores(page)));
+			pages(updated).forEach(page -> actual.add(scores(page)));
+			assertEquals(expected, actual);
+		}
+	}
+
+	static List<Integer> scores(List<Player> page) {
+		List<Integer> scores = new ArrayList<>();
+		page.forEach(p -> scores.add(p.score));
+		return scores;
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.github.sanctum.panther.util;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A minimal timing harness for the tests tagged "benchmark", run them through the benchmark task.
+ */
+final class Benchmark {
+
+	static volatile Object sink;
+
+	private Benchmark() {
+	}
+
+	/**
+	 * Run an operation until the jit settled, then time it.
+	 *
+	 * @return the average time of one run in nanoseconds.
+	 */
+	static double measure(int warmup, int iterations, Callable<?> operation) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			sink = operation.call();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			sink = operation.call();
+		}
+		return (System.nanoTime() - start) / (double) iterations;
+	}
+
+	static void report(String name, double nanos, String detail) {
+		System.out.printf("%-32s %12.1f us/op  %s%n", name, nanos / 1000, detail);
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DeflateCodecTest {
+
+	final HFEncoded.Codec codec = HFEncoded.Codec.deflate(HFEncoded.Codec.binary());
+
+	@Test
+	void lengthHeaderIsNotTrustedForAllocation() {
+		assertThrows(IOException.class, () -> codec.decode(new byte[]{0x7f, -1, -1, -1, 1, 2, 3}));
+		assertThrows(IOException.class, () -> codec.read(new ByteArrayInputStream(new byte[]{0x7f, -1, -1, -1, 1, 2, 3})));
+	}
+
+	@Test
+	void lengthHeaderMustMatchTheCompressedData() throws IOException {
+		byte[] data = codec.encode(Arrays.asList("a", "b", "c"));
+		byte[] longer = data.clone();
+		longer[3]++;
+		byte[] shorter = data.clone();
+		shorter[3]--;
+		assertThrows(IOException.class, () -> codec.decode(longer));
+		assertThrows(IOException.class, () -> codec.decode(shorter));
+		assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(data, data.length - 2)));
+	}
+
+	@Test
+	void streamsAreReadOneRecordAtATime() throws Exception {
+		List<String> large = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			large.add("entry " + i);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new HFEncoded("first").encode(codec, out);
+		new HFEncoded(large).encode(codec, out);
+		new HFEncoded(42).encode(codec, out);
+		out.write(7);
+		byte[] bytes = out.toByteArray();
+
+		InputStream marking = new ByteArrayInputStream(bytes);
+		InputStream plain = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+		};
+		for (InputStream in : new InputStream[]{marking, plain}) {
+			assertEquals("first", HFEncoded.decode(codec, in, String.class));
+			assertEquals(large, HFEncoded.decode(codec, in, List.class));
+			assertEquals(42, HFEncoded.decode(codec, in, Integer.class));
+			assertEquals(7, in.read());
+			assertEquals(-1, in.read());
+		}
+	}
+
+	@Test
+	void bytesAndStreamsShareOneFormat() throws Exception {
+		byte[] data = codec.encode("shared");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		codec.write("shared", out);
+		assertArrayEquals(data, out.toByteArray());
+		assertEquals("shared", codec.read(new ByteArrayInputStream(data)));
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the codecs against the plain java serialization path of {@link HFEncoded}.
+ */
+@Tag("benchmark")
+class HFEncodedBenchmark {
+
+	static List<Map<String, Object>> accounts(int count) {
+		List<Map<String, Object>> accounts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Map<String, Object> account = new HashMap<>();
+			account.put("id", new UUID(i, i * 31L));
+			account.put("owner", "player" + i);
+			account.put("balance", 1000.5 * i);
+			account.put("world", i % 2 == 0 ? "world" : "world_nether");
+			account.put("location", new ArrayList<>(Arrays.asList(i * 1.5, 64.0, -i * 2.5)));
+			accounts.add(account);
+		}
+		return accounts;
+	}
+
+	@Test
+	void codecs() throws Exception {
+		List<Map<String, Object>> accounts = accounts(200);
+		HFEncoded encoded = new HFEncoded(accounts);
+		String legacy = encoded.serialize(null);
+		double legacyEncode = Benchmark.measure(2000, 2000, () -> encoded.serialize(null));
+		double legacyDecode = Benchmark.measure(2000, 2000, () -> new HFEncoded(legacy).deserialize(null, List.class));
+		Benchmark.report("serialize (base 64)", legacyEncode, legacy.length() + " chars");
+		Benchmark.report("deserialize (base 64)", legacyDecode, "");
+
+		String[] names = {"java", "binary", "java+deflate", "binary+deflate"};
+		HFEncoded.Codec[] codecs = {
+				HFEncoded.Codec.java(),
+				HFEncoded.Codec.binary(),
+				HFEncoded.Codec.deflate(HFEncoded.Codec.java()),
+				HFEncoded.Codec.deflate(HFEncoded.Codec.binary())
+		};
+		for (int i = 0; i < codecs.length; i++) {
+			HFEncoded.Codec codec = codecs[i];
+			String data = encoded.encode(codec);
+			assertEquals(accounts, new HFEncoded(data).decode(codec, List.class));
+			double encode = Benchmark.measure(2000, 2000, () -> encoded.encode(codec));
+			double decode = Benchmark.measure(2000, 2000, () -> new HFEncoded(data).decode(codec, List.class));
+			Benchmark.report(names[i] + " encode (base 64)", encode, data.length() + " chars");
+			Benchmark.report(names[i] + " decode (base 64)", decode, "");
+		}
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.github.sanctum.panther.util;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares building a json tree with writing json text straight through {@link JsonIntermediate}.
+ */
+@Tag("benchmark")
+class JsonIntermediateBenchmark {
+
+	@Test
+	void conversions() throws Exception {
+		JsonIntermediateTest.Account account = new JsonIntermediateTest.Account(7);
+		double tree = Benchmark.measure(50000, 200000, () -> JsonIntermediate.toJsonObject(account));
+		double treeText = Benchmark.measure(50000, 200000, () -> JsonIntermediate.toJsonObject(account).toString());
+		double text = Benchmark.measure(50000, 200000, () -> JsonIntermediate.toJsonString(account));
+		JsonObject object = JsonIntermediate.toJsonObject(account);
+		Benchmark.report("toJsonObject", tree, object.size() + " keys");
+		Benchmark.report("toJsonObject + toString", treeText, "");
+		Benchmark.report("toJsonString", text, JsonIntermediate.toJsonString(account).length() + " chars");
+	}
+
+}
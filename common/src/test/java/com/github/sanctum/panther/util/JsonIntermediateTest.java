@@ -0,0 +1,107 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("deprecation")
+class JsonIntermediateTest {
+
+	public static class Location {
+
+		@com.github.sanctum.panther.annotation.Json(key = "world")
+		public String getWorld() {
+			return "world";
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "y")
+		public double getY() {
+			return 64.5;
+		}
+
+	}
+
+	public static class Account {
+
+		final int id;
+
+		Account(int id) {
+			this.id = id;
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "id")
+		public int getId() {
+			return id;
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "owner")
+		public String getOwner() {
+			return "player" + id;
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "balance")
+		public double getBalance() {
+			return id * 10.25;
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "tags")
+		public List<String> getTags() {
+			return Arrays.asList("a", "b", "c");
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "location")
+		public Location getLocation() {
+			return new Location();
+		}
+
+		@com.github.sanctum.panther.annotation.Json(key = "missing")
+		public String getMissing() {
+			return null;
+		}
+
+	}
+
+	public static class Broken {
+
+		@com.github.sanctum.panther.annotation.Json(key = "nan")
+		public double getNan() {
+			return Double.NaN;
+		}
+
+	}
+
+	@Test
+	void treeAndTextAgree() {
+		Account account = new Account(3);
+		JsonObject tree = JsonIntermediate.toJsonObject(account);
+		assertEquals(JsonParser.parseString(JsonIntermediate.toJsonString(account)), tree);
+		assertEquals("player3", tree.get("owner").getAsString());
+		assertEquals(64.5, tree.getAsJsonObject("location").get("y").getAsDouble());
+		assertEquals(3, tree.getAsJsonArray("tags").size());
+		assertTrue(!tree.has("missing"));
+	}
+
+	@Test
+	void treesAcceptWhatJsonPrimitiveAccepts() {
+		assertTrue(Double.isNaN(JsonIntermediate.toJsonObject(new Broken()).get("nan").getAsDouble()));
+	}
+
+	@Test
+	void arraysOfMapsBuildTrees() {
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("name", "panther");
+		nested.put("inner", Collections.singletonMap("count", 2));
+		JsonArray array = JsonIntermediate.toJsonArray(Arrays.asList(1, "two", nested));
+		assertEquals(JsonParser.parseString("[1,\"two\",{\"name\":\"panther\",\"inner\":{\"count\":2}}]"), array);
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.github.sanctum.panther.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.sanctum.panther.container.PantherCollection;
+import com.github.sanctum.panther.container.PantherEntry;
+import com.github.sanctum.panther.container.PantherMap;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PantherJsonTest {
+
+	static final String JSON = "{\"name\":\"panther\",\"count\":3,\"ratio\":0.5,\"enabled\":true,"
+			+ "\"nested\":{\"inner\":{\"deep\":[1,2]},\"list\":[\"a\",{\"b\":false},[3]]},\"empty\":{},\"none\":[]}";
+
+	static PantherMap<String, Object> read(String json) throws IOException {
+		return JsonIntermediate.convertToPantherMap(new JsonReader(new StringReader(json)));
+	}
+
+	static String write(PantherMap<String, Object> map) throws IOException {
+		StringWriter string = new StringWriter();
+		JsonIntermediate.writePantherMap(map, new JsonWriter(string));
+		return string.toString();
+	}
+
+	static List<String> keys(PantherMap<String, ?> map) {
+		List<String> keys = new ArrayList<>();
+		for (PantherEntry.Modifiable<String, ?> entry : map) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+
+	@Test
+	void roundTripsNestedMapsAndLists() throws IOException {
+		PantherMap<String, Object> map = read(JSON);
+		assertEquals(Arrays.asList("name", "count", "ratio", "enabled", "nested", "empty", "none"), keys(map));
+		assertEquals(JsonParser.parseString(JSON), JsonParser.parseString(write(map)));
+	}
+
+	@Test
+	void valuesMatchTheTreeConversion() throws IOException {
+		PantherMap<String, Object> streamed = read(JSON);
+		PantherMap<String, Object> tree = JsonIntermediate.convertToPantherMap(JsonParser.parseString(JSON).getAsJsonObject());
+		assertEquals(write(tree), write(streamed));
+
+		assertEquals(3, ((Number) streamed.get("count")).intValue());
+		assertEquals(true, streamed.get("enabled"));
+		@SuppressWarnings("unchecked")
+		PantherMap<String, Object> nested = (PantherMap<String, Object>) streamed.get("nested");
+		PantherCollection<?> list = (PantherCollection<?>) nested.get("list");
+		assertEquals("a", list.get(0));
+		assertTrue(list.get(1) instanceof PantherMap);
+		assertTrue(list.get(2) instanceof PantherCollection);
+	}
+
+	@Test
+	void nullsAreLeftOut() throws IOException {
+		PantherMap<String, Object> map = read("{\"a\":null,\"b\":[1,null,2],\"c\":1}");
+		assertEquals(Arrays.asList("b", "c"), keys(map));
+		assertEquals(2, ((PantherCollection<?>) map.get("b")).size());
+	}
+
+	@Test
+	void duplicateKeysKeepTheirFirstPosition() throws IOException {
+		JsonReader reader = new JsonReader(new StringReader("{\"a\":1,\"b\":2,\"a\":3,\"c\":null,\"c\":4,\"b\":null}"));
+		PantherMap<String, Object> map = JsonIntermediate.convertToPantherMap(reader);
+		assertEquals(Arrays.asList("a", "c"), keys(map));
+		assertEquals(3, ((Number) map.get("a")).intValue());
+		assertFalse(map.containsKey("b"));
+	}
+
+	@Test
+	void listsRoundTrip() throws IOException {
+		String json = "[1,\"two\",{\"three\":[3]},[4,[5]]]";
+		PantherCollection<Object> list = JsonIntermediate.convertToPantherList(new JsonReader(new StringReader(json)));
+		assertEquals(4, list.size());
+		StringWriter string = new StringWriter();
+		JsonIntermediate.writePantherList(list, new JsonWriter(string));
+		assertEquals(JsonParser.parseString(json), JsonParser.parseString(string.toString()));
+	}
+
+	@Test
+	void malformedJsonFails() {
+		assertThrows(IOException.class, () -> read("{\"a\":"));
+		assertThrows(IllegalStateException.class, () -> read("[1]"));
+	}
+
+}
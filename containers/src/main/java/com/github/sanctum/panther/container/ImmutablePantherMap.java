@@ -19,19 +19,7 @@ public abstract class ImmutablePantherMap<K, V> extends PantherMapBase<K, V> {
 	}
 
 	void addImmutable(K k, V v) {
-		Node storage = new Node(new ImmutablePantherEntry<>(k, v));
-		storage.next = null;
-		if (head == null) {
-			head = storage;
-		} else {
-			Node last = head;
-			while (last.next != null) {
-				last = last.next;
-			}
-			last.next = storage;
-		}
-		tail = storage;
-		size++;
+		append(new Node(new ImmutablePantherEntry<>(k, v)));
 	}
 
 	@Override
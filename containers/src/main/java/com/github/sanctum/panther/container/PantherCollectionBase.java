@@ -50,13 +50,9 @@ public abstract class PantherCollectionBase<E> implements PantherCollection<E> {
 		if (head == null) {
 			head = new_node;
 		} else {
-			Node last = head;
-			while (last.next != null) {
-				last = last.next;
-			}
-			last.next = new_node;
-			tail = new_node;
+			tail.next = new_node;
 		}
+		tail = new_node;
 		size++;
 		return true;
 	}
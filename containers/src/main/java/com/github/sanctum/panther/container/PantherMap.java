@@ -10,7 +10,7 @@ import java.util.stream.StreamSupport;
  * A custom map type, this class will retain each element fed into it in the exact order it was received.
  * <p>
  * The practices of this map type explicitly follows o(1) time complexity when inserting new tail elements,
- * when removing or retrieving an element o(n) time complexity takes place.
+ * retrieving or removing an element by its key is backed by a hash index and takes o(1) time as well.
  *
  * @param <K> The key type of element this collection is for.
  * @param <V> The value type of element this collection is for.
@@ -1,5 +1,6 @@
 package com.github.sanctum.panther.container;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Spliterator;
@@ -18,6 +19,8 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 	protected int size;
 	protected int capacity;
 	protected final boolean capacityEnforced;
+	// key to node index, keeps lookups and removals from walking the chain.
+	private final Map<K, Node> index = new HashMap<>();
 
 	public PantherMapBase() {
 		this.capacity = 10;
@@ -43,6 +46,7 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 
 		protected PantherEntry.Modifiable<K, V> value;
 		protected Node next;
+		Node previous;
 
 
 		Node(Node node) {
@@ -71,7 +75,7 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 		Node imprint = getNode(e);
 		if (imprint != null) {
 			if (value == null) {
-				remove(imprint);
+				unlink(imprint);
 			} else {
 				imprint.value.setValue(value);
 			}
@@ -82,18 +86,7 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 		} else {
 			if (size() >= capacity) capacity++;
 		}
-		Node new_node = new Node(e, value);
-		if (head == null) {
-			head = new_node;
-		} else {
-			Node last = head;
-			while (last.next != null) {
-				last = last.next;
-			}
-			last.next = new_node;
-			tail = new_node;
-		}
-		size++;
+		append(new Node(e, value));
 		return value;
 	}
 
@@ -109,15 +102,8 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 
 	@Override
 	public boolean remove(K e) {
-		Node current = head;
-		while (current != null) {
-			if (current.value.getKey() == e || current.value.getKey().equals(e)) {
-				size--;
-				return remove(current);
-			}
-			current = current.next;
-		}
-		return false;
+		Node node = getNode(e);
+		return node != null && unlink(node);
 	}
 
 	public boolean removeAll(Iterable<Map.Entry<K, V>> iterable) {
@@ -132,16 +118,8 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 
 	@Override
 	public V get(K key) {
-		V result = null;
-		Node current = head;
-		while (current != null) {
-			if (current.value.getKey() == key || current.value.getKey().equals(key)) {
-				result = current.value.getValue();
-				break;
-			}
-			current = current.next;
-		}
-		return result;
+		Node node = getNode(key);
+		return node != null ? node.value.getValue() : null;
 	}
 
 	@Override
@@ -151,16 +129,7 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 
 	@Override
 	public boolean containsKey(K e) {
-		boolean found = false;
-		Node current = head;
-		while (current != null) {
-			if (current.value.getKey() == e || current.value.getKey().equals(e)) {
-				found = true;
-				break;
-			}
-			current = current.next;
-		}
-		return found;
+		return index.containsKey(e);
 	}
 
 	@Override
@@ -182,6 +151,7 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 		head = null;
 		tail = null;
 		size = 0;
+		index.clear();
 	}
 
 	@Override
@@ -230,96 +200,59 @@ public abstract class PantherMapBase<K, V> implements PantherMap<K, V> {
 	}
 
 	Node getNode(K key) {
-		Node result = null;
-		Node current = head;
-		while (current != null) {
-			if (current.value.getKey() == key || current.value.getKey().equals(key)) {
-				result = current;
-				break;
-			}
-			current = current.next;
-		}
-		return result;
+		return index.get(key);
 	}
 
-	boolean removeFirst() {
-
-		if (head == null)
-
-			return false;
-
-		else {
-
-			if (head == tail) {
-
-				head = null;
-
-				tail = null;
-
-			} else {
-
-				head = head.next;
-
-			}
+	/**
+	 * Link a new node at the tail end of this map.
+	 */
+	void append(Node node) {
+		Node replaced = index.get(node.value.getKey());
+		if (replaced != null) unlink(replaced);
+		index.put(node.value.getKey(), node);
+		node.next = null;
+		node.previous = tail;
+		if (tail == null) {
+			head = node;
+		} else {
+			tail.next = node;
+		}
+		tail = node;
+		size++;
+	}
 
+	/**
+	 * Unlink a node of this map in constant time.
+	 */
+	boolean unlink(Node node) {
+		if (index.get(node.value.getKey()) != node) return false;
+		index.remove(node.value.getKey());
+		if (node.previous == null) {
+			head = node.next;
+		} else {
+			node.previous.next = node.next;
 		}
+		if (node.next == null) {
+			tail = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		node.next = null;
+		node.previous = null;
+		size--;
 		return true;
 	}
 
+	boolean removeFirst() {
+		return head != null && unlink(head);
+	}
 
 	boolean removeLast() {
-
-		if (tail == null)
-
-			return false;
-
-		else {
-
-			if (head == tail) {
-
-				head = null;
-
-				tail = null;
-
-			} else {
-
-				Node previousToTail = head;
-
-				while (previousToTail.next != tail)
-
-					previousToTail = previousToTail.next;
-
-				tail = previousToTail;
-
-				tail.next = null;
-
-			}
-
-		}
-		return true;
+		return tail != null && unlink(tail);
 	}
 
-
 	boolean remove(Node node) {
-		Node currentNode = head;
-		Node prevNode = null;
-		while (currentNode != null && !currentNode.equals(node)) {
-			prevNode = currentNode;
-			currentNode = currentNode.next;
-		}
-		if (currentNode == null) {
-			return false;
-		}
-		if (prevNode == null) {
-			return removeFirst();
-		}
-		if (prevNode.next.next != null) {
-			// if there is, we follow the logic from the pseudo code
-			prevNode.next = (prevNode.next.next);
-		} else {
-			return removeLast();
-		}
-		return true;
+		return unlink(node);
 	}
 
 	static class ImmutablePantherEntry<K, V> implements PantherEntry.Modifiable<K, V> {
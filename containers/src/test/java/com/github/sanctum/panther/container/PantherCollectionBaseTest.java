@@ -0,0 +1,79 @@
+package com.github.sanctum.panther.container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PantherCollectionBaseTest {
+
+	static <E> List<E> elements(PantherCollection<E> collection) {
+		List<E> list = new ArrayList<>();
+		collection.forEach(list::add);
+		return list;
+	}
+
+	@Test
+	void addAppendsInOrder() {
+		PantherList<String> list = new PantherList<>();
+		list.add("a");
+		assertEquals("a", list.head.data);
+		assertEquals("a", list.tail.data);
+		list.add("b");
+		list.add("c");
+		assertEquals(Arrays.asList("a", "b", "c"), elements(list));
+		assertEquals("c", list.tail.data);
+		assertEquals("b", list.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+	}
+
+	@Test
+	void removingTheTailMovesIt() {
+		PantherList<String> list = new PantherList<>(Arrays.asList("a", "b", "c"));
+		assertTrue(list.remove("c"));
+		assertEquals("b", list.tail.data);
+		list.add("d");
+		assertEquals(Arrays.asList("a", "b", "d"), elements(list));
+		assertEquals(3, list.size());
+	}
+
+	@Test
+	void removingTheHeadOrMiddleKeepsTheTail() {
+		PantherList<String> list = new PantherList<>(Arrays.asList("a", "b", "c"));
+		assertTrue(list.remove("a"));
+		assertTrue(list.remove("b"));
+		assertFalse(list.remove("b"));
+		assertEquals("c", list.head.data);
+		assertEquals("c", list.tail.data);
+		list.add("d");
+		assertEquals(Arrays.asList("c", "d"), elements(list));
+	}
+
+	@Test
+	void removingTheLastElementEmptiesBothEnds() {
+		PantherList<String> list = new PantherList<>(Arrays.asList("a"));
+		assertTrue(list.remove("a"));
+		assertNull(list.head);
+		assertNull(list.tail);
+		assertEquals(0, list.size());
+		list.add("b");
+		list.add("c");
+		assertEquals(Arrays.asList("b", "c"), elements(list));
+	}
+
+	@Test
+	void capacityIsEnforcedWhenGiven() {
+		PantherList<String> list = new PantherList<>(2);
+		assertTrue(list.add("a"));
+		assertTrue(list.add("b"));
+		assertFalse(list.add("c"));
+		assertEquals(Arrays.asList("a", "b"), elements(list));
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.github.sanctum.panther.container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PantherMapBaseTest {
+
+	static <K, V> List<K> keys(PantherMapBase<K, V> map) {
+		List<K> keys = new ArrayList<>();
+		for (PantherEntry.Modifiable<K, V> entry : map) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+
+	/**
+	 * Walks the chain backwards, which only works if every previous link was kept up to date.
+	 */
+	static <K, V> List<K> keysBackwards(PantherMapBase<K, V> map) {
+		List<K> keys = new ArrayList<>();
+		for (PantherMapBase<K, V>.Node node = map.tail; node != null; node = node.previous) {
+			keys.add(0, node.value.getKey());
+		}
+		return keys;
+	}
+
+	static PantherEntryMap<String, Integer> map(String... keys) {
+		PantherEntryMap<String, Integer> map = new PantherEntryMap<>();
+		for (int i = 0; i < keys.length; i++) {
+			map.put(keys[i], i);
+		}
+		return map;
+	}
+
+	@Test
+	void putKeepsInsertionOrderAndReplacesInPlace() {
+		PantherEntryMap<String, Integer> map = map("a", "b", "c");
+		assertEquals(Arrays.asList("a", "b", "c"), keys(map));
+
+		assertEquals(10, map.put("b", 10));
+		assertEquals(Arrays.asList("a", "b", "c"), keys(map));
+		assertEquals(10, map.get("b"));
+		assertEquals(3, map.size());
+		assertTrue(map.containsKey("c"));
+		assertTrue(map.containsValue(10));
+		assertFalse(map.containsKey("d"));
+		assertNull(map.get("d"));
+	}
+
+	@Test
+	void puttingNullRemovesTheKey() {
+		PantherEntryMap<String, Integer> map = map("a", "b", "c");
+		map.put("b", null);
+		assertEquals(Arrays.asList("a", "c"), keys(map));
+		assertEquals(2, map.size());
+		assertFalse(map.containsKey("b"));
+	}
+
+	@Test
+	void removalsKeepBothEndsLinked() {
+		PantherEntryMap<String, Integer> map = map("a", "b", "c", "d");
+		assertTrue(map.remove("b"));
+		assertFalse(map.remove("b"));
+		assertEquals(Arrays.asList("a", "c", "d"), keys(map));
+		assertEquals(keys(map), keysBackwards(map));
+
+		assertTrue(map.remove("d"));
+		assertEquals("c", map.tail.value.getKey());
+		assertTrue(map.remove("a"));
+		assertEquals("c", map.head.value.getKey());
+		assertEquals(Arrays.asList("c"), keysBackwards(map));
+
+		assertTrue(map.remove("c"));
+		assertNull(map.head);
+		assertNull(map.tail);
+		assertEquals(0, map.size());
+
+		// appending after everything got removed starts a new chain.
+		map.put("e", 5);
+		map.put("f", 6);
+		assertEquals(Arrays.asList("e", "f"), keys(map));
+		assertEquals(keys(map), keysBackwards(map));
+	}
+
+	@Test
+	void removeFirstAndLastMaintainTheEnds() {
+		PantherEntryMap<String, Integer> map = map("a", "b", "c");
+		assertTrue(map.removeFirst());
+		assertTrue(map.removeLast());
+		assertEquals(Arrays.asList("b"), keys(map));
+		assertEquals(Arrays.asList("b"), keysBackwards(map));
+		assertTrue(map.removeLast());
+		assertFalse(map.removeFirst());
+		assertFalse(map.removeLast());
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	void appendingADuplicateKeyMovesItToTheTail() {
+		PantherEntryMap<String, Integer> map = map("a", "b", "c");
+		map.append(map.new Node("a", 10));
+		assertEquals(Arrays.asList("b", "c", "a"), keys(map));
+		assertEquals(keys(map), keysBackwards(map));
+		assertEquals(3, map.size());
+		assertEquals(10, map.get("a"));
+
+		// a node that got replaced is no longer part of the map.
+		PantherMapBase<String, Integer>.Node replaced = map.getNode("b");
+		map.append(map.new Node("b", 20));
+		assertFalse(map.remove(replaced));
+		assertEquals(3, map.size());
+		assertEquals(20, map.get("b"));
+	}
+
+	@Test
+	void capacityIsEnforcedWhenGiven() {
+		PantherEntryMap<String, Integer> map = new PantherEntryMap<>(2);
+		map.put("a", 1);
+		map.put("b", 2);
+		assertNull(map.put("c", 3));
+		assertEquals(2, map.put("b", 2));
+		assertEquals(Arrays.asList("a", "b"), keys(map));
+	}
+
+	@Test
+	void clearResetsTheIndex() {
+		PantherEntryMap<String, Integer> map = map("a", "b");
+		map.clear();
+		assertFalse(map.containsKey("a"));
+		assertEquals(0, map.size());
+		map.put("a", 1);
+		assertEquals(Arrays.asList("a"), keys(map));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void immutableMapsKeepTheOrderAndRefuseChanges() {
+		Map<String, Integer> source = new LinkedHashMap<>();
+		source.put("z", 1);
+		source.put("y", 2);
+		ImmutablePantherMap<String, Integer> map = ImmutablePantherMap.of(source);
+		assertEquals(Arrays.asList("z", "y"), keys(map));
+		assertEquals(2, map.get("y"));
+		assertThrows(ImmutableStorageException.class, () -> map.remove("z"));
+		assertThrows(ImmutableStorageException.class, () -> map.getNode("z").value.setValue(3));
+		assertEquals(Arrays.asList("z", "y"), keys(ImmutablePantherMap.builder().put("z", 1).put("y", 2).build()));
+	}
+
+}
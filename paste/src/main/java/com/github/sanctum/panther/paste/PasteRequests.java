@@ -0,0 +1,471 @@
+package com.github.sanctum.panther.paste;
+
+import com.github.sanctum.panther.net.http.HttpUtils;
+import com.github.sanctum.panther.paste.operative.PasteResponse;
+import com.github.sanctum.panther.paste.option.Context;
+import com.github.sanctum.panther.paste.option.Expiration;
+import com.github.sanctum.panther.paste.option.Visibility;
+import com.github.sanctum.panther.paste.type.HasteOptions;
+import com.github.sanctum.panther.paste.type.Hastebin;
+import com.github.sanctum.panther.paste.type.PasteOptions;
+import com.github.sanctum.panther.paste.type.Pastebin;
+import com.github.sanctum.panther.paste.type.PastebinUser;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The requests behind the built-in paste services, sent through the shared pool of {@link HttpUtils}.
+ */
+final class PasteRequests {
+
+	static final String HASTEBIN = "https://hastebin.skyra.pw";
+	static final String PASTEBIN = "https://pastebin.com";
+	static final String NO_RESPONSE = "Unable to receive proper response.";
+
+	private PasteRequests() {
+	}
+
+	/**
+	 * @return a hastebin connection to the server, backing {@link PasteManager#newHaste(String)}
+	 */
+	static @NotNull Hastebin newHaste(@NotNull String server) {
+		return new Hastebin() {
+
+			private final HasteOptions options;
+
+			{
+				this.options = HasteOptions.empty();
+			}
+
+			@Override
+			public @NotNull String getApiKey() {
+				return "NA";
+			}
+
+			@Override
+			public @NotNull HasteOptions getOptions() {
+				return options;
+			}
+
+			@Override
+			public PasteResponse read(String id) {
+				return new PasteResponse() {
+
+					private String[] lines;
+
+					@Override
+					public String get() {
+						return getAll()[0];
+					}
+
+					@Override
+					public synchronized String[] getAll() {
+						if (lines == null) {
+							String requestURL = id.contains("http") && !id.contains("raw") ? id.replace(server, server + "/raw") : server + "/raw/" + id;
+							String[] response = HttpUtils.newReaderGetBuilder(requestURL, reader -> new BufferedReader(reader).lines().toArray(String[]::new))
+									.buildAndGet();
+							lines = response != null ? response : NO_RESPONSE.split(" ");
+						}
+						return lines;
+					}
+
+				};
+			}
+
+			@Override
+			public PasteResponse write(String... info) {
+				return once(() -> link(send(haste(server, Arrays.asList(info)))));
+			}
+
+			@Override
+			public PasteResponse write(Collection<? extends CharSequence> info) {
+				return once(() -> link(send(haste(server, bullets(info)))));
+			}
+
+			@Override
+			public CompletableFuture<PasteResponse> writeAsync(String... info) {
+				return sendAsync(haste(server, Arrays.asList(info)), this::link);
+			}
+
+			@Override
+			public CompletableFuture<PasteResponse> writeAsync(Collection<? extends CharSequence> info) {
+				return sendAsync(haste(server, bullets(info)), this::link);
+			}
+
+			private String link(String response) {
+				return hasteLink(server, getOptions().isRaw(), response);
+			}
+		};
+	}
+
+	/**
+	 * @return a pastebin connection to the server, backing {@link PasteManager#newPaste(String, String)}
+	 */
+	static @NotNull Pastebin newPaste(@NotNull String apiKey, @NotNull String server) {
+		return new Pastebin() {
+
+			private final PasteOptions options;
+
+			{
+				this.options = new PasteOptions() {
+
+					private Context language = () -> "text";
+					private Context folder;
+					private Expiration expiration = Expiration.TEN_MINUTE;
+					private Visibility visibility = Visibility.PUBLIC;
+
+					@Override
+					public @NotNull Context getLanguage() {
+						return language;
+					}
+
+					@Override
+					public @Nullable Context getFolder() {
+						return folder;
+					}
+
+					@Override
+					public @NotNull Expiration getExpiration() {
+						return expiration;
+					}
+
+					@Override
+					public @NotNull Visibility getVisibility() {
+						return visibility;
+					}
+
+					@Override
+					public void setFolder(@NotNull Context context) {
+						this.folder = context;
+					}
+
+					@Override
+					public void setLanguage(@NotNull Context context) {
+						this.language = context;
+					}
+
+					@Override
+					public void setExpiration(@NotNull Expiration expiration) {
+						this.expiration = expiration;
+					}
+
+					@Override
+					public void setVisibility(@NotNull Visibility visibility) {
+						this.visibility = visibility;
+					}
+				};
+			}
+
+			@Override
+			public PasteResponse read(String id) {
+				String response = send(HttpUtils.newPostBuilder(server)
+						.setSubPath("/raw/")
+						.addField("paste_key", id));
+				return () -> response;
+			}
+
+			@Override
+			public @NotNull String getApiKey() {
+				return apiKey;
+			}
+
+			@Override
+			public @NotNull PasteOptions getOptions() {
+				return options;
+			}
+
+			@Override
+			public @Nullable PastebinUser login(String username, String password) {
+				String result;
+				try {
+					result = HttpUtils.newPostBuilder(server)
+							.setSubPath("/api/api_login.php")
+							.addField("api_dev_key", getApiKey())
+							.addField("api_user_name", username)
+							.addField("api_user_password", password)
+							.post();
+				} catch (IOException urlException) {
+					urlException.printStackTrace();
+					return null;
+				}
+				if (result.isEmpty()) return null;
+				return new PastebinUser() {
+
+					private final String userId;
+					private final PasteOptions options;
+
+					{
+						this.userId = result;
+						this.options = new PasteOptions() {
+
+							private Context language = () -> "text";
+							private Context folder;
+							private Expiration expiration = Expiration.NEVER;
+							private Visibility visibility = Visibility.PUBLIC;
+
+							@Override
+							public @NotNull Context getLanguage() {
+								return language;
+							}
+
+							@Override
+							public @Nullable Context getFolder() {
+								return folder;
+							}
+
+							@Override
+							public @NotNull Expiration getExpiration() {
+								return expiration;
+							}
+
+							@Override
+							public @NotNull Visibility getVisibility() {
+								return visibility;
+							}
+
+							@Override
+							public void setFolder(@NotNull Context context) {
+								this.folder = context;
+							}
+
+							@Override
+							public void setLanguage(@NotNull Context context) {
+								this.language = context;
+							}
+
+							@Override
+							public void setExpiration(@NotNull Expiration expiration) {
+								this.expiration = expiration;
+							}
+
+							@Override
+							public void setVisibility(@NotNull Visibility visibility) {
+								this.visibility = visibility;
+							}
+						};
+					}
+
+					@Override
+					public @NotNull String getId() {
+						return userId;
+					}
+
+					@Override
+					public boolean remove(@NotNull String id) {
+						try {
+							pastebin(server, getApiKey(), getId(), "delete")
+									.addField("api_paste_key", id)
+									.post();
+							return true;
+						} catch (IOException urlException) {
+							urlException.printStackTrace();
+							return false;
+						}
+					}
+
+					@Override
+					public @NotNull String getApiKey() {
+						return apiKey;
+					}
+
+					@Override
+					public @NotNull PasteOptions getOptions() {
+						return options;
+					}
+
+					@Override
+					public PasteResponse read(String id) {
+						return once(() -> send(pastebin(server, getApiKey(), getId(), "show_paste")
+								.addField("api_paste_key", id)));
+					}
+
+					@Override
+					public PasteResponse write(String... info) {
+						return write(Arrays.asList(info));
+					}
+
+					@Override
+					public PasteResponse write(Collection<? extends CharSequence> info) {
+						return once(() -> send(paste(server, getApiKey(), getId(), getOptions(), info)));
+					}
+
+					@Override
+					public CompletableFuture<PasteResponse> writeAsync(String... info) {
+						return writeAsync(Arrays.asList(info));
+					}
+
+					@Override
+					public CompletableFuture<PasteResponse> writeAsync(Collection<? extends CharSequence> info) {
+						return sendAsync(paste(server, getApiKey(), getId(), getOptions(), info), Function.identity());
+					}
+				};
+			}
+
+			@Override
+			public PasteResponse write(String... info) {
+				return write(Arrays.asList(info));
+			}
+
+			@Override
+			public PasteResponse write(Collection<? extends CharSequence> info) {
+				return once(() -> send(paste(server, getApiKey(), null, getOptions(), info)));
+			}
+
+			@Override
+			public CompletableFuture<PasteResponse> writeAsync(String... info) {
+				return writeAsync(Arrays.asList(info));
+			}
+
+			@Override
+			public CompletableFuture<PasteResponse> writeAsync(Collection<? extends CharSequence> info) {
+				return sendAsync(paste(server, getApiKey(), null, getOptions(), info), Function.identity());
+			}
+		};
+	}
+
+	/**
+	 * @return a request uploading the lines as a new haste
+	 */
+	static HttpUtils.HttpPostBuilder haste(String server, Collection<? extends CharSequence> lines) {
+		return HttpUtils.newPostBuilder(server)
+				.setSubPath("/documents")
+				.setHeader("User-Agent", "Hastebin Java Api")
+				.setText(lines, "text/plain");
+	}
+
+	/**
+	 * @return the link to the haste the response is about, or the response itself if it doesn't name one
+	 */
+	static String hasteLink(String server, boolean raw, String response) {
+		try {
+			JsonElement key = JsonParser.parseString(response).getAsJsonObject().get("key");
+			if (key != null) {
+				return server + (raw ? "/raw/" : "/") + key.getAsString();
+			}
+		} catch (RuntimeException ignored) {
+		}
+		return response;
+	}
+
+	/**
+	 * @param userKey the user to paste as, or null to paste as guest
+	 * @return a request uploading the lines as a new paste
+	 */
+	static HttpUtils.HttpPostBuilder paste(String server, String apiKey, @Nullable String userKey, PasteOptions options, Collection<? extends CharSequence> lines) {
+		HttpUtils.HttpPostBuilder builder = pastebin(server, apiKey, userKey, "paste")
+				.addField("api_paste_code", lines)
+				.addField("api_paste_private", options.getVisibility().toString())
+				.addField("api_paste_expire_date", options.getExpiration().toString())
+				.addField("api_paste_format", options.getLanguage().get().toLowerCase(Locale.ROOT));
+		if (options.getFolder() != null) {
+			builder.addField("api_folder_key", options.getFolder().get());
+		}
+		return builder;
+	}
+
+	/**
+	 * @param userKey the user to act as, or null to act as guest
+	 * @return a request to the pastebin api
+	 */
+	static HttpUtils.HttpPostBuilder pastebin(String server, String apiKey, @Nullable String userKey, String option) {
+		HttpUtils.HttpPostBuilder builder = HttpUtils.newPostBuilder(server)
+				.setSubPath("/api/api_post.php")
+				.addField("api_dev_key", apiKey);
+		if (userKey != null) {
+			builder.addField("api_user_key", userKey);
+		}
+		return builder.addField("api_option", option);
+	}
+
+	/**
+	 * Sends a request on the calling thread.
+	 *
+	 * @return the body of the response, or {@link #NO_RESPONSE} if the request failed
+	 */
+	static String send(HttpUtils.HttpPostBuilder request) {
+		try {
+			return request.post();
+		} catch (IOException e) {
+			e.printStackTrace();
+			return NO_RESPONSE;
+		}
+	}
+
+	/**
+	 * Sends a request without blocking the calling thread.
+	 *
+	 * @param result turns the body of the response into the result
+	 * @return a future completed with the result, or {@link #NO_RESPONSE} if the request failed
+	 */
+	static CompletableFuture<PasteResponse> sendAsync(HttpUtils.HttpPostBuilder request, Function<String, String> result) {
+		return request.postAsync().handle((response, t) -> {
+			if (t != null) {
+				t.printStackTrace();
+				return NO_RESPONSE;
+			}
+			return result.apply(response);
+		}).thenApply(PasteRequests::of);
+	}
+
+	/**
+	 * @return a response which is only requested once asked for, then kept
+	 */
+	static PasteResponse once(Supplier<String> request) {
+		return new PasteResponse() {
+			private String response;
+
+			@Override
+			public synchronized String get() {
+				if (response == null) {
+					response = request.get();
+				}
+				return response;
+			}
+		};
+	}
+
+	static PasteResponse of(String response) {
+		return () -> response;
+	}
+
+	/**
+	 * @return a view of the lines, each one prefixed as a list item
+	 */
+	static Collection<CharSequence> bullets(Collection<? extends CharSequence> lines) {
+		return new AbstractCollection<CharSequence>() {
+			@Override
+			public Iterator<CharSequence> iterator() {
+				Iterator<? extends CharSequence> iterator = lines.iterator();
+				return new Iterator<CharSequence>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public CharSequence next() {
+						return "* " + iterator.next();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return lines.size();
+			}
+		};
+	}
+
+}
@@ -4,6 +4,9 @@ import com.github.sanctum.panther.file.JsonAdapter;
 import com.github.sanctum.panther.util.JsonIntermediate;
 import java.io.NotSerializableException;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Signifies an object that can write information to the web using provided data
@@ -26,6 +29,44 @@ public interface PasteWriter {
 	 */
 	PasteResponse write(Collection<? extends CharSequence> info);
 
+	/**
+	 * Write information to a web connection without blocking the calling thread.
+	 *
+	 * @param info the information to write.
+	 * @return a future completed with the response from the web.
+	 */
+	default CompletableFuture<PasteResponse> writeAsync(String... info) {
+		return CompletableFuture.supplyAsync(() -> {
+			String response = write(info).get();
+			return () -> response;
+		});
+	}
+
+	/**
+	 * Write information to a web connection without blocking the calling thread.
+	 *
+	 * @param info the information to write.
+	 * @return a future completed with the response from the web.
+	 */
+	default CompletableFuture<PasteResponse> writeAsync(Collection<? extends CharSequence> info) {
+		return CompletableFuture.supplyAsync(() -> {
+			String response = write(info).get();
+			return () -> response;
+		});
+	}
+
+	/**
+	 * Write several pieces of information to a web connection at once, each one on its own.
+	 *
+	 * @param info the pieces of information to write.
+	 * @return a future completed with the responses from the web, in the same order.
+	 */
+	default CompletableFuture<List<PasteResponse>> writeAll(Collection<? extends Collection<? extends CharSequence>> info) {
+		List<CompletableFuture<PasteResponse>> writes = info.stream().map(this::writeAsync).collect(Collectors.toList());
+		return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> writes.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+	}
+
 	/**
 	 * Write information to a web connection using serializable data.
 	 *
@@ -34,13 +75,14 @@ public interface PasteWriter {
 	 * @return a response from the web.
 	 */
 	default <T> PasteResponse write(T t) {
+		// a single string would resolve to this very method again, so pass an array to reach write(String...)
 		if (t instanceof JsonIntermediate) {
-			return write(((JsonIntermediate)t).toJsonString());
+			return write(new String[]{((JsonIntermediate)t).toJsonString()});
 		}
 		if (t instanceof JsonAdapter) {
-			return write(((JsonAdapter)t).write(t).toString());
+			return write(new String[]{((JsonAdapter)t).write(t).toString()});
 		}
-		return write(t.toString());
+		return write(new String[]{t.toString()});
 	}
 
 }
@@ -0,0 +1,134 @@
+package com.github.sanctum.panther.paste;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.sanctum.panther.paste.type.Hastebin;
+import com.github.sanctum.panther.paste.type.Pastebin;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PasteManagerTest {
+
+	static {
+		// small responses otherwise wait out delayed acks, read once when the first server starts.
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final Map<String, String> hastes = new HashMap<>();
+	private volatile Map<String, String> fields;
+	private HttpServer server;
+	private String url;
+
+	@BeforeEach
+	void start() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/documents", exchange -> {
+			String body = body(exchange), key;
+			synchronized (hastes) {
+				key = "key" + hastes.size();
+				hastes.put(key, body);
+			}
+			respond(exchange, "{\"key\":\"" + key + "\"}");
+		});
+		server.createContext("/raw/", exchange -> {
+			String haste;
+			synchronized (hastes) {
+				haste = hastes.get(exchange.getRequestURI().getPath().substring("/raw/".length()));
+			}
+			if (haste == null) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			respond(exchange, haste);
+		});
+		server.createContext("/api/api_post.php", exchange -> {
+			fields = form(body(exchange));
+			respond(exchange, url + "/" + fields.get("api_dev_key"));
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void stop() {
+		server.stop(0);
+	}
+
+	@Test
+	void hastesAreWrittenToAndReadFromTheChosenServer() throws Exception {
+		Hastebin haste = PasteManager.getInstance().newHaste(url);
+		assertEquals(url + "/key0", haste.write("first", "second").get());
+		// collections are written as bullet points.
+		assertEquals(url + "/key1", haste.writeAsync(Arrays.asList("third", "fourth")).get(10, TimeUnit.SECONDS).get());
+
+		assertArrayEquals(new String[]{"first", "second"}, haste.read("key0").getAll());
+		assertArrayEquals(new String[]{"* third", "* fourth"}, haste.read(url + "/key1").getAll());
+	}
+
+	@Test
+	void rawHastesLinkToTheRawDocument() {
+		Hastebin haste = PasteManager.getInstance().newHaste(url);
+		haste.getOptions().setRaw(true);
+		assertEquals(url + "/raw/key0", haste.write("line").get());
+	}
+
+	@Test
+	void pastesAreSentToTheChosenServer() throws Exception {
+		Pastebin paste = PasteManager.getInstance().newPaste("dev-key", url);
+		assertEquals(url + "/dev-key", paste.write("first", "second").get());
+		assertEquals("dev-key", fields.get("api_dev_key"));
+		assertEquals("paste", fields.get("api_option"));
+		assertEquals("first\nsecond\n", fields.get("api_paste_code"));
+
+		assertEquals(url + "/dev-key", paste.writeAsync("third").get(10, TimeUnit.SECONDS).get());
+		assertEquals("third\n", fields.get("api_paste_code"));
+	}
+
+	static String body(HttpExchange exchange) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = exchange.getRequestBody()) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	static Map<String, String> form(String body) throws UnsupportedEncodingException {
+		Map<String, String> fields = new HashMap<>();
+		for (String pair : body.split("&")) {
+			int split = pair.indexOf('=');
+			if (split < 0) continue;
+			fields.put(URLDecoder.decode(pair.substring(0, split), "UTF-8"), URLDecoder.decode(pair.substring(split + 1), "UTF-8"));
+		}
+		return fields;
+	}
+
+	static void respond(HttpExchange exchange, String response) throws IOException {
+		byte[] body = response.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+}